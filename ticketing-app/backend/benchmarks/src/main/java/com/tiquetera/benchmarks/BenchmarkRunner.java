@@ -0,0 +1,62 @@
+package com.tiquetera.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Punto de entrada de benchmarks.jar.
+ *
+ * Acepta las mismas opciones que la línea de comandos de JMH, pero si no se
+ * indica otra cosa guarda los resultados en JSON en
+ * {@value #DEFAULT_RESULT_FILE}, para poder comparar dos commits.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Benchmarks
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        CommandLineOptions commandLine;
+        try {
+            commandLine = new CommandLineOptions(args);
+        } catch (CommandLineOptionException ex) {
+            System.err.println("Opciones inválidas: " + ex.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (commandLine.shouldHelp()) {
+            try {
+                commandLine.showHelp();
+            } catch (IOException ex) {
+                throw new RunnerException(ex);
+            }
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.tiquetera.benchmarks;
+
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.EventDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.validation.DateRange;
+import com.tiquetera.events.infrastructure.adapter.in.web.validation.DateRangeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de @DateRange sobre EventDTO, que se ejecuta en cada alta,
+ * actualización y fila importada.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Benchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DateRangeValidatorBenchmark {
+
+    private DateRangeValidator validator;
+    private EventDTO validRange;
+    private EventDTO invalidRange;
+
+    @Setup
+    public void setUp() {
+        validator = new DateRangeValidator();
+        // El validador no usa el contexto, así que se le pasa null
+        validator.initialize(EventDTO.class.getAnnotation(DateRange.class));
+
+        Event event = Fixtures.event(1);
+        validRange = EventDTO.builder()
+                .eventDate(event.getEventDate())
+                .endDate(event.getEndDate())
+                .build();
+        invalidRange = EventDTO.builder()
+                .eventDate(event.getEndDate())
+                .endDate(event.getEventDate())
+                .build();
+    }
+
+    @Benchmark
+    public boolean validRange() {
+        return validator.isValid(validRange, null);
+    }
+
+    @Benchmark
+    public boolean invalidRange() {
+        return validator.isValid(invalidRange, null);
+    }
+}
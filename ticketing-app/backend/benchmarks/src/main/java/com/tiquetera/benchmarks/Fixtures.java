@@ -0,0 +1,72 @@
+package com.tiquetera.benchmarks;
+
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.EventEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.VenueEntity;
+import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba con valores realistas en todos los campos, para que los
+ * benchmarks recorran las mismas ramas que un registro real.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Benchmarks
+ */
+final class Fixtures {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    private Fixtures() {
+    }
+
+    static Event event(long id) {
+        LocalDateTime start = BASE_DATE.plusDays(id);
+        Event event = new Event(id, "Concierto de Rock " + id,
+                "El mejor concierto de rock del año con bandas internacionales", start, start.plusHours(3),
+                1 + id % 50, "Estadio Metropolitano", 50000, new BigDecimal("150000.00"), EventStatus.SCHEDULED,
+                BASE_DATE.minusDays(30), BASE_DATE.minusDays(1));
+        event.setVersion(3L);
+        return event;
+    }
+
+    static List<Event> events(int size) {
+        List<Event> events = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            events.add(event(id));
+        }
+        return events;
+    }
+
+    static EventEntity eventEntity(long id) {
+        LocalDateTime start = BASE_DATE.plusDays(id);
+        return EventEntity.builder()
+                .id(id)
+                .name("Concierto de Rock " + id)
+                .description("El mejor concierto de rock del año con bandas internacionales")
+                .eventDate(start)
+                .endDate(start.plusHours(3))
+                .venue(VenueEntity.builder().id(1 + id % 50).name("Estadio Metropolitano").build())
+                .capacity(50000)
+                .ticketPrice(new BigDecimal("150000.00"))
+                .status(EventStatus.SCHEDULED)
+                .createdAt(BASE_DATE.minusDays(30))
+                .updatedAt(BASE_DATE.minusDays(1))
+                .version(3L)
+                .build();
+    }
+
+    static Venue venue(long id) {
+        Venue venue = new Venue(id, "Estadio Metropolitano " + id, "Calle 100 # 15-20", "Bogotá", "Colombia",
+                50000, "Estadio principal de la ciudad", "+57 601 555 0000", "contacto@estadio.com",
+                VenueStatus.ACTIVE, BASE_DATE.minusDays(30), BASE_DATE.minusDays(1));
+        venue.setVersion(3L);
+        return venue;
+    }
+}
@@ -0,0 +1,76 @@
+package com.tiquetera.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.EventDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.mapper.EventWebMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de listas de EventDTO.
+ *
+ * El ObjectMapper se construye con Jackson2ObjectMapperBuilder, la misma
+ * base que usa Spring Boot para los controladores. Se mide la respuesta JSON
+ * de un listado y la exportación NDJSON de EventRestAdapter.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Benchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JacksonBenchmark {
+
+    @Param({ "20", "500" })
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter ndjsonWriter;
+    private List<EventDTO> events;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ndjsonWriter = objectMapper.writerFor(EventDTO.class).withRootValueSeparator("\n");
+        events = Mappers.getMapper(EventWebMapper.class).toDTOList(Fixtures.events(listSize));
+        buffer = new ByteArrayOutputStream(listSize * 512);
+    }
+
+    @Benchmark
+    public byte[] writeList() throws IOException {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public int writeNdjson() throws IOException {
+        buffer.reset();
+        try (SequenceWriter writer = ndjsonWriter.writeValues(buffer)) {
+            for (EventDTO event : events) {
+                writer.write(event);
+            }
+        }
+        return buffer.size();
+    }
+}
@@ -0,0 +1,100 @@
+package com.tiquetera.benchmarks;
+
+import com.tiquetera.events.infrastructure.security.JwtService;
+import com.tiquetera.security.JwtKeys;
+import com.tiquetera.security.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación del token JWT tal como la hace JwtAuthenticationFilter en cada
+ * petición autenticada.
+ *
+ * {@code legacy} es el código anterior (LegacyJwtVerification, HS256),
+ * {@code uncached} la verificación actual con la caché desactivada, es decir
+ * la primera petición de cada token, y {@code cached} la de las peticiones
+ * siguientes con el mismo token. Las dos últimas verifican RS256 con la
+ * clave pública, como venues-service y events-reactive.
+ *
+ * @author Ticketing Team
+ * @version 1.2 - Shared Security
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtServiceBenchmark {
+
+    // Los mismos valores por defecto que JwtService y JwtVerifier
+    private static final String LEGACY_SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final long EXPIRATION = 900000;
+    private static final long VERIFIED_CACHE_SIZE = 10000;
+
+    private LegacyJwtVerification legacy;
+    private JwtVerifier uncached;
+    private JwtVerifier cached;
+    private JwtService jwtService;
+    private UserDetails user;
+    private String legacyToken;
+    private String token;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        String privateKey = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPrivate().getEncoded());
+
+        legacy = new LegacyJwtVerification(LEGACY_SECRET_KEY);
+        uncached = new JwtVerifier(JwtKeys.publicKey(JwtKeys.privateKey(privateKey)), 0);
+        cached = new JwtVerifier(JwtKeys.publicKey(JwtKeys.privateKey(privateKey)), VERIFIED_CACHE_SIZE);
+        jwtService = new JwtService(privateKey, EXPIRATION, cached);
+
+        user = User.withUsername("admin@tiquetera.com")
+                .password("{noop}password")
+                .authorities("ROLE_ADMIN")
+                .build();
+        legacyToken = legacy.generateToken(user, EXPIRATION);
+        token = jwtService.generateToken(user);
+    }
+
+    /**
+     * Las dos llamadas que hacía el filtro por petición: cuatro parseos.
+     */
+    @Benchmark
+    public boolean legacyAuthenticate() {
+        String username = legacy.extractUsername(legacyToken);
+        return username != null && legacy.isTokenValid(legacyToken, user);
+    }
+
+    @Benchmark
+    public boolean uncachedAuthenticate() {
+        Claims claims = uncached.verify(token);
+        return uncached.extractAuthorities(claims) != null && uncached.isTokenValid(claims)
+                && jwtService.isValid(claims);
+    }
+
+    @Benchmark
+    public boolean cachedAuthenticate() {
+        Claims claims = cached.verify(token);
+        return cached.extractAuthorities(claims) != null && cached.isTokenValid(claims)
+                && jwtService.isValid(claims);
+    }
+}
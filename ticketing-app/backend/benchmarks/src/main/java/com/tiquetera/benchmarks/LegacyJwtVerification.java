@@ -0,0 +1,67 @@
+package com.tiquetera.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * La verificación de JwtService anterior a la versión 1.1, como referencia
+ * para JwtServiceBenchmark: HS256 con secreto compartido, clave y parser
+ * nuevos en cada llamada y tres parseos del mismo token en isTokenValid.
+ *
+ * @author Ticketing Team
+ * @version 1.1 - Shared Security
+ */
+final class LegacyJwtVerification {
+
+    private final String secretKey;
+
+    LegacyJwtVerification(String secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    String generateToken(UserDetails userDetails, long expiration) {
+        return Jwts.builder()
+                .setSubject(userDetails.getUsername())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    String extractUsername(String token) {
+        return extractClaim(token, Claims::getSubject);
+    }
+
+    boolean isTokenValid(String token, UserDetails userDetails) {
+        final String username = extractUsername(token);
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    }
+
+    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        return claimsResolver.apply(extractAllClaims(token));
+    }
+
+    private boolean isTokenExpired(String token) {
+        return extractClaim(token, Claims::getExpiration).before(new Date());
+    }
+
+    private Claims extractAllClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(getSignInKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private Key getSignInKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    }
+}
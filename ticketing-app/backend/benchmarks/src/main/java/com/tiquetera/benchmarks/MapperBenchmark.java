@@ -0,0 +1,106 @@
+package com.tiquetera.benchmarks;
+
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.EventDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.mapper.EventWebMapper;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.EventEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.mapper.EventPersistenceMapper;
+import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.infrastructure.adapter.in.web.dto.VenueDTO;
+import com.tiquetera.venues.infrastructure.adapter.in.web.mapper.VenueWebMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversiones de los mappers MapStruct entre dominio, persistencia y web.
+ *
+ * Las conversiones de un registro miden el coste fijo por petición; las de
+ * lista, el de un listado de {@code listSize} eventos.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Benchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapperBenchmark {
+
+    @Param({ "20", "500" })
+    private int listSize;
+
+    private EventPersistenceMapper eventPersistenceMapper;
+    private EventWebMapper eventWebMapper;
+    private VenueWebMapper venueWebMapper;
+
+    private EventEntity eventEntity;
+    private Event event;
+    private EventDTO eventDTO;
+    private List<Event> events;
+    private Venue venue;
+    private VenueDTO venueDTO;
+
+    @Setup
+    public void setUp() {
+        eventPersistenceMapper = Mappers.getMapper(EventPersistenceMapper.class);
+        eventWebMapper = Mappers.getMapper(EventWebMapper.class);
+        venueWebMapper = Mappers.getMapper(VenueWebMapper.class);
+
+        eventEntity = Fixtures.eventEntity(1);
+        event = Fixtures.event(1);
+        eventDTO = eventWebMapper.toDTO(event);
+        events = Fixtures.events(listSize);
+        venue = Fixtures.venue(1);
+        venueDTO = venueWebMapper.toDTO(venue);
+    }
+
+    @Benchmark
+    public Event eventEntityToDomain() {
+        return eventPersistenceMapper.toDomain(eventEntity);
+    }
+
+    @Benchmark
+    public EventEntity eventDomainToEntity() {
+        return eventPersistenceMapper.toEntity(event);
+    }
+
+    @Benchmark
+    public EventDTO eventDomainToDTO() {
+        return eventWebMapper.toDTO(event);
+    }
+
+    @Benchmark
+    public Event eventDTOToDomain() {
+        return eventWebMapper.toDomain(eventDTO);
+    }
+
+    @Benchmark
+    public List<EventDTO> eventListToDTO() {
+        return eventWebMapper.toDTOList(events);
+    }
+
+    @Benchmark
+    public VenueDTO venueDomainToDTO() {
+        return venueWebMapper.toDTO(venue);
+    }
+
+    @Benchmark
+    public Venue venueDTOToDomain() {
+        return venueWebMapper.toDomain(venueDTO);
+    }
+}
@@ -0,0 +1,21 @@
+#!/bin/bash
+
+# Par RSA de desarrollo para los JWT. La primera vez lo genera en .dev-keys/
+# (fuera de los JAR e ignorado por git); después reutiliza el mismo, para que
+# los tokens sigan valiendo entre reinicios. Se usa con source, antes de
+# arrancar los servicios:
+#   source ./dev-keys.sh && ./mvnw -pl events-service spring-boot:run
+
+DEV_KEYS_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)/.dev-keys"
+
+if [ ! -f "$DEV_KEYS_DIR/jwt-private.pem" ]; then
+    mkdir -p "$DEV_KEYS_DIR"
+    chmod 700 "$DEV_KEYS_DIR"
+    openssl genpkey -algorithm RSA -pkeyopt rsa_keygen_bits:2048 -out "$DEV_KEYS_DIR/jwt-private.pem" 2>/dev/null
+    openssl pkey -in "$DEV_KEYS_DIR/jwt-private.pem" -pubout -out "$DEV_KEYS_DIR/jwt-public.pem"
+    chmod 600 "$DEV_KEYS_DIR/jwt-private.pem"
+    echo "Par de desarrollo generado en $DEV_KEYS_DIR"
+fi
+
+export APPLICATION_SECURITY_JWT_PRIVATE_KEY="$(cat "$DEV_KEYS_DIR/jwt-private.pem")"
+export APPLICATION_SECURITY_JWT_PUBLIC_KEY="$(cat "$DEV_KEYS_DIR/jwt-public.pem")"
@@ -0,0 +1,12 @@
+package com.tiquetera.events.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class EventsReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(EventsReactiveApplication.class, args);
+    }
+}
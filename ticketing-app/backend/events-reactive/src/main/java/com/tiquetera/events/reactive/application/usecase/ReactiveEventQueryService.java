@@ -0,0 +1,125 @@
+package com.tiquetera.events.reactive.application.usecase;
+
+import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.CalendarRange;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
+import com.tiquetera.events.domain.model.PageSize;
+import com.tiquetera.events.reactive.domain.ports.in.ReactiveEventQueryUseCase;
+import com.tiquetera.events.reactive.domain.ports.out.ReactiveEventRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Implementación del caso de uso de consultas de eventos no bloqueantes.
+ *
+ * Los límites y validaciones son los del dominio (PageSize, CalendarRange,
+ * EventSearchCriteria), los mismos que usa el servicio bloqueante. Todo lo que puede fallar se evalúa dentro de
+ * Mono.defer/Flux.defer para que el error llegue como señal y no como
+ * excepción en el hilo del llamador.
+ *
+ * @author Ticketing Team
+ * @version 1.1 - Reactive Reads
+ */
+@RequiredArgsConstructor
+public class ReactiveEventQueryService implements ReactiveEventQueryUseCase {
+
+    private final ReactiveEventRepositoryPort eventRepository;
+
+    @Override
+    public Mono<Event> getEvent(Long id) {
+        return eventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Mono<Long> getVersion(Long id) {
+        return eventRepository.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Mono<ChangeStamp> getEventsChangeStamp() {
+        return eventRepository.getChangeStamp();
+    }
+
+    @Override
+    public Flux<EventSummary> getAllEvents() {
+        return eventRepository.findAllSummaries();
+    }
+
+    @Override
+    public Flux<Event> exportEvents() {
+        return eventRepository.streamAll();
+    }
+
+    @Override
+    public Flux<EventSummary> getEventsByVenueId(Long venueId) {
+        return eventRepository.findSummariesByVenueId(venueId);
+    }
+
+    @Override
+    public Flux<EventSummary> getEventsByStatus(String status) {
+        return Flux.defer(() -> eventRepository.findSummariesByStatus(EventStatus.from(status)));
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> getEventsPage(String cursor, Integer size) {
+        return Mono.defer(() -> eventRepository.findAll(EventCursor.decode(cursor), PageSize.bounded(size)));
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> getEventsPageByVenueId(Long venueId, String cursor, Integer size) {
+        return Mono.defer(() -> eventRepository.findByVenueId(venueId, EventCursor.decode(cursor),
+                PageSize.bounded(size)));
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> getEventsPageByStatus(String status, String cursor, Integer size) {
+        return Mono.defer(() -> eventRepository.findByStatus(EventStatus.from(status), EventCursor.decode(cursor),
+                PageSize.bounded(size)));
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> search(EventSearchCriteria criteria, String cursor, Integer size) {
+        return Mono.defer(() -> {
+            EventSearchCriteria normalized = criteria.normalized();
+            EventCursor after = EventCursor.decode(cursor);
+            normalized.checkCursor(after);
+            return eventRepository.search(normalized, after, PageSize.bounded(size));
+        });
+    }
+
+    @Override
+    public Flux<Event> getUpcomingEvents(Integer limit) {
+        return Flux.defer(() -> eventRepository.findUpcoming(LocalDateTime.now(), PageSize.bounded(limit)));
+    }
+
+    @Override
+    public Flux<Event> getUpcomingEventsByVenueId(Long venueId, Integer limit) {
+        return Flux.defer(() -> eventRepository.findUpcomingByVenueId(venueId, LocalDateTime.now(),
+                PageSize.bounded(limit)));
+    }
+
+    @Override
+    public Flux<CalendarDay> getVenueCalendar(Long venueId, LocalDate from, LocalDate to) {
+        return Flux.defer(() -> {
+            CalendarRange range = new CalendarRange(from, to);
+            return eventRepository.findCalendar(venueId, range.start(), range.end());
+        });
+    }
+
+    private static ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException("Evento no encontrado con ID: " + id);
+    }
+}
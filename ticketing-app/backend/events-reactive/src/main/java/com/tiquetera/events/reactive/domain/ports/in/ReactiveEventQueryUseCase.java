@@ -0,0 +1,100 @@
+package com.tiquetera.events.reactive.domain.ports.in;
+
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Puerto de entrada para las consultas de eventos no bloqueantes.
+ *
+ * Reúne las lecturas de GetEventUseCase, ListEventsUseCase y
+ * SearchEventsUseCase con sus mismas reglas. Los errores de validación
+ * (cursor, estado, criterios) se emiten como señal de error del publicador,
+ * no se lanzan al llamar al método.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+public interface ReactiveEventQueryUseCase {
+
+    /**
+     * Obtiene un evento por ID; error ResourceNotFoundException si no existe.
+     */
+    Mono<Event> getEvent(Long id);
+
+    /**
+     * Obtiene la versión de un evento; error ResourceNotFoundException si no
+     * existe.
+     */
+    Mono<Long> getVersion(Long id);
+
+    /**
+     * Obtiene el número de eventos y la fecha de la última modificación.
+     */
+    Mono<ChangeStamp> getEventsChangeStamp();
+
+    /**
+     * Emite todos los eventos.
+     */
+    Flux<EventSummary> getAllEvents();
+
+    /**
+     * Emite todos los eventos completos, a medida que se piden.
+     */
+    Flux<Event> exportEvents();
+
+    /**
+     * Emite los eventos de un venue.
+     */
+    Flux<EventSummary> getEventsByVenueId(Long venueId);
+
+    /**
+     * Emite los eventos con un estado.
+     */
+    Flux<EventSummary> getEventsByStatus(String status);
+
+    /**
+     * Obtiene una página de eventos ordenados por fecha.
+     *
+     * @param cursor cursor opaco de la página anterior (null = primera página)
+     * @param size   tamaño de página (null = tamaño por defecto)
+     */
+    Mono<CursorPage<Event>> getEventsPage(String cursor, Integer size);
+
+    /**
+     * Obtiene una página de eventos de un venue ordenados por fecha.
+     */
+    Mono<CursorPage<Event>> getEventsPageByVenueId(Long venueId, String cursor, Integer size);
+
+    /**
+     * Obtiene una página de eventos con un estado ordenados por fecha.
+     */
+    Mono<CursorPage<Event>> getEventsPageByStatus(String status, String cursor, Integer size);
+
+    /**
+     * Busca eventos que cumplen los criterios, paginando con un cursor.
+     */
+    Mono<CursorPage<Event>> search(EventSearchCriteria criteria, String cursor, Integer size);
+
+    /**
+     * Emite los próximos eventos programados.
+     */
+    Flux<Event> getUpcomingEvents(Integer limit);
+
+    /**
+     * Emite los próximos eventos programados de un venue.
+     */
+    Flux<Event> getUpcomingEventsByVenueId(Long venueId, Integer limit);
+
+    /**
+     * Emite el calendario de un venue entre dos días, ambos inclusive.
+     */
+    Flux<CalendarDay> getVenueCalendar(Long venueId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,126 @@
+package com.tiquetera.events.reactive.domain.ports.out;
+
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Puerto de salida (Output Port) para las lecturas no bloqueantes de
+ * eventos.
+ *
+ * Son las consultas de EventRepositoryPort que usan los GET de la API, con
+ * el mismo significado, pero devolviendo publicadores: ningún método bloquea
+ * el hilo que lo llama. Los Flux emiten a medida que el suscriptor pide;
+ * streamAll es el único que además lee de la base solo lo pedido.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+public interface ReactiveEventRepositoryPort {
+
+    /**
+     * Busca un evento por su ID.
+     *
+     * @param id El ID del evento
+     * @return el evento, o vacío si no existe
+     */
+    Mono<Event> findById(Long id);
+
+    /**
+     * Obtiene solo la versión de un evento, sin cargar la fila completa.
+     *
+     * @param id El ID del evento
+     * @return la versión, o vacío si el evento no existe
+     */
+    Mono<Long> findVersionById(Long id);
+
+    /**
+     * Obtiene el número de eventos y la fecha de la última modificación.
+     */
+    Mono<ChangeStamp> getChangeStamp();
+
+    /**
+     * Emite todos los eventos como vistas de solo lectura para listados.
+     */
+    Flux<EventSummary> findAllSummaries();
+
+    /**
+     * Emite los eventos de un venue como vistas de solo lectura.
+     *
+     * @param venueId El ID del venue
+     */
+    Flux<EventSummary> findSummariesByVenueId(Long venueId);
+
+    /**
+     * Emite los eventos con un estado como vistas de solo lectura.
+     *
+     * @param status El estado a buscar
+     */
+    Flux<EventSummary> findSummariesByStatus(EventStatus status);
+
+    /**
+     * Emite todos los eventos, sin orden, leyendo de la base de datos solo
+     * lo que el suscriptor va pidiendo.
+     */
+    Flux<Event> streamAll();
+
+    /**
+     * Obtiene una página de eventos ordenados por (eventDate, id).
+     *
+     * @param after posición del último evento de la página anterior (null para
+     *              la primera página)
+     * @param limit número máximo de eventos a retornar
+     */
+    Mono<CursorPage<Event>> findAll(EventCursor after, int limit);
+
+    /**
+     * Obtiene una página de eventos de un venue ordenados por (eventDate, id).
+     */
+    Mono<CursorPage<Event>> findByVenueId(Long venueId, EventCursor after, int limit);
+
+    /**
+     * Obtiene una página de eventos con un estado ordenados por (eventDate, id).
+     */
+    Mono<CursorPage<Event>> findByStatus(EventStatus status, EventCursor after, int limit);
+
+    /**
+     * Busca eventos que cumplen los criterios, en el orden pedido, a partir
+     * de un cursor.
+     *
+     * @param criteria filtros y orden de la búsqueda (orden no nulo)
+     * @param after    posición del último evento de la página anterior (null = primera página)
+     * @param limit    número máximo de eventos a retornar
+     */
+    Mono<CursorPage<Event>> search(EventSearchCriteria criteria, EventCursor after, int limit);
+
+    /**
+     * Emite los próximos eventos programados a partir de una fecha,
+     * ordenados por fecha.
+     */
+    Flux<Event> findUpcoming(LocalDateTime from, int limit);
+
+    /**
+     * Emite los próximos eventos programados de un venue a partir de una
+     * fecha, ordenados por fecha.
+     */
+    Flux<Event> findUpcomingByVenueId(Long venueId, LocalDateTime from, int limit);
+
+    /**
+     * Agrupa por día los eventos no cancelados de un venue en un rango.
+     *
+     * @param venueId El ID del venue
+     * @param start   inicio del rango (inclusive)
+     * @param end     fin del rango (exclusivo)
+     * @return días con al menos un evento, ordenados por fecha
+     */
+    Flux<CalendarDay> findCalendar(Long venueId, LocalDateTime start, LocalDateTime end);
+}
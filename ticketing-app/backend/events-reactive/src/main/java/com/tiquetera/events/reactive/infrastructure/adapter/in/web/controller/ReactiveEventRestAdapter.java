@@ -0,0 +1,278 @@
+package com.tiquetera.events.reactive.infrastructure.adapter.in.web.controller;
+
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSort;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.CalendarDayDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.CursorPageDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.EventDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.mapper.EventWebMapper;
+import com.tiquetera.events.reactive.domain.ports.in.ReactiveEventQueryUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Adaptador REST reactivo de solo lectura para eventos (Input Adapter).
+ *
+ * Replica los GET de EventRestAdapter con las mismas rutas, parámetros,
+ * respuestas y ETags. Los listados devuelven un Flux: como arreglo JSON por
+ * defecto, o un evento por línea si el cliente acepta application/x-ndjson.
+ * La escritura serializa más eventos solo cuando el socket del cliente
+ * admite más datos, así que un cliente lento no ocupa un hilo mientras lee.
+ * La exportación lleva esa contrapresión hasta el cursor de la base.
+ *
+ * La búsqueda por texto no se replica: depende del índice en memoria de
+ * events-service.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+@Tag(name = "Events", description = "API reactiva de consulta de eventos")
+public class ReactiveEventRestAdapter {
+
+        private final ReactiveEventQueryUseCase queryUseCase;
+        private final EventWebMapper mapper;
+
+        @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+        @Operation(summary = "Obtener todos los eventos", description = "Emite todos los eventos registrados a medida que se leen")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
+        })
+        public Mono<ResponseEntity<Flux<EventDTO>>> getAllEvents(ServerWebExchange exchange) {
+                log.info("GET /api/v1/events - Obteniendo todos los eventos");
+
+                return queryUseCase.getEventsChangeStamp()
+                                .map(ReactiveEventRestAdapter::weakETag)
+                                .flatMap(etag -> exchange.checkNotModified(etag) ? Mono.empty()
+                                                : Mono.just(ResponseEntity.ok().eTag(etag)
+                                                                .body(queryUseCase.getAllEvents().map(mapper::toDTO))));
+        }
+
+        @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        @Operation(summary = "Exportar todos los eventos", description = "Escribe todos los eventos como NDJSON (un evento por línea) al ritmo que los consume el cliente")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Eventos exportados exitosamente")
+        })
+        public Flux<EventDTO> exportEvents() {
+                log.info("GET /api/v1/events/export - Exportando eventos");
+
+                return queryUseCase.exportEvents().map(mapper::toDTO);
+        }
+
+        @GetMapping("/page")
+        @Operation(summary = "Obtener eventos paginados", description = "Retorna una página de eventos ordenados por fecha usando un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+        })
+        public Mono<CursorPageDTO<EventDTO>> getEventsPage(
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/page - Obteniendo página de eventos");
+
+                return queryUseCase.getEventsPage(cursor, size).map(this::toPageDTO);
+        }
+
+        @GetMapping(value = "/upcoming", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+        @Operation(summary = "Obtener próximos eventos", description = "Retorna los próximos eventos programados, del más cercano al más lejano")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+        })
+        public Flux<EventDTO> getUpcomingEvents(
+                        @Parameter(description = "Número de eventos (máximo 100)") @RequestParam(required = false) Integer limit) {
+
+                log.info("GET /api/v1/events/upcoming - Obteniendo próximos eventos");
+
+                return queryUseCase.getUpcomingEvents(limit).map(mapper::toDTO);
+        }
+
+        @GetMapping("/{id}")
+        @Operation(summary = "Obtener evento por ID", description = "Retorna los detalles de un evento específico")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Evento encontrado"),
+                        @ApiResponse(responseCode = "304", description = "El evento no cambió desde el ETag enviado"),
+                        @ApiResponse(responseCode = "404", description = "Evento no encontrado")
+        })
+        public Mono<ResponseEntity<EventDTO>> getEventById(
+                        @Parameter(description = "ID del evento a buscar", required = true) @PathVariable Long id,
+                        ServerWebExchange exchange) {
+
+                log.info("GET /api/v1/events/{} - Obteniendo evento", id);
+
+                // Solo se consulta la versión; si el cliente ya la tiene no se
+                // carga ni se serializa el evento.
+                return queryUseCase.getVersion(id)
+                                .filter(version -> !exchange.checkNotModified(strongETag(version)))
+                                .flatMap(version -> queryUseCase.getEvent(id))
+                                .map(event -> ResponseEntity.ok().eTag(strongETag(event.getVersion()))
+                                                .body(mapper.toDTO(event)));
+        }
+
+        @GetMapping(value = "/venue/{venueId}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+        @Operation(summary = "Obtener eventos por venue", description = "Emite todos los eventos de un venue específico")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+        })
+        public Flux<EventDTO> getEventsByVenueId(
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId) {
+
+                log.info("GET /api/v1/events/venue/{} - Obteniendo eventos por venue", venueId);
+
+                return queryUseCase.getEventsByVenueId(venueId).map(mapper::toDTO);
+        }
+
+        @GetMapping(value = "/venue/{venueId}/upcoming", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+        @Operation(summary = "Obtener próximos eventos de un venue", description = "Retorna los próximos eventos programados de un venue, del más cercano al más lejano")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+        })
+        public Flux<EventDTO> getUpcomingEventsByVenueId(
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId,
+                        @Parameter(description = "Número de eventos (máximo 100)") @RequestParam(required = false) Integer limit) {
+
+                log.info("GET /api/v1/events/venue/{}/upcoming - Obteniendo próximos eventos del venue", venueId);
+
+                return queryUseCase.getUpcomingEventsByVenueId(venueId, limit).map(mapper::toDTO);
+        }
+
+        @GetMapping(value = "/venue/{venueId}/calendar", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+        @Operation(summary = "Obtener calendario de un venue", description = "Retorna, por cada día con eventos no cancelados, el número de eventos y la capacidad total del venue (rango máximo de 366 días)")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Calendario obtenido exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Rango de fechas inválido")
+        })
+        public Flux<CalendarDayDTO> getVenueCalendar(
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId,
+                        @Parameter(description = "Primer día (ISO 8601)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @Parameter(description = "Último día, inclusive (ISO 8601)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+                log.info("GET /api/v1/events/venue/{}/calendar - Obteniendo calendario del venue", venueId);
+
+                return queryUseCase.getVenueCalendar(venueId, from, to).map(ReactiveEventRestAdapter::toCalendarDTO);
+        }
+
+        @GetMapping("/venue/{venueId}/page")
+        @Operation(summary = "Obtener eventos por venue paginados", description = "Retorna una página de eventos de un venue usando un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+        })
+        public Mono<CursorPageDTO<EventDTO>> getEventsPageByVenueId(
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId,
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/venue/{}/page - Obteniendo página de eventos por venue", venueId);
+
+                return queryUseCase.getEventsPageByVenueId(venueId, cursor, size).map(this::toPageDTO);
+        }
+
+        @GetMapping(value = "/status/{status}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+        @Operation(summary = "Obtener eventos por estado", description = "Emite todos los eventos que tienen un estado específico")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Estado inválido")
+        })
+        public Flux<EventDTO> getEventsByStatus(
+                        @Parameter(description = "Estado del evento (SCHEDULED, ACTIVE, CANCELLED, COMPLETED)", required = true) @PathVariable String status) {
+
+                log.info("GET /api/v1/events/status/{} - Obteniendo eventos por estado", status);
+
+                return queryUseCase.getEventsByStatus(status).map(mapper::toDTO);
+        }
+
+        @GetMapping("/status/{status}/page")
+        @Operation(summary = "Obtener eventos por estado paginados", description = "Retorna una página de eventos con un estado usando un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+        })
+        public Mono<CursorPageDTO<EventDTO>> getEventsPageByStatus(
+                        @Parameter(description = "Estado del evento (SCHEDULED, ACTIVE, CANCELLED, COMPLETED)", required = true) @PathVariable String status,
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/status/{}/page - Obteniendo página de eventos por estado", status);
+
+                return queryUseCase.getEventsPageByStatus(status, cursor, size).map(this::toPageDTO);
+        }
+
+        @GetMapping("/search")
+        @Operation(summary = "Buscar eventos", description = "Busca eventos combinando venue, estado, rango de fechas y rango de precios, paginando con un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Criterios de búsqueda o cursor inválidos")
+        })
+        public Mono<CursorPageDTO<EventDTO>> searchEvents(
+                        @Parameter(description = "ID del venue") @RequestParam(required = false) Long venueId,
+                        @Parameter(description = "Estado del evento (SCHEDULED, ACTIVE, CANCELLED, COMPLETED)") @RequestParam(required = false) String status,
+                        @Parameter(description = "Fecha inicial (ISO 8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+                        @Parameter(description = "Fecha final (ISO 8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+                        @Parameter(description = "Precio mínimo") @RequestParam(required = false) BigDecimal minPrice,
+                        @Parameter(description = "Precio máximo") @RequestParam(required = false) BigDecimal maxPrice,
+                        @Parameter(description = "Orden (DATE_ASC, DATE_DESC, PRICE_ASC, PRICE_DESC)") @RequestParam(required = false) String sort,
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/search - Buscando eventos");
+
+                return Mono.fromCallable(() -> new EventSearchCriteria(venueId,
+                                status == null || status.isBlank() ? null : EventStatus.from(status),
+                                startDate, endDate, minPrice, maxPrice, EventSort.from(sort)))
+                                .flatMap(criteria -> queryUseCase.search(criteria, cursor, size))
+                                .map(this::toPageDTO);
+        }
+
+        private CursorPageDTO<EventDTO> toPageDTO(CursorPage<Event> page) {
+                return CursorPageDTO.<EventDTO>builder()
+                                .items(mapper.toDTOList(page.getItems()))
+                                .nextCursor(page.getNextCursor())
+                                .hasNext(page.hasNext())
+                                .build();
+        }
+
+        private static CalendarDayDTO toCalendarDTO(CalendarDay day) {
+                return CalendarDayDTO.builder()
+                                .date(day.date())
+                                .eventCount(day.eventCount())
+                                .totalCapacity(day.totalCapacity())
+                                .build();
+        }
+
+        private static String strongETag(Long version) {
+                return "\"" + version + "\"";
+        }
+
+        private static String weakETag(ChangeStamp stamp) {
+                long lastUpdated = stamp.getLastUpdated() == null ? 0
+                                : stamp.getLastUpdated().toInstant(ZoneOffset.UTC).toEpochMilli();
+                return "W/\"" + stamp.getCount() + "-" + lastUpdated + "\"";
+        }
+}
@@ -0,0 +1,285 @@
+package com.tiquetera.events.reactive.infrastructure.adapter.out.persistence;
+
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSort;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
+import com.tiquetera.events.reactive.domain.ports.out.ReactiveEventRepositoryPort;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador R2DBC del puerto de lecturas no bloqueantes.
+ *
+ * Las consultas son las mismas que las de EventJpaAdapter escritas en SQL:
+ * el nombre del venue sale del mismo JOIN con venues, las páginas piden una
+ * fila de más para saber si hay siguiente y el ID desempata todos los
+ * órdenes para que coincidan con el cursor.
+ *
+ * Los listados se leen completos antes de emitir la primera fila: la
+ * conexión vuelve al pool en cuanto termina la consulta y el cliente consume
+ * la respuesta a su ritmo desde memoria, como en events-service. Solo la
+ * exportación pide las filas a la base en bloques de
+ * {@value #STREAM_FETCH_SIZE} con un cursor del servidor, así que un cliente
+ * lento frena la lectura en lugar de acumular la tabla en memoria, a cambio
+ * de retener una conexión mientras dura.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+@Component
+@RequiredArgsConstructor
+public class EventR2dbcAdapter implements ReactiveEventRepositoryPort {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SUMMARY_SELECT = "SELECT e.id, e.name, e.description, e.event_date, e.end_date, "
+            + "e.venue_id, v.name AS venue_name, e.capacity, e.ticket_price, e.status, e.created_at, e.updated_at "
+            + "FROM events e LEFT JOIN venues v ON v.id = e.venue_id ";
+
+    private static final String EVENT_SELECT = "SELECT e.id, e.name, e.description, e.event_date, e.end_date, "
+            + "e.venue_id, v.name AS venue_name, e.capacity, e.ticket_price, e.status, e.created_at, e.updated_at, "
+            + "e.version FROM events e LEFT JOIN venues v ON v.id = e.venue_id ";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Event> findById(Long id) {
+        return databaseClient.sql(EVENT_SELECT + "WHERE e.id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toEvent(row))
+                .one();
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return databaseClient.sql("SELECT version FROM events WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> row.get("version", Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<ChangeStamp> getChangeStamp() {
+        return databaseClient.sql("SELECT COUNT(*) AS event_count, MAX(updated_at) AS last_updated FROM events")
+                .map((row, metadata) -> new ChangeStamp(longValue(row, "event_count"),
+                        row.get("last_updated", LocalDateTime.class)))
+                .one();
+    }
+
+    @Override
+    public Flux<EventSummary> findAllSummaries() {
+        return databaseClient.sql(SUMMARY_SELECT)
+                .map((row, metadata) -> toSummary(row))
+                .all()
+                .collectList()
+                .flatMapIterable(summaries -> summaries);
+    }
+
+    @Override
+    public Flux<EventSummary> findSummariesByVenueId(Long venueId) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE e.venue_id = :venueId")
+                .bind("venueId", venueId)
+                .map((row, metadata) -> toSummary(row))
+                .all()
+                .collectList()
+                .flatMapIterable(summaries -> summaries);
+    }
+
+    @Override
+    public Flux<EventSummary> findSummariesByStatus(EventStatus status) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE e.status = :status")
+                .bind("status", status.name())
+                .map((row, metadata) -> toSummary(row))
+                .all()
+                .collectList()
+                .flatMapIterable(summaries -> summaries);
+    }
+
+    @Override
+    public Flux<Event> streamAll() {
+        return databaseClient.sql(EVENT_SELECT)
+                .filter((statement, next) -> next.execute(statement.fetchSize(STREAM_FETCH_SIZE)))
+                .map((row, metadata) -> toEvent(row))
+                .all();
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> findAll(EventCursor after, int limit) {
+        return page(new Query(), EventSort.DATE_ASC, after, limit);
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> findByVenueId(Long venueId, EventCursor after, int limit) {
+        return page(new Query().where("e.venue_id = :venueId", "venueId", venueId), EventSort.DATE_ASC, after, limit);
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> findByStatus(EventStatus status, EventCursor after, int limit) {
+        return page(new Query().where("e.status = :status", "status", status.name()), EventSort.DATE_ASC, after,
+                limit);
+    }
+
+    @Override
+    public Mono<CursorPage<Event>> search(EventSearchCriteria criteria, EventCursor after, int limit) {
+        Query query = new Query();
+        if (criteria.venueId() != null) {
+            query.where("e.venue_id = :venueId", "venueId", criteria.venueId());
+        }
+        if (criteria.status() != null) {
+            query.where("e.status = :status", "status", criteria.status().name());
+        }
+        if (criteria.startDate() != null) {
+            query.where("e.event_date >= :startDate", "startDate", criteria.startDate());
+        }
+        if (criteria.endDate() != null) {
+            query.where("e.event_date <= :endDate", "endDate", criteria.endDate());
+        }
+        if (criteria.minPrice() != null) {
+            query.where("e.ticket_price >= :minPrice", "minPrice", criteria.minPrice());
+        }
+        if (criteria.maxPrice() != null) {
+            query.where("e.ticket_price <= :maxPrice", "maxPrice", criteria.maxPrice());
+        }
+        return page(query, criteria.sort(), after, limit);
+    }
+
+    @Override
+    public Flux<Event> findUpcoming(LocalDateTime from, int limit) {
+        return databaseClient.sql(EVENT_SELECT + "WHERE e.event_date >= :from AND e.status = 'SCHEDULED' "
+                        + "ORDER BY e.event_date ASC, e.id ASC LIMIT :limit")
+                .bind("from", from)
+                .bind("limit", limit)
+                .map((row, metadata) -> toEvent(row))
+                .all();
+    }
+
+    @Override
+    public Flux<Event> findUpcomingByVenueId(Long venueId, LocalDateTime from, int limit) {
+        return databaseClient.sql(EVENT_SELECT + "WHERE e.venue_id = :venueId AND e.event_date >= :from "
+                        + "AND e.status = 'SCHEDULED' ORDER BY e.event_date ASC, e.id ASC LIMIT :limit")
+                .bind("venueId", venueId)
+                .bind("from", from)
+                .bind("limit", limit)
+                .map((row, metadata) -> toEvent(row))
+                .all();
+    }
+
+    @Override
+    public Flux<CalendarDay> findCalendar(Long venueId, LocalDateTime start, LocalDateTime end) {
+        return databaseClient.sql("SELECT CAST(event_date AS DATE) AS event_day, COUNT(*) AS event_count, "
+                        + "COALESCE(SUM(capacity), 0) AS total_capacity FROM events "
+                        + "WHERE venue_id = :venueId AND event_date >= :start AND event_date < :end "
+                        + "AND status <> 'CANCELLED' "
+                        + "GROUP BY CAST(event_date AS DATE) ORDER BY event_day")
+                .bind("venueId", venueId)
+                .bind("start", start)
+                .bind("end", end)
+                .map((row, metadata) -> new CalendarDay(row.get("event_day", LocalDate.class),
+                        longValue(row, "event_count"), longValue(row, "total_capacity")))
+                .all();
+    }
+
+    // Agrega la condición del cursor y el orden, y pide una fila de más para
+    // saber si existe una página siguiente sin lanzar un COUNT.
+    private Mono<CursorPage<Event>> page(Query query, EventSort sort, EventCursor after, int limit) {
+        String key = sort.byPrice() ? "e.ticket_price" : "e.event_date";
+        String direction = sort.descending() ? "DESC" : "ASC";
+        if (after != null) {
+            String operator = sort.descending() ? "<" : ">";
+            query.where("(" + key + " " + operator + " :afterKey OR (" + key + " = :afterKey AND e.id "
+                    + operator + " :afterId))", "afterKey", sort.byPrice() ? after.getTicketPrice() : after.getEventDate());
+            query.bindings.put("afterId", after.getId());
+        }
+        query.sql.append(" ORDER BY ").append(key).append(' ').append(direction)
+                .append(", e.id ").append(direction).append(" LIMIT :limit");
+        query.bindings.put("limit", limit + 1);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(EVENT_SELECT + query.sql);
+        for (Map.Entry<String, Object> binding : query.bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map((row, metadata) -> toEvent(row))
+                .all()
+                .collectList()
+                .map(rows -> toPage(rows, limit));
+    }
+
+    private static CursorPage<Event> toPage(List<Event> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Event> items = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? EventCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private static Event toEvent(Row row) {
+        Event event = new Event(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("event_date", LocalDateTime.class),
+                row.get("end_date", LocalDateTime.class),
+                row.get("venue_id", Long.class),
+                row.get("venue_name", String.class),
+                row.get("capacity", Integer.class),
+                row.get("ticket_price", BigDecimal.class),
+                EventStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+        event.setVersion(row.get("version", Long.class));
+        return event;
+    }
+
+    private static EventSummary toSummary(Row row) {
+        return new EventSummary(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("event_date", LocalDateTime.class),
+                row.get("end_date", LocalDateTime.class),
+                row.get("venue_id", Long.class),
+                row.get("venue_name", String.class),
+                row.get("capacity", Integer.class),
+                row.get("ticket_price", BigDecimal.class),
+                EventStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+
+    // COUNT y SUM vuelven como BIGINT o DECIMAL según la base
+    private static Long longValue(Row row, String column) {
+        Number value = row.get(column, Number.class);
+        return value == null ? 0L : value.longValue();
+    }
+
+    /**
+     * Condiciones WHERE y parámetros de una consulta armada por partes.
+     */
+    private static final class Query {
+
+        private final StringBuilder sql = new StringBuilder();
+        private final Map<String, Object> bindings = new LinkedHashMap<>();
+
+        Query where(String condition, String name, Object value) {
+            sql.append(sql.isEmpty() ? "WHERE " : " AND ").append(condition);
+            bindings.put(name, value);
+            return this;
+        }
+    }
+}
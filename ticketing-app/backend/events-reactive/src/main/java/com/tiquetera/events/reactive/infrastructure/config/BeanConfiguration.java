@@ -0,0 +1,22 @@
+package com.tiquetera.events.reactive.infrastructure.config;
+
+import com.tiquetera.events.infrastructure.adapter.in.web.mapper.EventWebMapper;
+import com.tiquetera.events.reactive.application.usecase.ReactiveEventQueryService;
+import com.tiquetera.events.reactive.domain.ports.in.ReactiveEventQueryUseCase;
+import com.tiquetera.events.reactive.domain.ports.out.ReactiveEventRepositoryPort;
+import org.mapstruct.factory.Mappers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BeanConfiguration {
+    @Bean
+    public ReactiveEventQueryUseCase reactiveEventQueryUseCase(ReactiveEventRepositoryPort eventRepository) {
+        return new ReactiveEventQueryService(eventRepository);
+    }
+    // El mapper compilado en events-service no se escanea desde este paquete
+    @Bean
+    public EventWebMapper eventWebMapper() {
+        return Mappers.getMapper(EventWebMapper.class);
+    }
+}
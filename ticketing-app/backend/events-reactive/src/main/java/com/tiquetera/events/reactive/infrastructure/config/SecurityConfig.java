@@ -0,0 +1,66 @@
+package com.tiquetera.events.reactive.infrastructure.config;
+
+import com.tiquetera.events.reactive.infrastructure.security.JwtAuthenticationManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Seguridad de la API reactiva.
+ *
+ * Mismas reglas que events-service: documentación y health son públicos y
+ * el resto, métricas incluidas, exige un JWT válido en la cabecera
+ * Authorization. Sin sesión; un token ausente o inválido recibe 403, igual
+ * que en el servicio servlet.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtAuthenticationManager authenticationManager;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        HttpStatusServerEntryPoint forbidden = new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN);
+
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(authenticationManager);
+        jwtFilter.setServerAuthenticationConverter(exchange -> Mono
+                .justOrEmpty(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .filter(header -> header.startsWith(BEARER))
+                .map(header -> new UsernamePasswordAuthenticationToken(null, header.substring(BEARER.length()))));
+        jwtFilter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(forbidden));
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/webjars/**",
+                                "/actuator/health")
+                        .permitAll()
+                        .anyExchange().authenticated())
+                .exceptionHandling(handling -> handling.authenticationEntryPoint(forbidden))
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
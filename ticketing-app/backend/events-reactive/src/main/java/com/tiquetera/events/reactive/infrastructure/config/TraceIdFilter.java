@@ -0,0 +1,41 @@
+package com.tiquetera.events.reactive.infrastructure.config;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Propaga la cabecera traceId como TraceIdFilter de events-service.
+ *
+ * Una petición reactiva cambia de hilo, así que el valor no se guarda en el
+ * MDC sino en un atributo del intercambio, de donde lo lee el manejador de
+ * excepciones.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceIdFilter implements WebFilter {
+
+    public static final String TRACE_ID = "traceId";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String traceId = exchange.getRequest().getHeaders().getFirst(TRACE_ID);
+        if (traceId == null || traceId.isEmpty()) {
+            traceId = UUID.randomUUID().toString();
+        }
+
+        exchange.getAttributes().put(TRACE_ID, traceId);
+        exchange.getResponse().getHeaders().set(TRACE_ID, traceId);
+
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,117 @@
+package com.tiquetera.events.reactive.infrastructure.exception;
+
+import com.tiquetera.events.domain.exception.InvalidCursorException;
+import com.tiquetera.events.domain.exception.InvalidSearchCriteriaException;
+import com.tiquetera.events.domain.exception.InvalidStatusException;
+import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.reactive.infrastructure.config.TraceIdFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Manejador global de excepciones de la API reactiva.
+ *
+ * Produce los mismos ProblemDetail (RFC 7807) que GlobalExceptionHandler de
+ * events-service para las excepciones que pueden ocurrir en una lectura. Un
+ * error a mitad de un listado en streaming llega con la respuesta ya
+ * empezada y solo puede cortar la conexión.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final String TIMESTAMP = "timestamp";
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleResourceNotFoundException(
+            ResourceNotFoundException ex,
+            ServerWebExchange exchange) {
+
+        log.error("Recurso no encontrado: {}", ex.getMessage());
+
+        return problem(HttpStatus.NOT_FOUND, ex.getMessage(), "Resource Not Found", "not-found", exchange);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidCursorException(
+            InvalidCursorException ex,
+            ServerWebExchange exchange) {
+
+        log.error("Cursor de paginación inválido: {}", ex.getMessage());
+
+        return problem(HttpStatus.BAD_REQUEST, ex.getMessage(), "Invalid Cursor", "invalid-cursor", exchange);
+    }
+
+    @ExceptionHandler(InvalidStatusException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidStatusException(
+            InvalidStatusException ex,
+            ServerWebExchange exchange) {
+
+        log.error("Estado inválido: {}", ex.getMessage());
+
+        return problem(HttpStatus.BAD_REQUEST, ex.getMessage(), "Invalid Status", "invalid-status", exchange);
+    }
+
+    @ExceptionHandler(InvalidSearchCriteriaException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidSearchCriteriaException(
+            InvalidSearchCriteriaException ex,
+            ServerWebExchange exchange) {
+
+        log.error("Criterios de búsqueda inválidos: {}", ex.getMessage());
+
+        return problem(HttpStatus.BAD_REQUEST, ex.getMessage(), "Invalid Search Criteria", "invalid-search-criteria",
+                exchange);
+    }
+
+    // Parámetros mal formados, rutas o tipos de contenido no soportados
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ProblemDetail> handleResponseStatusException(
+            ResponseStatusException ex,
+            ServerWebExchange exchange) {
+
+        log.error("Petición rechazada: {}", ex.getMessage());
+
+        HttpStatusCode status = ex.getStatusCode();
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        String title = resolved != null ? resolved.getReasonPhrase() : "Error";
+        return problem(status, ex.getReason(), title, "bad-request", exchange);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetail> handleGlobalException(
+            Exception ex,
+            ServerWebExchange exchange) {
+
+        log.error("Error interno del servidor: ", ex);
+
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, "Ha ocurrido un error interno en el servidor",
+                "Internal Server Error", "internal-server-error", exchange);
+    }
+
+    private ResponseEntity<ProblemDetail> problem(HttpStatusCode status, String detail, String title, String type,
+            ServerWebExchange exchange) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle(title);
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/" + type));
+        problemDetail.setInstance(URI.create(exchange.getRequest().getPath().value()));
+        problemDetail.setProperty(TIMESTAMP, LocalDateTime.now());
+        String traceId = exchange.getAttribute(TraceIdFilter.TRACE_ID);
+        problemDetail.setProperty(TraceIdFilter.TRACE_ID, traceId != null ? traceId : UUID.randomUUID().toString());
+
+        return ResponseEntity.status(status).body(problemDetail);
+    }
+}
@@ -0,0 +1,57 @@
+package com.tiquetera.events.reactive.infrastructure.security;
+
+import com.tiquetera.security.JwtKeys;
+import com.tiquetera.security.JwtVerifier;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Valida los JWT emitidos por events-service.
+ *
+ * Comprueba firma y expiración con la clave pública de events-service
+ * ({@code application.security.jwt.public-key}) mediante el JwtVerifier
+ * compartido y, como JwtAuthenticationFilter, toma las authorities de los
+ * claims del token, sin consultar la tabla users. Un token sin authorities
+ * se rechaza.
+ *
+ * Los avisos de cambio de rol (UserRoleChangedEvent) y la lista de tokens
+ * revocados son de events-service: aquí un token vale hasta que expira.
+ *
+ * @author Ticketing Team
+ * @version 1.2 - Shared Security
+ */
+@Component
+public class JwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtVerifier jwtVerifier;
+
+    public JwtAuthenticationManager(
+            @Value("${application.security.jwt.public-key}") String publicKey,
+            @Value("${application.security.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.jwtVerifier = new JwtVerifier(JwtKeys.publicKey(publicKey), verifiedCacheSize);
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String token = (String) authentication.getCredentials();
+        return Mono.fromCallable(() -> jwtVerifier.verify(token))
+                .onErrorMap(JwtException.class, ex -> new BadCredentialsException("Token inválido", ex))
+                .flatMap(claims -> {
+                    List<GrantedAuthority> authorities = jwtVerifier.extractAuthorities(claims);
+                    if (authorities == null || !jwtVerifier.isTokenValid(claims)) {
+                        return Mono.error(new BadCredentialsException("Token inválido"));
+                    }
+                    return Mono.just(new UsernamePasswordAuthenticationToken(claims.getSubject(), token,
+                            authorities));
+                });
+    }
+}
@@ -0,0 +1,151 @@
+package com.tiquetera.events.application.usecase;
+
+import com.tiquetera.events.domain.exception.InvalidBulkRequestException;
+import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.ports.in.BulkEventsUseCase;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.EventSearchIndexPort;
+import com.tiquetera.events.domain.ports.out.VenueBookingPort;
+import com.tiquetera.events.domain.ports.out.VenueCalendarPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del caso de uso para operaciones masivas de eventos -
+ * Microservicio Events
+ * 
+ * Aplica las mismas reglas que los casos de uso individuales, pero sobre
+ * todo el lote en una sola transacción y con una consulta por lote en lugar
+ * de una por evento.
+ * 
+ * @author Ticketing Team
+ * @version 3.10 - Bulk Events
+ */
+@RequiredArgsConstructor
+@Transactional
+public class BulkEventsService implements BulkEventsUseCase {
+
+    private final EventRepositoryPort eventRepository;
+    private final EventSearchIndexPort searchIndex;
+    private final VenueCalendarPort venueCalendar;
+    private final VenueBookingPort venueBookings;
+
+    @Override
+    public List<Event> createAll(List<Event> events) {
+        validateSize(events);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Event event : events) {
+            if (event.getId() != null) {
+                throw new InvalidBulkRequestException("Los eventos a crear no deben tener ID");
+            }
+            if (event.getStatus() == null) {
+                event.setStatus(EventStatus.SCHEDULED);
+            }
+            event.setCreatedAt(now);
+            event.setUpdatedAt(now);
+        }
+
+        List<Event> saved = eventRepository.saveAll(events);
+        saved.forEach(venueBookings::reserve);
+        saved.forEach(searchIndex::index);
+        saved.forEach(event -> venueCalendar.recordChange(null, event));
+        return saved;
+    }
+
+    @Override
+    public List<Event> updateAll(List<Event> events) {
+        validateSize(events);
+        List<Long> ids = events.stream().map(Event::getId).collect(Collectors.toList());
+        validateIds(ids);
+
+        Map<Long, Event> existing = eventRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        requireAll(ids, existing.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Event> updated = new ArrayList<>(events.size());
+        Map<Long, Event> previous = new HashMap<>();
+        for (Event event : events) {
+            Event existingEvent = existing.get(event.getId());
+            previous.put(existingEvent.getId(), existingEvent.copy());
+            existingEvent.setName(event.getName());
+            existingEvent.setDescription(event.getDescription());
+            existingEvent.setEventDate(event.getEventDate());
+            existingEvent.setEndDate(event.getEndDate());
+            existingEvent.setVenueId(event.getVenueId());
+            existingEvent.setVenueName(event.getVenueName());
+            existingEvent.setCapacity(event.getCapacity());
+            existingEvent.setTicketPrice(event.getTicketPrice());
+            if (event.getStatus() != null) {
+                existingEvent.setStatus(event.getStatus());
+            }
+            existingEvent.setUpdatedAt(now);
+            updated.add(existingEvent);
+        }
+
+        List<Event> saved = eventRepository.saveAll(updated);
+        saved.forEach(venueBookings::reserve);
+        saved.forEach(searchIndex::index);
+        saved.forEach(event -> venueCalendar.recordChange(previous.get(event.getId()), event));
+        return saved;
+    }
+
+    @Override
+    public void deleteAll(List<Long> ids) {
+        validateSize(ids);
+        validateIds(ids);
+
+        // Los eventos se cargan antes de borrarlos para descontarlos del
+        // calendario; si falta alguno, la excepción revierte el DELETE completo
+        List<Event> existing = eventRepository.findAllById(ids);
+        int deleted = eventRepository.deleteAllById(ids);
+        if (deleted != ids.size()) {
+            throw new ResourceNotFoundException("No existen " + (ids.size() - deleted)
+                    + " de los " + ids.size() + " eventos a eliminar");
+        }
+        ids.forEach(searchIndex::remove);
+        ids.forEach(venueBookings::release);
+        existing.forEach(event -> venueCalendar.recordChange(event, null));
+    }
+
+    private static void validateSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidBulkRequestException("El lote no puede estar vacío");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new InvalidBulkRequestException("El lote supera el máximo de " + MAX_BATCH_SIZE + " eventos");
+        }
+    }
+
+    private static void validateIds(List<Long> ids) {
+        Set<Long> seen = new HashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new InvalidBulkRequestException("Todos los eventos del lote deben tener ID");
+            }
+            if (!seen.add(id)) {
+                throw new InvalidBulkRequestException("El ID " + id + " aparece más de una vez en el lote");
+            }
+        }
+    }
+
+    private static void requireAll(List<Long> ids, Set<Long> found) {
+        List<Long> missing = ids.stream().filter(id -> !found.contains(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Eventos no encontrados con IDs: " + missing);
+        }
+    }
+}
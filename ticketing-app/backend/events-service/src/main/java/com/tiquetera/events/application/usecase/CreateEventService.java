@@ -1,8 +1,12 @@
 package com.tiquetera.events.application.usecase;
 
 import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
 import com.tiquetera.events.domain.ports.in.CreateEventUseCase;
 import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.EventSearchIndexPort;
+import com.tiquetera.events.domain.ports.out.VenueBookingPort;
+import com.tiquetera.events.domain.ports.out.VenueCalendarPort;
 
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +25,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateEventService implements CreateEventUseCase {
 
     private final EventRepositoryPort eventRepository;
+    private final EventSearchIndexPort searchIndex;
+    private final VenueCalendarPort venueCalendar;
+    private final VenueBookingPort venueBookings;
 
     @Override
     public Event execute(Event event) {
@@ -29,8 +36,8 @@ public class CreateEventService implements CreateEventUseCase {
         // Por ahora, asumimos que el frontend ya validó que el venue existe.
 
         // Asignar estado por defecto si no viene
-        if (event.getStatus() == null || event.getStatus().isBlank()) {
-            event.setStatus("SCHEDULED");
+        if (event.getStatus() == null) {
+            event.setStatus(EventStatus.SCHEDULED);
         }
 
         // Establecer timestamps
@@ -39,6 +46,10 @@ public class CreateEventService implements CreateEventUseCase {
         event.setUpdatedAt(now);
 
         // Guardar el evento
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        venueBookings.reserve(saved);
+        searchIndex.index(saved);
+        venueCalendar.recordChange(null, saved);
+        return saved;
     }
 }
@@ -1,8 +1,12 @@
 package com.tiquetera.events.application.usecase;
 
 import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.domain.model.Event;
 import com.tiquetera.events.domain.ports.in.DeleteEventUseCase;
 import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.EventSearchIndexPort;
+import com.tiquetera.events.domain.ports.out.VenueBookingPort;
+import com.tiquetera.events.domain.ports.out.VenueCalendarPort;
 
 /**
  * Implementación del caso de uso para eliminar eventos.
@@ -13,16 +17,26 @@ import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
 public class DeleteEventService implements DeleteEventUseCase {
 
     private final EventRepositoryPort eventRepository;
+    private final EventSearchIndexPort searchIndex;
+    private final VenueCalendarPort venueCalendar;
+    private final VenueBookingPort venueBookings;
 
-    public DeleteEventService(EventRepositoryPort eventRepository) {
+    public DeleteEventService(EventRepositoryPort eventRepository, EventSearchIndexPort searchIndex,
+            VenueCalendarPort venueCalendar, VenueBookingPort venueBookings) {
         this.eventRepository = eventRepository;
+        this.searchIndex = searchIndex;
+        this.venueCalendar = venueCalendar;
+        this.venueBookings = venueBookings;
     }
 
     @Override
     public void execute(Long id) {
-        if (!eventRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Evento no encontrado con ID: " + id);
-        }
+        // Se carga el evento completo para descontarlo del calendario
+        Event existing = eventRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento no encontrado con ID: " + id));
         eventRepository.deleteById(id);
+        searchIndex.remove(id);
+        venueBookings.release(id);
+        venueCalendar.recordChange(existing, null);
     }
 }
@@ -27,4 +27,11 @@ public class GetEventService implements GetEventUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Evento no encontrado con ID: " + id));
     }
+
+    @Override
+    public Long getVersion(Long id) {
+        return eventRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Evento no encontrado con ID: " + id));
+    }
 }
@@ -1,19 +1,32 @@
 package com.tiquetera.events.application.usecase;
 
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.CalendarRange;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
 import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.PageSize;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
 import com.tiquetera.events.domain.ports.in.ListEventsUseCase;
 import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.VenueCalendarPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementación del caso de uso para listar eventos - Microservicio Events
  * 
  * @author Ticketing Team
- * @version 3.0 - Microservices Architecture
+ * @version 3.16 - Reactive Reads
  */
 @Service
 @RequiredArgsConstructor
@@ -21,19 +34,73 @@ import java.util.List;
 public class ListEventsService implements ListEventsUseCase {
 
     private final EventRepositoryPort eventRepository;
+    private final VenueCalendarPort venueCalendar;
 
     @Override
-    public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+    public List<EventSummary> getAllEvents() {
+        return eventRepository.findAllSummaries();
     }
 
     @Override
-    public List<Event> getEventsByVenueId(Long venueId) {
-        return eventRepository.findByVenueId(venueId);
+    public ChangeStamp getEventsChangeStamp() {
+        return eventRepository.getChangeStamp();
     }
 
     @Override
-    public List<Event> getEventsByStatus(String status) {
-        return eventRepository.findByStatus(status);
+    public void forEachEvent(Consumer<Event> action) {
+        try (Stream<Event> events = eventRepository.streamAll()) {
+            events.forEach(action);
+        }
+    }
+
+    @Override
+    public List<EventSummary> getEventsByVenueId(Long venueId) {
+        return eventRepository.findSummariesByVenueId(venueId);
+    }
+
+    @Override
+    public ChangeStamp getEventsChangeStampByVenueId(Long venueId) {
+        return eventRepository.getChangeStampByVenueId(venueId);
+    }
+
+    @Override
+    public List<EventSummary> getEventsByStatus(String status) {
+        return eventRepository.findSummariesByStatus(EventStatus.from(status));
+    }
+
+    @Override
+    public ChangeStamp getEventsChangeStampByStatus(String status) {
+        return eventRepository.getChangeStampByStatus(EventStatus.from(status));
+    }
+
+    @Override
+    public CursorPage<Event> getEventsPage(String cursor, Integer size) {
+        return eventRepository.findAll(EventCursor.decode(cursor), PageSize.bounded(size));
+    }
+
+    @Override
+    public CursorPage<Event> getEventsPageByVenueId(Long venueId, String cursor, Integer size) {
+        return eventRepository.findByVenueId(venueId, EventCursor.decode(cursor), PageSize.bounded(size));
+    }
+
+    @Override
+    public CursorPage<Event> getEventsPageByStatus(String status, String cursor, Integer size) {
+        return eventRepository.findByStatus(EventStatus.from(status), EventCursor.decode(cursor), PageSize.bounded(size));
+    }
+
+    @Override
+    public List<Event> getUpcomingEvents(Integer limit) {
+        return eventRepository.findUpcoming(LocalDateTime.now(), PageSize.bounded(limit));
+    }
+
+    @Override
+    public List<Event> getUpcomingEventsByVenueId(Long venueId, Integer limit) {
+        return eventRepository.findUpcomingByVenueId(venueId, LocalDateTime.now(), PageSize.bounded(limit));
+    }
+
+    @Override
+    public List<CalendarDay> getVenueCalendar(Long venueId, LocalDate from, LocalDate to) {
+        CalendarRange range = new CalendarRange(from, to);
+        return venueCalendar.getCalendar(venueId, range.from(), range.to());
     }
 }
@@ -0,0 +1,62 @@
+package com.tiquetera.events.application.usecase;
+
+import com.tiquetera.events.domain.exception.InvalidSearchCriteriaException;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.PageSize;
+import com.tiquetera.events.domain.ports.in.SearchEventsUseCase;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.EventSearchIndexPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del caso de uso para buscar eventos - Microservicio Events
+ * 
+ * @author Ticketing Team
+ * @version 3.16 - Reactive Reads
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchEventsService implements SearchEventsUseCase {
+
+    private final EventRepositoryPort eventRepository;
+    private final EventSearchIndexPort searchIndex;
+
+    @Override
+    public CursorPage<Event> search(EventSearchCriteria criteria, String cursor, Integer size) {
+        EventSearchCriteria normalized = criteria.normalized();
+        EventCursor after = EventCursor.decode(cursor);
+        normalized.checkCursor(after);
+        return eventRepository.search(normalized, after, PageSize.bounded(size));
+    }
+
+    @Override
+    public List<Event> searchByText(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchCriteriaException("El texto a buscar es obligatorio");
+        }
+        List<Long> ids = searchIndex.search(query, PageSize.bounded(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Se cargan por clave primaria y se devuelven en el orden del índice
+        Map<Long, Event> byId = eventRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -4,6 +4,9 @@ import com.tiquetera.events.domain.exception.ResourceNotFoundException;
 import com.tiquetera.events.domain.model.Event;
 import com.tiquetera.events.domain.ports.in.UpdateEventUseCase;
 import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.EventSearchIndexPort;
+import com.tiquetera.events.domain.ports.out.VenueBookingPort;
+import com.tiquetera.events.domain.ports.out.VenueCalendarPort;
 
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -22,24 +25,35 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateEventService implements UpdateEventUseCase {
 
     private final EventRepositoryPort eventRepository;
+    private final EventSearchIndexPort searchIndex;
+    private final VenueCalendarPort venueCalendar;
+    private final VenueBookingPort venueBookings;
 
     @Override
     public Event execute(Long id, Event event) {
         // Verificar que el evento existe
         Event existingEvent = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Evento no encontrado con ID: " + id));
+        Event previous = existingEvent.copy();
 
         // Actualizar solo los campos que pueden cambiar
         existingEvent.setName(event.getName());
         existingEvent.setDescription(event.getDescription());
         existingEvent.setEventDate(event.getEventDate());
+        existingEvent.setEndDate(event.getEndDate());
         existingEvent.setVenueId(event.getVenueId());
         existingEvent.setVenueName(event.getVenueName());
         existingEvent.setCapacity(event.getCapacity());
         existingEvent.setTicketPrice(event.getTicketPrice());
-        existingEvent.setStatus(event.getStatus());
+        if (event.getStatus() != null) {
+            existingEvent.setStatus(event.getStatus());
+        }
         existingEvent.setUpdatedAt(LocalDateTime.now());
 
-        return eventRepository.save(existingEvent);
+        Event saved = eventRepository.save(existingEvent);
+        venueBookings.reserve(saved);
+        searchIndex.index(saved);
+        venueCalendar.recordChange(previous, saved);
+        return saved;
     }
 }
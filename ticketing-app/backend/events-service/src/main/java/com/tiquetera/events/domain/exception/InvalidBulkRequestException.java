@@ -0,0 +1,15 @@
+package com.tiquetera.events.domain.exception;
+
+/**
+ * Excepción de dominio para operaciones masivas inválidas
+ * (lote vacío o demasiado grande, IDs repetidos, elementos inválidos).
+ * 
+ * @author Ticketing Team
+ * @version 3.10 - Bulk Events
+ */
+public class InvalidBulkRequestException extends RuntimeException {
+
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
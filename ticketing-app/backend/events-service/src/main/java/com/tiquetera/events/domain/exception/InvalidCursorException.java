@@ -0,0 +1,18 @@
+package com.tiquetera.events.domain.exception;
+
+/**
+ * Excepción de dominio para cursores de paginación mal formados.
+ * 
+ * @author Ticketing Team
+ * @version 3.1 - Keyset Pagination
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
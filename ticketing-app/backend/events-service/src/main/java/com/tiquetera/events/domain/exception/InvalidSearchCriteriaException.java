@@ -0,0 +1,15 @@
+package com.tiquetera.events.domain.exception;
+
+/**
+ * Excepción de dominio para criterios de búsqueda incoherentes
+ * (rangos invertidos, orden desconocido, etc.).
+ * 
+ * @author Ticketing Team
+ * @version 3.7 - Event Search
+ */
+public class InvalidSearchCriteriaException extends RuntimeException {
+
+    public InvalidSearchCriteriaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.tiquetera.events.domain.exception;
+
+/**
+ * Excepción de dominio para estados que no corresponden a ningún valor conocido.
+ * 
+ * @author Ticketing Team
+ * @version 3.6 - Status Enum
+ */
+public class InvalidStatusException extends RuntimeException {
+
+    public InvalidStatusException(String message) {
+        super(message);
+    }
+}
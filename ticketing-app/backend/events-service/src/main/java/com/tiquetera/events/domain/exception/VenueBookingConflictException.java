@@ -0,0 +1,22 @@
+package com.tiquetera.events.domain.exception;
+
+/**
+ * Excepción de dominio cuando el horario de un evento se solapa con otro
+ * evento del mismo venue.
+ * 
+ * @author Ticketing Team
+ * @version 3.13 - Venue Booking
+ */
+public class VenueBookingConflictException extends RuntimeException {
+
+    private final Long conflictingEventId;
+
+    public VenueBookingConflictException(Long venueId, Long conflictingEventId) {
+        super("El venue " + venueId + " ya tiene el evento " + conflictingEventId + " en ese horario");
+        this.conflictingEventId = conflictingEventId;
+    }
+
+    public Long getConflictingEventId() {
+        return conflictingEventId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.tiquetera.events.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Resumen de un día del calendario de un venue: cuántos eventos empiezan ese
+ * día y la capacidad total que suman. Los eventos cancelados no cuentan.
+ * 
+ * @author Ticketing Team
+ * @version 3.12 - Venue Calendar
+ */
+public record CalendarDay(
+        LocalDate date,
+        Long eventCount,
+        Long totalCapacity) {
+
+    /**
+     * Suma al día la contribución de un evento (signo negativo para restarla).
+     */
+    public CalendarDay plus(long events, long capacity) {
+        return new CalendarDay(date, eventCount + events, totalCapacity + capacity);
+    }
+}
@@ -0,0 +1,43 @@
+package com.tiquetera.events.domain.model;
+
+import com.tiquetera.events.domain.exception.InvalidSearchCriteriaException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Rango de días, ambos incluidos, del calendario de un venue.
+ * 
+ * @author Ticketing Team
+ * @version 3.16 - Reactive Reads
+ */
+public record CalendarRange(LocalDate from, LocalDate to) {
+
+    public static final int MAX_DAYS = 366;
+
+    /**
+     * @throws InvalidSearchCriteriaException si from es posterior a to o el
+     *         rango supera {@value #MAX_DAYS} días
+     */
+    public CalendarRange {
+        if (from.isAfter(to)) {
+            throw new InvalidSearchCriteriaException("La fecha inicial no puede ser posterior a la fecha final");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new InvalidSearchCriteriaException("El rango del calendario no puede superar "
+                    + MAX_DAYS + " días");
+        }
+    }
+
+    public LocalDateTime start() {
+        return from.atStartOfDay();
+    }
+
+    /**
+     * Inicio del día siguiente a to, como límite exclusivo.
+     */
+    public LocalDateTime end() {
+        return to.plusDays(1).atStartOfDay();
+    }
+}
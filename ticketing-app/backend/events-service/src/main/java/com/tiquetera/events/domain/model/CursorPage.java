@@ -0,0 +1,35 @@
+package com.tiquetera.events.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de resultados obtenida con paginación por cursor (keyset).
+ * 
+ * No conoce el total de registros: solo los elementos de la página y el
+ * cursor opaco para pedir la siguiente (null si no hay más resultados).
+ * 
+ * @author Ticketing Team
+ * @version 3.1 - Keyset Pagination
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -25,9 +25,10 @@ public class Event {
     private String venueName;
     private Integer capacity;
     private BigDecimal ticketPrice;
-    private String status;
+    private EventStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     // Constructor vacío
     public Event() {
@@ -36,7 +37,7 @@ public class Event {
     // Constructor completo
     public Event(Long id, String name, String description, LocalDateTime eventDate, LocalDateTime endDate,
             Long venueId, String venueName, Integer capacity, BigDecimal ticketPrice,
-            String status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            EventStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -51,13 +52,23 @@ public class Event {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Crea una copia independiente del evento, incluida su versión.
+     */
+    public Event copy() {
+        Event copy = new Event(id, name, description, eventDate, endDate, venueId, venueName, capacity,
+                ticketPrice, status, createdAt, updatedAt);
+        copy.setVersion(version);
+        return copy;
+    }
+
     // Métodos de lógica de negocio
 
     /**
      * Verifica si el evento está activo.
      */
     public boolean isActive() {
-        return "ACTIVE".equalsIgnoreCase(this.status);
+        return this.status == EventStatus.ACTIVE;
     }
 
     /**
@@ -82,7 +93,7 @@ public class Event {
         if (!canBeCancelled()) {
             throw new IllegalStateException("El evento no puede ser cancelado");
         }
-        this.status = "CANCELLED";
+        this.status = EventStatus.CANCELLED;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -93,7 +104,7 @@ public class Event {
         if (!isActive()) {
             throw new IllegalStateException("Solo eventos activos pueden ser completados");
         }
-        this.status = "COMPLETED";
+        this.status = EventStatus.COMPLETED;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -171,11 +182,11 @@ public class Event {
         this.ticketPrice = ticketPrice;
     }
 
-    public String getStatus() {
+    public EventStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(EventStatus status) {
         this.status = status;
     }
 
@@ -195,6 +206,14 @@ public class Event {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // equals y hashCode basados en el ID
 
     @Override
@@ -219,7 +238,7 @@ public class Event {
                 ", name='" + name + '\'' +
                 ", eventDate=" + eventDate +
                 ", endDate=" + endDate +
-                ", status='" + status + '\'' +
+                ", status=" + status +
                 '}';
     }
 }
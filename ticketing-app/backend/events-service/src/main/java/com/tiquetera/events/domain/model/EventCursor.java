@@ -0,0 +1,97 @@
+package com.tiquetera.events.domain.model;
+
+import com.tiquetera.events.domain.exception.InvalidCursorException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición de un evento dentro del orden (eventDate, id).
+ * 
+ * Es la clave de la paginación keyset: la siguiente página empieza en el
+ * primer evento estrictamente posterior a esta posición. Guarda también el
+ * precio del evento para la búsqueda ordenada por (ticketPrice, id). Se serializa como
+ * un token opaco en Base64 URL-safe para que el cliente no dependa de su
+ * formato interno.
+ * 
+ * @author Ticketing Team
+ * @version 3.1 - Keyset Pagination
+ */
+public class EventCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime eventDate;
+    private final Long id;
+    private final BigDecimal ticketPrice;
+
+    public EventCursor(LocalDateTime eventDate, Long id) {
+        this(eventDate, id, null);
+    }
+
+    public EventCursor(LocalDateTime eventDate, Long id, BigDecimal ticketPrice) {
+        this.eventDate = eventDate;
+        this.id = id;
+        this.ticketPrice = ticketPrice;
+    }
+
+    /**
+     * Construye el cursor que apunta al evento dado.
+     */
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.getEventDate(), event.getId(), event.getTicketPrice());
+    }
+
+    /**
+     * Decodifica un token opaco generado por {@link #encode()}.
+     * 
+     * @param token el token recibido del cliente (null o vacío = primera página)
+     * @return el cursor, o null si el token está vacío
+     * @throws InvalidCursorException si el token no es válido
+     */
+    public static EventCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length < 2 || parts.length > 3) {
+                throw new InvalidCursorException("Cursor inválido: " + token);
+            }
+            return new EventCursor(
+                    LocalDateTime.parse(parts[0]),
+                    Long.valueOf(parts[1]),
+                    parts.length == 3 ? new BigDecimal(parts[2]) : null);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Cursor inválido: " + token, ex);
+        }
+    }
+
+    /**
+     * Codifica el cursor como token opaco.
+     */
+    public String encode() {
+        String raw = eventDate + SEPARATOR + id;
+        if (ticketPrice != null) {
+            raw += SEPARATOR + ticketPrice.toPlainString();
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getEventDate() {
+        return eventDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public BigDecimal getTicketPrice() {
+        return ticketPrice;
+    }
+}
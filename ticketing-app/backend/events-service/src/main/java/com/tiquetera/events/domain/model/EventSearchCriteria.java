@@ -0,0 +1,54 @@
+package com.tiquetera.events.domain.model;
+
+import com.tiquetera.events.domain.exception.InvalidSearchCriteriaException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Criterios de búsqueda de eventos.
+ * 
+ * Todos los filtros son opcionales; los que llegan en null no restringen
+ * el resultado.
+ * 
+ * @author Ticketing Team
+ * @version 3.16 - Reactive Reads
+ */
+public record EventSearchCriteria(
+        Long venueId,
+        EventStatus status,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        EventSort sort) {
+
+    /**
+     * Valida los rangos y devuelve los criterios con el orden por defecto
+     * (DATE_ASC) si no traen uno.
+     * 
+     * @throws InvalidSearchCriteriaException si un rango está invertido
+     */
+    public EventSearchCriteria normalized() {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidSearchCriteriaException("La fecha inicial no puede ser posterior a la fecha final");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidSearchCriteriaException("El precio mínimo no puede ser mayor que el precio máximo");
+        }
+        return sort != null ? this
+                : new EventSearchCriteria(venueId, status, startDate, endDate, minPrice, maxPrice, EventSort.DATE_ASC);
+    }
+
+    /**
+     * Comprueba que el cursor sirve para el orden de la búsqueda: uno de una
+     * búsqueda por fecha no lleva precio y no puede continuar una por precio.
+     * 
+     * @throws InvalidSearchCriteriaException si el cursor no corresponde
+     */
+    public void checkCursor(EventCursor after) {
+        if (after != null && sort != null && sort.byPrice() && after.getTicketPrice() == null) {
+            throw new InvalidSearchCriteriaException("El cursor no corresponde a una búsqueda ordenada por precio");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.tiquetera.events.domain.model;
+
+import com.tiquetera.events.domain.exception.InvalidSearchCriteriaException;
+
+import java.util.Locale;
+
+/**
+ * Órdenes admitidos por la búsqueda de eventos.
+ * 
+ * Cada orden usa el ID como desempate, de modo que la posición de un evento
+ * es única y se puede paginar por cursor.
+ * 
+ * @author Ticketing Team
+ * @version 3.7 - Event Search
+ */
+public enum EventSort {
+    DATE_ASC,
+    DATE_DESC,
+    PRICE_ASC,
+    PRICE_DESC;
+
+    /**
+     * Interpreta el orden recibido como texto, sin distinguir mayúsculas.
+     * 
+     * @param value nombre del orden (null o vacío = DATE_ASC)
+     * @return orden correspondiente
+     * @throws InvalidSearchCriteriaException si el valor no es un orden conocido
+     */
+    public static EventSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return DATE_ASC;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidSearchCriteriaException("Orden no válido: " + value);
+        }
+    }
+
+    public boolean byPrice() {
+        return this == PRICE_ASC || this == PRICE_DESC;
+    }
+
+    public boolean descending() {
+        return this == DATE_DESC || this == PRICE_DESC;
+    }
+}
@@ -0,0 +1,40 @@
+package com.tiquetera.events.domain.model;
+
+import com.tiquetera.events.domain.exception.InvalidStatusException;
+
+import java.util.Locale;
+
+/**
+ * Estados posibles de un evento.
+ * 
+ * Se persiste por nombre en mayúsculas, que es la forma canónica de la
+ * columna events.status; así los filtros por estado comparan por igualdad
+ * exacta y pueden usar el índice.
+ * 
+ * @author Ticketing Team
+ * @version 3.6 - Status Enum
+ */
+public enum EventStatus {
+    SCHEDULED,
+    ACTIVE,
+    CANCELLED,
+    COMPLETED;
+
+    /**
+     * Interpreta un estado recibido como texto, sin distinguir mayúsculas.
+     * 
+     * @param value nombre del estado
+     * @return estado correspondiente
+     * @throws InvalidStatusException si el valor no es un estado conocido
+     */
+    public static EventStatus from(String value) {
+        if (value == null || value.isBlank()) {
+            throw new InvalidStatusException("El estado del evento es obligatorio");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidStatusException("Estado de evento no válido: " + value);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.tiquetera.events.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Vista de solo lectura de un evento para listados.
+ * 
+ * Se construye directamente desde la consulta (proyección por constructor),
+ * sin pasar por la entidad JPA ni por {@link Event}, por lo que no ocupa el
+ * contexto de persistencia ni se revisa en el dirty checking.
+ * 
+ * @author Ticketing Team
+ * @version 3.4 - Read Projections
+ */
+public record EventSummary(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime eventDate,
+        LocalDateTime endDate,
+        Long venueId,
+        String venueName,
+        Integer capacity,
+        BigDecimal ticketPrice,
+        EventStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
@@ -0,0 +1,30 @@
+package com.tiquetera.events.domain.model;
+
+/**
+ * Tamaño de página de los listados, las búsquedas y los próximos eventos.
+ * 
+ * @author Ticketing Team
+ * @version 3.16 - Reactive Reads
+ */
+public final class PageSize {
+
+    public static final int DEFAULT = 20;
+    public static final int MAX = 100;
+
+    private PageSize() {
+    }
+
+    /**
+     * Acota el tamaño pedido para que ninguna petición cargue la tabla
+     * completa.
+     * 
+     * @param size tamaño pedido (null o no positivo = {@value #DEFAULT})
+     * @return tamaño entre 1 y {@value #MAX}
+     */
+    public static int bounded(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT;
+        }
+        return Math.min(size, MAX);
+    }
+}
@@ -0,0 +1,55 @@
+package com.tiquetera.events.domain.ports.in;
+
+import com.tiquetera.events.domain.model.Event;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para crear, actualizar y eliminar eventos en lote.
+ * 
+ * Cada operación se ejecuta en una sola transacción: o se aplica el lote
+ * completo o no se aplica ningún elemento.
+ * 
+ * @author Ticketing Team
+ * @version 3.10 - Bulk Events
+ */
+public interface BulkEventsUseCase {
+
+    /**
+     * Número máximo de eventos aceptados por lote.
+     */
+    int MAX_BATCH_SIZE = 10_000;
+
+    /**
+     * Crea todos los eventos del lote.
+     * 
+     * @param events eventos a crear (sin ID)
+     * @return eventos creados con ID asignado, en el mismo orden
+     */
+    List<Event> createAll(List<Event> events);
+
+    /**
+     * Actualiza todos los eventos del lote.
+     * 
+     * @param events eventos a actualizar (con ID)
+     * @return eventos actualizados, en el mismo orden
+     * @throws com.tiquetera.events.domain.exception.ResourceNotFoundException si
+     *                                                                         algún
+     *                                                                         evento
+     *                                                                         no
+     *                                                                         existe
+     */
+    List<Event> updateAll(List<Event> events);
+
+    /**
+     * Elimina todos los eventos del lote.
+     * 
+     * @param ids IDs de los eventos a eliminar
+     * @throws com.tiquetera.events.domain.exception.ResourceNotFoundException si
+     *                                                                         algún
+     *                                                                         evento
+     *                                                                         no
+     *                                                                         existe
+     */
+    void deleteAll(List<Long> ids);
+}
@@ -20,4 +20,15 @@ public interface GetEventUseCase {
      *                                                                             existe
      */
     Event execute(Long id);
+
+    /**
+     * Obtiene la versión actual de un evento sin cargarlo completo.
+     * 
+     * @param id El ID del evento
+     * @return La versión del evento
+     * @throws com.tiquetera.events.domain.exception.ResourceNotFoundException si
+     *                                                                         no
+     *                                                                         existe
+     */
+    Long getVersion(Long id);
 }
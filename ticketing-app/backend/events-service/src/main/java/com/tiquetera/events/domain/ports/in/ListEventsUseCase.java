@@ -1,7 +1,13 @@
 package com.tiquetera.events.domain.ports.in;
 
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
 import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventSummary;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Puerto de entrada para listar eventos con varios filtros.
@@ -14,15 +20,79 @@ public interface ListEventsUseCase {
     /**
      * Obtiene todos los eventos.
      */
-    List<Event> getAllEvents();
+    List<EventSummary> getAllEvents();
+
+    /**
+     * Obtiene el número de eventos y la fecha de la última modificación,
+     * para saber si el listado completo cambió sin cargarlo.
+     */
+    ChangeStamp getEventsChangeStamp();
+
+    /**
+     * Recorre todos los eventos uno a uno, sin cargarlos en memoria.
+     * 
+     * @param action acción a ejecutar por cada evento
+     */
+    void forEachEvent(Consumer<Event> action);
 
     /**
      * Obtiene eventos por venue ID.
      */
-    List<Event> getEventsByVenueId(Long venueId);
+    List<EventSummary> getEventsByVenueId(Long venueId);
+
+    /**
+     * Obtiene el número de eventos de un venue y la fecha de su última
+     * modificación, para saber si su listado cambió sin cargarlo.
+     */
+    ChangeStamp getEventsChangeStampByVenueId(Long venueId);
 
     /**
      * Obtiene eventos por estado.
      */
-    List<Event> getEventsByStatus(String status);
+    List<EventSummary> getEventsByStatus(String status);
+
+    /**
+     * Obtiene el número de eventos con un estado y la fecha de su última
+     * modificación, para saber si su listado cambió sin cargarlo.
+     */
+    ChangeStamp getEventsChangeStampByStatus(String status);
+
+    /**
+     * Obtiene una página de eventos usando paginación por cursor.
+     * 
+     * @param cursor token opaco de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado (se acota al máximo permitido)
+     */
+    CursorPage<Event> getEventsPage(String cursor, Integer size);
+
+    /**
+     * Obtiene una página de eventos de un venue usando paginación por cursor.
+     */
+    CursorPage<Event> getEventsPageByVenueId(Long venueId, String cursor, Integer size);
+
+    /**
+     * Obtiene una página de eventos por estado usando paginación por cursor.
+     */
+    CursorPage<Event> getEventsPageByStatus(String status, String cursor, Integer size);
+
+    /**
+     * Obtiene los próximos eventos programados, del más cercano al más lejano.
+     * 
+     * @param limit número de eventos solicitado (se acota al máximo permitido)
+     */
+    List<Event> getUpcomingEvents(Integer limit);
+
+    /**
+     * Obtiene los próximos eventos programados de un venue.
+     */
+    List<Event> getUpcomingEventsByVenueId(Long venueId, Integer limit);
+
+    /**
+     * Obtiene el número de eventos y la capacidad total por día de un venue,
+     * sin contar los eventos cancelados.
+     * 
+     * @param from primer día del rango (inclusive)
+     * @param to   último día del rango (inclusive, máximo 366 días)
+     */
+    List<CalendarDay> getVenueCalendar(Long venueId, LocalDate from, LocalDate to);
 }
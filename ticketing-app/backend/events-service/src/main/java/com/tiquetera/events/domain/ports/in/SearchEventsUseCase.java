@@ -0,0 +1,37 @@
+package com.tiquetera.events.domain.ports.in;
+
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para buscar eventos combinando filtros.
+ * 
+ * @author Ticketing Team
+ * @version 3.7 - Event Search
+ */
+public interface SearchEventsUseCase {
+
+    /**
+     * Busca eventos por venue, estado, rango de fechas y rango de precios,
+     * paginando por cursor en el orden pedido.
+     * 
+     * @param criteria filtros y orden de la búsqueda
+     * @param cursor   cursor opaco de la página anterior (null = primera página)
+     * @param size     tamaño de página (null = tamaño por defecto)
+     * @return página de eventos
+     */
+    CursorPage<Event> search(EventSearchCriteria criteria, String cursor, Integer size);
+
+    /**
+     * Busca eventos por texto libre en nombre y descripción, del más
+     * relevante al menos relevante.
+     * 
+     * @param query texto a buscar
+     * @param limit número máximo de resultados (null = tamaño por defecto)
+     * @return lista de eventos encontrados
+     */
+    List<Event> searchByText(String query, Integer limit);
+}
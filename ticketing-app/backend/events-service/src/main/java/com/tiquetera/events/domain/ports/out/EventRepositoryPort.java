@@ -1,10 +1,18 @@
 package com.tiquetera.events.domain.ports.out;
 
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
 import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida (Output Port) para la persistencia de eventos.
@@ -26,6 +34,16 @@ public interface EventRepositoryPort {
      */
     Event save(Event event);
 
+    /**
+     * Guarda un lote de eventos (crear o actualizar) en la transacción
+     * actual, agrupando las sentencias en batches JDBC.
+     * 
+     * @param events Los eventos a guardar
+     * @return Los eventos guardados, en el mismo orden, con ID generado si
+     *         son nuevos
+     */
+    List<Event> saveAll(List<Event> events);
+
     /**
      * Busca un evento por su ID.
      * 
@@ -34,6 +52,39 @@ public interface EventRepositoryPort {
      */
     Optional<Event> findById(Long id);
 
+    /**
+     * Obtiene solo la versión de un evento, sin cargar la fila completa.
+     * 
+     * @param id El ID del evento
+     * @return Optional con la versión si el evento existe
+     */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Obtiene el número de eventos y la fecha de la última modificación.
+     * 
+     * @return resumen del estado de la tabla de eventos
+     */
+    ChangeStamp getChangeStamp();
+
+    /**
+     * Obtiene el número de eventos de un venue y la fecha de su última
+     * modificación.
+     * 
+     * @param venueId El ID del venue
+     * @return resumen del estado de los eventos del venue
+     */
+    ChangeStamp getChangeStampByVenueId(Long venueId);
+
+    /**
+     * Obtiene el número de eventos con un estado y la fecha de su última
+     * modificación.
+     * 
+     * @param status El estado a buscar
+     * @return resumen del estado de los eventos con ese estado
+     */
+    ChangeStamp getChangeStampByStatus(EventStatus status);
+
     /**
      * Obtiene todos los eventos.
      * 
@@ -41,6 +92,47 @@ public interface EventRepositoryPort {
      */
     List<Event> findAll();
 
+    /**
+     * Obtiene los eventos con los IDs dados, en cualquier orden.
+     * Los IDs que no existen se omiten.
+     * 
+     * @param ids Los IDs a buscar
+     * @return Lista de eventos encontrados
+     */
+    List<Event> findAllById(List<Long> ids);
+
+    /**
+     * Obtiene todos los eventos como vistas de solo lectura para listados.
+     * 
+     * @return Lista de resúmenes de todos los eventos
+     */
+    List<EventSummary> findAllSummaries();
+
+    /**
+     * Obtiene los eventos de un venue como vistas de solo lectura.
+     * 
+     * @param venueId El ID del venue
+     * @return Lista de resúmenes de eventos en ese venue
+     */
+    List<EventSummary> findSummariesByVenueId(Long venueId);
+
+    /**
+     * Obtiene los eventos con un estado como vistas de solo lectura.
+     * 
+     * @param status El estado a buscar
+     * @return Lista de resúmenes de eventos con ese estado
+     */
+    List<EventSummary> findSummariesByStatus(EventStatus status);
+
+    /**
+     * Recorre todos los eventos sin cargarlos en memoria a la vez.
+     * 
+     * El llamador debe estar dentro de una transacción y cerrar el stream.
+     * 
+     * @return Stream de todos los eventos
+     */
+    Stream<Event> streamAll();
+
     /**
      * Busca eventos por ID de venue.
      * 
@@ -55,7 +147,37 @@ public interface EventRepositoryPort {
      * @param status El estado a buscar
      * @return Lista de eventos con ese estado
      */
-    List<Event> findByStatus(String status);
+    List<Event> findByStatus(EventStatus status);
+
+    /**
+     * Obtiene una página de eventos ordenados por (eventDate, id).
+     * 
+     * @param after posición del último evento de la página anterior (null para
+     *              la primera página)
+     * @param limit número máximo de eventos a retornar
+     * @return la página con el cursor de la siguiente
+     */
+    CursorPage<Event> findAll(EventCursor after, int limit);
+
+    /**
+     * Obtiene una página de eventos de un venue ordenados por (eventDate, id).
+     * 
+     * @param venueId El ID del venue
+     * @param after   posición del último evento de la página anterior
+     * @param limit   número máximo de eventos a retornar
+     * @return la página con el cursor de la siguiente
+     */
+    CursorPage<Event> findByVenueId(Long venueId, EventCursor after, int limit);
+
+    /**
+     * Obtiene una página de eventos con un estado ordenados por (eventDate, id).
+     * 
+     * @param status El estado a buscar
+     * @param after  posición del último evento de la página anterior
+     * @param limit  número máximo de eventos a retornar
+     * @return la página con el cursor de la siguiente
+     */
+    CursorPage<Event> findByStatus(EventStatus status, EventCursor after, int limit);
 
     /**
      * Elimina un evento por su ID.
@@ -64,6 +186,14 @@ public interface EventRepositoryPort {
      */
     void deleteById(Long id);
 
+    /**
+     * Elimina un lote de eventos con una sola sentencia.
+     * 
+     * @param ids Los IDs de los eventos a eliminar
+     * @return número de eventos eliminados
+     */
+    int deleteAllById(List<Long> ids);
+
     /**
      * Verifica si existe un evento con el ID dado.
      * 
@@ -72,5 +202,59 @@ public interface EventRepositoryPort {
      */
     boolean existsById(Long id);
 
-    List<Event> findByFilters(Long venueId, String status, LocalDateTime startDate, LocalDateTime endDate);
+    List<Event> findByFilters(Long venueId, EventStatus status, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Busca eventos que cumplen los criterios, en el orden pedido, a partir
+     * de un cursor.
+     * 
+     * @param criteria filtros y orden de la búsqueda
+     * @param after    posición del último evento de la página anterior (null = primera página)
+     * @param limit    número máximo de eventos a retornar
+     * @return página de eventos con el cursor de la siguiente
+     */
+    CursorPage<Event> search(EventSearchCriteria criteria, EventCursor after, int limit);
+
+    /**
+     * Obtiene los próximos eventos programados a partir de una fecha,
+     * ordenados por fecha.
+     * 
+     * @param from  fecha desde la que se consideran próximos
+     * @param limit número máximo de eventos a retornar
+     * @return lista de eventos próximos
+     */
+    List<Event> findUpcoming(LocalDateTime from, int limit);
+
+    /**
+     * Obtiene los próximos eventos programados de un venue a partir de una
+     * fecha, ordenados por fecha.
+     * 
+     * @param venueId El ID del venue
+     * @param from    fecha desde la que se consideran próximos
+     * @param limit   número máximo de eventos a retornar
+     * @return lista de eventos próximos
+     */
+    List<Event> findUpcomingByVenueId(Long venueId, LocalDateTime from, int limit);
+
+    /**
+     * Agrupa por día los eventos no cancelados de un venue en un rango.
+     * 
+     * @param venueId El ID del venue
+     * @param start   inicio del rango (inclusive)
+     * @param end     fin del rango (exclusivo)
+     * @return días con al menos un evento, ordenados por fecha
+     */
+    List<CalendarDay> findCalendar(Long venueId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Busca un evento no cancelado de un venue cuyo horario se solapa con
+     * un rango. Un evento sin fecha de fin ocupa solo su fecha de inicio.
+     * 
+     * @param venueId    El ID del venue
+     * @param start      inicio del rango (inclusive)
+     * @param end        fin del rango (exclusivo)
+     * @param excludedId ID del evento que se está comprobando
+     * @return ID de un evento que se solapa, si existe
+     */
+    Optional<Long> findOverlappingEventId(Long venueId, LocalDateTime start, LocalDateTime end, Long excludedId);
 }
@@ -0,0 +1,40 @@
+package com.tiquetera.events.domain.ports.out;
+
+import com.tiquetera.events.domain.model.Event;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para el índice de texto de eventos.
+ * 
+ * Indexa nombre y descripción para búsquedas por texto libre sin recorrer
+ * la tabla de eventos.
+ * 
+ * @author Ticketing Team
+ * @version 3.8 - Text Search
+ */
+public interface EventSearchIndexPort {
+
+    /**
+     * Agrega o actualiza un evento en el índice.
+     * 
+     * @param event El evento a indexar
+     */
+    void index(Event event);
+
+    /**
+     * Quita un evento del índice.
+     * 
+     * @param id El ID del evento
+     */
+    void remove(Long id);
+
+    /**
+     * Busca eventos por texto libre.
+     * 
+     * @param query texto a buscar
+     * @param limit número máximo de resultados
+     * @return IDs de los eventos encontrados, del más relevante al menos relevante
+     */
+    List<Long> search(String query, int limit);
+}
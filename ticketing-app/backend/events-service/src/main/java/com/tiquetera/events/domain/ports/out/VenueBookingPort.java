@@ -0,0 +1,34 @@
+package com.tiquetera.events.domain.ports.out;
+
+import com.tiquetera.events.domain.exception.VenueBookingConflictException;
+import com.tiquetera.events.domain.model.Event;
+
+/**
+ * Puerto de salida para los horarios ocupados de cada venue.
+ * 
+ * Un evento ocupa su venue desde eventDate hasta endDate (exclusivo); sin
+ * fecha de fin ocupa solo su fecha de inicio. Los eventos cancelados no
+ * ocupan el venue.
+ * 
+ * @author Ticketing Team
+ * @version 3.13 - Venue Booking
+ */
+public interface VenueBookingPort {
+
+    /**
+     * Comprueba que un evento ya guardado no se solapa con otro de su venue
+     * y reserva su horario. La reserva se confirma o se deshace con la
+     * transacción actual.
+     * 
+     * @param event El evento guardado (con ID)
+     * @throws VenueBookingConflictException si el horario ya está ocupado
+     */
+    void reserve(Event event);
+
+    /**
+     * Libera el horario de un evento eliminado.
+     * 
+     * @param eventId El ID del evento
+     */
+    void release(Long eventId);
+}
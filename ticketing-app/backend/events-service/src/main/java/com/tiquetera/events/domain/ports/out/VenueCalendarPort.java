@@ -0,0 +1,37 @@
+package com.tiquetera.events.domain.ports.out;
+
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.Event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Puerto de salida para el calendario agregado por venue y día.
+ * 
+ * Los casos de uso de escritura informan cada cambio para que la
+ * implementación mantenga sus agregados sin recalcularlos.
+ * 
+ * @author Ticketing Team
+ * @version 3.12 - Venue Calendar
+ */
+public interface VenueCalendarPort {
+
+    /**
+     * Obtiene los días con eventos de un venue dentro de un rango.
+     * 
+     * @param venueId ID del venue
+     * @param from    primer día del rango (inclusive)
+     * @param to      último día del rango (inclusive)
+     * @return días con al menos un evento, ordenados por fecha
+     */
+    List<CalendarDay> getCalendar(Long venueId, LocalDate from, LocalDate to);
+
+    /**
+     * Registra el cambio de un evento.
+     * 
+     * @param previous estado anterior (null si el evento es nuevo)
+     * @param current  estado nuevo (null si el evento se eliminó)
+     */
+    void recordChange(Event previous, Event current);
+}
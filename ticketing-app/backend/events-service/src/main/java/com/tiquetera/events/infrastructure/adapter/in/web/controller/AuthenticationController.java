@@ -2,14 +2,17 @@ package com.tiquetera.events.infrastructure.adapter.in.web.controller;
 
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.AuthenticationRequest;
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.AuthenticationResponse;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.RefreshTokenRequest;
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.RegisterRequest;
 import com.tiquetera.events.infrastructure.security.AuthenticationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -34,4 +37,20 @@ public class AuthenticationController {
             @RequestBody AuthenticationRequest request) {
         return ResponseEntity.ok(service.authenticate(request));
     }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Renovar sesión", description = "Cambia un refresh token por un nuevo par de tokens")
+    public ResponseEntity<AuthenticationResponse> refresh(
+            @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(service.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Cerrar sesión", description = "Revoca el access token de la cabecera y el refresh token")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        service.logout(authHeader, request);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,91 @@
+package com.tiquetera.events.infrastructure.adapter.in.web.controller;
+
+import com.tiquetera.common.importer.CsvImporter;
+import com.tiquetera.common.importer.ImportJob;
+import com.tiquetera.common.importer.ImportJobDTO;
+import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.domain.ports.in.BulkEventsUseCase;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.EventDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.mapper.EventWebMapper;
+import com.tiquetera.events.infrastructure.adapter.in.web.validation.group.Create;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Adaptador REST para importar eventos desde archivos CSV (Input Adapter).
+ *
+ * La importación se ejecuta en segundo plano: el POST responde 202 con el
+ * trabajo creado y su progreso se consulta con GET.
+ *
+ * @author Ticketing Team
+ * @version 3.11 - CSV Import
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/events/import")
+@RequiredArgsConstructor
+@Tag(name = "Events Import", description = "API para importar eventos desde CSV")
+public class EventImportRestAdapter {
+
+        private final BulkEventsUseCase bulkEventsUseCase;
+        private final CsvImporter csvImporter;
+        private final EventWebMapper mapper;
+
+        @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+        @PreAuthorize("hasRole('ADMIN')")
+        @Operation(summary = "Importar eventos desde CSV", description = "Encola la importación de un CSV con cabecera (name, description, eventDate, endDate, venueId, capacity, ticketPrice, status) y retorna el trabajo creado (Solo ADMIN)")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "202", description = "Importación encolada"),
+                        @ApiResponse(responseCode = "403", description = "No autorizado")
+        })
+        public ResponseEntity<ImportJobDTO> importEvents(
+                        @Parameter(description = "Archivo CSV", required = true) @RequestParam("file") MultipartFile file)
+                        throws IOException {
+
+                log.info("POST /api/v1/events/import - Importando archivo: {}", file.getOriginalFilename());
+
+                ImportJob job;
+                try (InputStream content = file.getInputStream()) {
+                        job = csvImporter.submit(file.getOriginalFilename(), content, EventDTO.class,
+                                        mapper::toDomain, bulkEventsUseCase::createAll, Create.class);
+                }
+
+                URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                                .path("/{jobId}").buildAndExpand(job.getId()).toUri();
+                return ResponseEntity.accepted().location(location).body(ImportJobDTO.from(job));
+        }
+
+        @GetMapping("/{jobId}")
+        @PreAuthorize("hasRole('ADMIN')")
+        @Operation(summary = "Consultar una importación", description = "Retorna el estado, el progreso y los errores por fila de una importación (Solo ADMIN)")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Importación encontrada"),
+                        @ApiResponse(responseCode = "404", description = "Importación no encontrada o expirada"),
+                        @ApiResponse(responseCode = "403", description = "No autorizado")
+        })
+        public ResponseEntity<ImportJobDTO> getImportJob(
+                        @Parameter(description = "ID del trabajo de importación", required = true) @PathVariable String jobId) {
+
+                log.info("GET /api/v1/events/import/{} - Consultando importación", jobId);
+
+                ImportJob job = csvImporter.getJob(jobId)
+                                .orElseThrow(() -> new ResourceNotFoundException("Importación no encontrada con ID: " + jobId));
+
+                return ResponseEntity.ok(ImportJobDTO.from(job));
+        }
+}
@@ -1,27 +1,60 @@
 package com.tiquetera.events.infrastructure.adapter.in.web.controller;
 
+import com.tiquetera.events.domain.exception.InvalidBulkRequestException;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
 import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSort;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
 import com.tiquetera.events.domain.ports.in.*;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.CalendarDayDTO;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.CursorPageDTO;
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.EventDTO;
 import com.tiquetera.events.infrastructure.adapter.in.web.mapper.EventWebMapper;
 import com.tiquetera.events.infrastructure.adapter.in.web.validation.group.Create;
 import com.tiquetera.events.infrastructure.adapter.in.web.validation.group.Update;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Adaptador REST para eventos (Input Adapter).
@@ -44,7 +77,11 @@ public class EventRestAdapter {
         private final ListEventsUseCase listEventsUseCase;
         private final UpdateEventUseCase updateEventUseCase;
         private final DeleteEventUseCase deleteEventUseCase;
+        private final SearchEventsUseCase searchEventsUseCase;
+        private final BulkEventsUseCase bulkEventsUseCase;
         private final EventWebMapper mapper;
+        private final ObjectMapper objectMapper;
+        private final Validator validator;
 
         @PostMapping
         @PreAuthorize("hasRole('ADMIN')")
@@ -52,6 +89,7 @@ public class EventRestAdapter {
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Evento creado exitosamente", content = @Content(schema = @Schema(implementation = EventDTO.class))),
                         @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos"),
+                        @ApiResponse(responseCode = "409", description = "El venue ya tiene un evento en ese horario"),
                         @ApiResponse(responseCode = "403", description = "No autorizado")
         })
         public ResponseEntity<EventDTO> createEvent(@Validated(Create.class) @RequestBody EventDTO eventDTO) {
@@ -63,63 +101,304 @@ public class EventRestAdapter {
                 return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toDTO(createdEvent));
         }
 
+        @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+        @PreAuthorize("hasRole('ADMIN')")
+        @Operation(summary = "Crear eventos en lote", description = "Crea todos los eventos de un arreglo JSON en una sola transacción (Solo ADMIN)")
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class))))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "Eventos creados exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Lote vacío, demasiado grande o con eventos inválidos"),
+                        @ApiResponse(responseCode = "409", description = "Algún evento se solapa con otro del mismo venue"),
+                        @ApiResponse(responseCode = "403", description = "No autorizado")
+        })
+        public ResponseEntity<List<EventDTO>> createEvents(HttpServletRequest request) throws IOException {
+                log.info("POST /api/v1/events/bulk - Creando eventos en lote");
+
+                List<Event> events = readEvents(request.getInputStream(), Create.class);
+                List<Event> createdEvents = bulkEventsUseCase.createAll(events);
+
+                log.info("POST /api/v1/events/bulk - {} eventos creados", createdEvents.size());
+                return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toDTOList(createdEvents));
+        }
+
+        @PutMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+        @PreAuthorize("hasRole('ADMIN')")
+        @Operation(summary = "Actualizar eventos en lote", description = "Actualiza todos los eventos de un arreglo JSON en una sola transacción (Solo ADMIN)")
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDTO.class))))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Eventos actualizados exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Lote vacío, demasiado grande o con eventos inválidos"),
+                        @ApiResponse(responseCode = "409", description = "Algún evento se solapa con otro del mismo venue"),
+                        @ApiResponse(responseCode = "404", description = "Algún evento no existe"),
+                        @ApiResponse(responseCode = "403", description = "No autorizado")
+        })
+        public ResponseEntity<List<EventDTO>> updateEvents(HttpServletRequest request) throws IOException {
+                log.info("PUT /api/v1/events/bulk - Actualizando eventos en lote");
+
+                List<Event> events = readEvents(request.getInputStream(), Update.class);
+                List<Event> updatedEvents = bulkEventsUseCase.updateAll(events);
+
+                log.info("PUT /api/v1/events/bulk - {} eventos actualizados", updatedEvents.size());
+                return ResponseEntity.ok(mapper.toDTOList(updatedEvents));
+        }
+
+        @DeleteMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+        @PreAuthorize("hasRole('ADMIN')")
+        @Operation(summary = "Eliminar eventos en lote", description = "Elimina los eventos cuyos IDs vienen en un arreglo JSON, en una sola transacción (Solo ADMIN)")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "204", description = "Eventos eliminados exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Lote vacío, demasiado grande o con IDs repetidos"),
+                        @ApiResponse(responseCode = "404", description = "Algún evento no existe"),
+                        @ApiResponse(responseCode = "403", description = "No autorizado")
+        })
+        public ResponseEntity<Void> deleteEvents(@RequestBody List<Long> ids) {
+                log.info("DELETE /api/v1/events/bulk - Eliminando {} eventos", ids.size());
+
+                bulkEventsUseCase.deleteAll(ids);
+
+                return ResponseEntity.noContent().build();
+        }
+
         @GetMapping
         @Operation(summary = "Obtener todos los eventos", description = "Retorna una lista con todos los eventos registrados")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
         })
-        public ResponseEntity<List<EventDTO>> getAllEvents() {
+        public ResponseEntity<List<EventDTO>> getAllEvents(WebRequest request) {
                 log.info("GET /api/v1/events - Obteniendo todos los eventos");
 
-                List<Event> events = listEventsUseCase.getAllEvents();
+                String etag = weakETag(listEventsUseCase.getEventsChangeStamp());
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
+
+                List<EventSummary> events = listEventsUseCase.getAllEvents();
+
+                return ResponseEntity.ok().eTag(etag).body(mapper.summariesToDTOList(events));
+        }
+
+        @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        @Operation(summary = "Exportar todos los eventos", description = "Escribe todos los eventos como NDJSON (un evento por línea) a medida que se leen de la base de datos")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Eventos exportados exitosamente")
+        })
+        public void exportEvents(HttpServletResponse response) throws IOException {
+                log.info("GET /api/v1/events/export - Exportando eventos");
+
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                try (SequenceWriter writer = objectMapper.writerFor(EventDTO.class)
+                                .withRootValueSeparator("\n")
+                                .writeValues(response.getOutputStream())) {
+                        listEventsUseCase.forEachEvent(event -> {
+                                try {
+                                        writer.write(mapper.toDTO(event));
+                                } catch (IOException ex) {
+                                        throw new UncheckedIOException(ex);
+                                }
+                        });
+                }
+        }
+
+        @GetMapping("/page")
+        @Operation(summary = "Obtener eventos paginados", description = "Retorna una página de eventos ordenados por fecha usando un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+        })
+        public ResponseEntity<CursorPageDTO<EventDTO>> getEventsPage(
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/page - Obteniendo página de eventos");
+
+                return ResponseEntity.ok(toPageDTO(listEventsUseCase.getEventsPage(cursor, size)));
+        }
+
+        @GetMapping("/upcoming")
+        @Operation(summary = "Obtener próximos eventos", description = "Retorna los próximos eventos programados, del más cercano al más lejano")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+        })
+        public ResponseEntity<List<EventDTO>> getUpcomingEvents(
+                        @Parameter(description = "Número de eventos (máximo 100)") @RequestParam(required = false) Integer limit) {
+
+                log.info("GET /api/v1/events/upcoming - Obteniendo próximos eventos");
 
-                return ResponseEntity.ok(mapper.toDTOList(events));
+                return ResponseEntity.ok(mapper.toDTOList(listEventsUseCase.getUpcomingEvents(limit)));
         }
 
         @GetMapping("/{id}")
         @Operation(summary = "Obtener evento por ID", description = "Retorna los detalles de un evento específico")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Evento encontrado", content = @Content(schema = @Schema(implementation = EventDTO.class))),
+                        @ApiResponse(responseCode = "304", description = "El evento no cambió desde el ETag enviado"),
                         @ApiResponse(responseCode = "404", description = "Evento no encontrado")
         })
         public ResponseEntity<EventDTO> getEventById(
-                        @Parameter(description = "ID del evento a buscar", required = true) @PathVariable Long id) {
+                        @Parameter(description = "ID del evento a buscar", required = true) @PathVariable Long id,
+                        WebRequest request) {
 
                 log.info("GET /api/v1/events/{} - Obteniendo evento", id);
 
+                // Con If-None-Match solo se consulta la versión; si el cliente ya
+                // la tiene no se carga ni se serializa el evento. Sin la
+                // cabecera se carga una vez y el ETag sale de lo cargado.
+                if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                                && request.checkNotModified(strongETag(getEventUseCase.getVersion(id)))) {
+                        return null;
+                }
+
                 Event event = getEventUseCase.execute(id);
 
-                return ResponseEntity.ok(mapper.toDTO(event));
+                return ResponseEntity.ok().eTag(strongETag(event.getVersion())).body(mapper.toDTO(event));
         }
 
         @GetMapping("/venue/{venueId}")
         @Operation(summary = "Obtener eventos por venue", description = "Retorna todos los eventos de un venue específico")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
         })
         public ResponseEntity<List<EventDTO>> getEventsByVenueId(
-                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId) {
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId,
+                        WebRequest request) {
 
                 log.info("GET /api/v1/events/venue/{} - Obteniendo eventos por venue", venueId);
 
-                List<Event> events = listEventsUseCase.getEventsByVenueId(venueId);
+                String etag = weakETag(listEventsUseCase.getEventsChangeStampByVenueId(venueId));
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
+
+                List<EventSummary> events = listEventsUseCase.getEventsByVenueId(venueId);
+
+                return ResponseEntity.ok().eTag(etag).body(mapper.summariesToDTOList(events));
+        }
 
-                return ResponseEntity.ok(mapper.toDTOList(events));
+        @GetMapping("/venue/{venueId}/upcoming")
+        @Operation(summary = "Obtener próximos eventos de un venue", description = "Retorna los próximos eventos programados de un venue, del más cercano al más lejano")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+        })
+        public ResponseEntity<List<EventDTO>> getUpcomingEventsByVenueId(
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId,
+                        @Parameter(description = "Número de eventos (máximo 100)") @RequestParam(required = false) Integer limit) {
+
+                log.info("GET /api/v1/events/venue/{}/upcoming - Obteniendo próximos eventos del venue", venueId);
+
+                return ResponseEntity.ok(mapper.toDTOList(listEventsUseCase.getUpcomingEventsByVenueId(venueId, limit)));
+        }
+
+        @GetMapping("/venue/{venueId}/calendar")
+        @Operation(summary = "Obtener calendario de un venue", description = "Retorna, por cada día con eventos no cancelados, el número de eventos y la capacidad total del venue (rango máximo de 366 días)")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Calendario obtenido exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Rango de fechas inválido")
+        })
+        public ResponseEntity<List<CalendarDayDTO>> getVenueCalendar(
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId,
+                        @Parameter(description = "Primer día (ISO 8601)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @Parameter(description = "Último día, inclusive (ISO 8601)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+                log.info("GET /api/v1/events/venue/{}/calendar - Obteniendo calendario del venue", venueId);
+
+                return ResponseEntity.ok(mapper.toCalendarDTOList(listEventsUseCase.getVenueCalendar(venueId, from, to)));
+        }
+
+        @GetMapping("/venue/{venueId}/page")
+        @Operation(summary = "Obtener eventos por venue paginados", description = "Retorna una página de eventos de un venue usando un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+        })
+        public ResponseEntity<CursorPageDTO<EventDTO>> getEventsPageByVenueId(
+                        @Parameter(description = "ID del venue", required = true) @PathVariable Long venueId,
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/venue/{}/page - Obteniendo página de eventos por venue", venueId);
+
+                return ResponseEntity.ok(toPageDTO(listEventsUseCase.getEventsPageByVenueId(venueId, cursor, size)));
         }
 
         @GetMapping("/status/{status}")
         @Operation(summary = "Obtener eventos por estado", description = "Retorna todos los eventos que tienen un estado específico")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente")
+                        @ApiResponse(responseCode = "200", description = "Lista de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
         })
         public ResponseEntity<List<EventDTO>> getEventsByStatus(
-                        @Parameter(description = "Estado del evento (ACTIVE, CANCELLED, COMPLETED)", required = true) @PathVariable String status) {
+                        @Parameter(description = "Estado del evento (SCHEDULED, ACTIVE, CANCELLED, COMPLETED)", required = true) @PathVariable String status,
+                        WebRequest request) {
 
                 log.info("GET /api/v1/events/status/{} - Obteniendo eventos por estado", status);
 
-                List<Event> events = listEventsUseCase.getEventsByStatus(status);
+                String etag = weakETag(listEventsUseCase.getEventsChangeStampByStatus(status));
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
 
-                return ResponseEntity.ok(mapper.toDTOList(events));
+                List<EventSummary> events = listEventsUseCase.getEventsByStatus(status);
+
+                return ResponseEntity.ok().eTag(etag).body(mapper.summariesToDTOList(events));
+        }
+
+        @GetMapping("/status/{status}/page")
+        @Operation(summary = "Obtener eventos por estado paginados", description = "Retorna una página de eventos con un estado usando un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+        })
+        public ResponseEntity<CursorPageDTO<EventDTO>> getEventsPageByStatus(
+                        @Parameter(description = "Estado del evento (SCHEDULED, ACTIVE, CANCELLED, COMPLETED)", required = true) @PathVariable String status,
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/status/{}/page - Obteniendo página de eventos por estado", status);
+
+                return ResponseEntity.ok(toPageDTO(listEventsUseCase.getEventsPageByStatus(status, cursor, size)));
+        }
+
+        @GetMapping("/search")
+        @Operation(summary = "Buscar eventos", description = "Busca eventos combinando venue, estado, rango de fechas y rango de precios, paginando con un cursor opaco")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Criterios de búsqueda o cursor inválidos")
+        })
+        public ResponseEntity<CursorPageDTO<EventDTO>> searchEvents(
+                        @Parameter(description = "ID del venue") @RequestParam(required = false) Long venueId,
+                        @Parameter(description = "Estado del evento (SCHEDULED, ACTIVE, CANCELLED, COMPLETED)") @RequestParam(required = false) String status,
+                        @Parameter(description = "Fecha inicial (ISO 8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+                        @Parameter(description = "Fecha final (ISO 8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+                        @Parameter(description = "Precio mínimo") @RequestParam(required = false) BigDecimal minPrice,
+                        @Parameter(description = "Precio máximo") @RequestParam(required = false) BigDecimal maxPrice,
+                        @Parameter(description = "Orden (DATE_ASC, DATE_DESC, PRICE_ASC, PRICE_DESC)") @RequestParam(required = false) String sort,
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(required = false) Integer size) {
+
+                log.info("GET /api/v1/events/search - Buscando eventos");
+
+                EventSearchCriteria criteria = new EventSearchCriteria(venueId,
+                                status == null || status.isBlank() ? null : EventStatus.from(status),
+                                startDate, endDate, minPrice, maxPrice, EventSort.from(sort));
+
+                return ResponseEntity.ok(toPageDTO(searchEventsUseCase.search(criteria, cursor, size)));
+        }
+
+        @GetMapping("/search/text")
+        @Operation(summary = "Buscar eventos por texto", description = "Busca eventos por nombre y descripción en el índice en memoria, ordenados por relevancia")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Eventos encontrados"),
+                        @ApiResponse(responseCode = "400", description = "Texto de búsqueda vacío")
+        })
+        public ResponseEntity<List<EventDTO>> searchEventsByText(
+                        @Parameter(description = "Texto a buscar", required = true) @RequestParam String q,
+                        @Parameter(description = "Número máximo de resultados (máximo 100)") @RequestParam(required = false) Integer limit) {
+
+                log.info("GET /api/v1/events/search/text - Buscando eventos por texto: {}", q);
+
+                return ResponseEntity.ok(mapper.toDTOList(searchEventsUseCase.searchByText(q, limit)));
         }
 
         @PutMapping("/{id}")
@@ -128,6 +407,7 @@ public class EventRestAdapter {
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Evento actualizado exitosamente", content = @Content(schema = @Schema(implementation = EventDTO.class))),
                         @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos"),
+                        @ApiResponse(responseCode = "409", description = "El venue ya tiene un evento en ese horario"),
                         @ApiResponse(responseCode = "404", description = "Evento no encontrado"),
                         @ApiResponse(responseCode = "403", description = "No autorizado")
         })
@@ -160,4 +440,61 @@ public class EventRestAdapter {
 
                 return ResponseEntity.noContent().build();
         }
+
+        // Recorre el arreglo con el parser de Jackson, validando y mapeando cada
+        // evento al leerlo, en lugar de deserializar el cuerpo completo como
+        // List<EventDTO> y validarlo después.
+        private List<Event> readEvents(InputStream body, Class<?> group) throws IOException {
+                List<Event> events = new ArrayList<>();
+                try (JsonParser parser = objectMapper.createParser(body)) {
+                        if (parser.nextToken() != JsonToken.START_ARRAY) {
+                                throw new InvalidBulkRequestException("El cuerpo debe ser un arreglo JSON de eventos");
+                        }
+                        JsonToken token;
+                        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                                if (token != JsonToken.START_OBJECT) {
+                                        throw new InvalidBulkRequestException("El elemento " + events.size() + " no es un evento");
+                                }
+                                if (events.size() == BulkEventsUseCase.MAX_BATCH_SIZE) {
+                                        throw new InvalidBulkRequestException(
+                                                        "El lote supera el máximo de " + BulkEventsUseCase.MAX_BATCH_SIZE + " eventos");
+                                }
+                                EventDTO eventDTO = objectMapper.readValue(parser, EventDTO.class);
+                                validate(eventDTO, events.size(), group);
+                                events.add(mapper.toDomain(eventDTO));
+                        }
+                } catch (JsonProcessingException ex) {
+                        throw new InvalidBulkRequestException("JSON inválido: " + ex.getOriginalMessage());
+                }
+                return events;
+        }
+
+        private void validate(EventDTO eventDTO, int index, Class<?> group) {
+                Set<ConstraintViolation<EventDTO>> violations = validator.validate(eventDTO, group);
+                if (!violations.isEmpty()) {
+                        String errors = violations.stream()
+                                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                                        .sorted()
+                                        .collect(Collectors.joining("; "));
+                        throw new InvalidBulkRequestException("El evento " + index + " es inválido: " + errors);
+                }
+        }
+
+        private CursorPageDTO<EventDTO> toPageDTO(CursorPage<Event> page) {
+                return CursorPageDTO.<EventDTO>builder()
+                                .items(mapper.toDTOList(page.getItems()))
+                                .nextCursor(page.getNextCursor())
+                                .hasNext(page.hasNext())
+                                .build();
+        }
+
+        private static String strongETag(Long version) {
+                return "\"" + version + "\"";
+        }
+
+        private static String weakETag(ChangeStamp stamp) {
+                long lastUpdated = stamp.getLastUpdated() == null ? 0
+                                : stamp.getLastUpdated().toInstant(ZoneOffset.UTC).toEpochMilli();
+                return "W/\"" + stamp.getCount() + "-" + lastUpdated + "\"";
+        }
 }
@@ -0,0 +1,55 @@
+package com.tiquetera.events.infrastructure.adapter.in.web.controller;
+
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.RoleChangeRequest;
+import com.tiquetera.events.infrastructure.security.UserRoleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Adaptador REST para administrar usuarios (Input Adapter).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Stateless Authentication
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+@Tag(name = "Users", description = "API para administrar usuarios")
+public class UserRestAdapter {
+
+        private final UserRoleService userRoleService;
+
+        @PutMapping("/{email}/role")
+        @PreAuthorize("hasRole('ADMIN')")
+        @Operation(summary = "Cambiar el rol de un usuario", description = "Asigna el rol al usuario; sus tokens con el rol anterior dejan de valer en events-service (Solo ADMIN)")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "204", description = "Rol asignado"),
+                        @ApiResponse(responseCode = "400", description = "Rol ausente o inválido"),
+                        @ApiResponse(responseCode = "404", description = "Usuario no encontrado"),
+                        @ApiResponse(responseCode = "403", description = "No autorizado")
+        })
+        public ResponseEntity<Void> changeRole(
+                        @Parameter(description = "Email del usuario", required = true) @PathVariable String email,
+                        @Valid @RequestBody RoleChangeRequest request) {
+
+                log.info("PUT /api/v1/users/{}/role - Cambiando rol a {}", email, request.getRole());
+
+                userRoleService.changeRole(email, request.getRole());
+
+                return ResponseEntity.noContent().build();
+        }
+}
@@ -0,0 +1,32 @@
+package com.tiquetera.events.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de respuesta para un día del calendario de un venue.
+ * 
+ * @author Ticketing Team
+ * @version 3.12 - Venue Calendar
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Eventos y capacidad total de un venue en un día")
+public class CalendarDayDTO {
+
+    @Schema(description = "Día", example = "2025-12-31")
+    private LocalDate date;
+
+    @Schema(description = "Número de eventos no cancelados", example = "2")
+    private Long eventCount;
+
+    @Schema(description = "Suma de la capacidad de esos eventos", example = "45000")
+    private Long totalCapacity;
+}
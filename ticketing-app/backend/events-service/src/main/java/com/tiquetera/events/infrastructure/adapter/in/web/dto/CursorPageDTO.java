@@ -0,0 +1,32 @@
+package com.tiquetera.events.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para listados paginados por cursor.
+ * 
+ * @author Ticketing Team
+ * @version 3.1 - Keyset Pagination
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados con cursor para obtener la siguiente")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Elementos de la página")
+    private List<T> items;
+
+    @Schema(description = "Cursor opaco de la siguiente página (null si no hay más)", example = "MjAyNS0xMi0zMVQyMDowMHw0Mg")
+    private String nextCursor;
+
+    @Schema(description = "Indica si existe una página siguiente", example = "true")
+    private boolean hasNext;
+}
@@ -78,8 +78,8 @@ public class EventDTO {
     @Schema(description = "Precio del boleto", example = "150000.00", required = true)
     private BigDecimal ticketPrice;
 
-    @Schema(description = "Estado del evento", example = "ACTIVE", allowableValues = { "ACTIVE", "CANCELLED",
-            "COMPLETED" })
+    @Schema(description = "Estado del evento", example = "ACTIVE", allowableValues = { "SCHEDULED", "ACTIVE",
+            "CANCELLED", "COMPLETED" })
     private String status;
 
     @Schema(description = "Fecha de creación del registro", example = "2025-01-15T10:30:00")
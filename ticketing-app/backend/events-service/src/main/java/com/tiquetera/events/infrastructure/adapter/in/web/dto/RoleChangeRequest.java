@@ -0,0 +1,17 @@
+package com.tiquetera.events.infrastructure.adapter.in.web.dto;
+
+import com.tiquetera.events.domain.model.Role;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoleChangeRequest {
+    @NotNull(message = "El rol es obligatorio")
+    private Role role;
+}
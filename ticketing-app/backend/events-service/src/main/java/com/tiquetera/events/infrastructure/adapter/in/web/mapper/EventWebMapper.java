@@ -1,8 +1,13 @@
 package com.tiquetera.events.infrastructure.adapter.in.web.mapper;
 
+import com.tiquetera.events.domain.model.CalendarDay;
 import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.CalendarDayDTO;
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.EventDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -16,8 +21,10 @@ import java.util.List;
 public interface EventWebMapper {
 
     /**
-     * Convierte de DTO web a entidad de dominio.
+     * Convierte de DTO web a entidad de dominio. La versión no viaja en el
+     * DTO: la asigna la persistencia.
      */
+    @Mapping(target = "version", ignore = true)
     Event toDomain(EventDTO dto);
 
     /**
@@ -29,4 +36,26 @@ public interface EventWebMapper {
      * Convierte una lista de entidades de dominio a DTOs web.
      */
     List<EventDTO> toDTOList(List<Event> domains);
+
+    /**
+     * Convierte una vista de listado a DTO web.
+     */
+    EventDTO toDTO(EventSummary summary);
+
+    /**
+     * Convierte una lista de vistas de listado a DTOs web.
+     */
+    List<EventDTO> summariesToDTOList(List<EventSummary> summaries);
+
+    /**
+     * Convierte los días del calendario de un venue a DTOs web.
+     */
+    List<CalendarDayDTO> toCalendarDTOList(List<CalendarDay> days);
+
+    /**
+     * Interpreta el estado recibido en el DTO sin distinguir mayúsculas.
+     */
+    default EventStatus toStatus(String status) {
+        return status == null || status.isBlank() ? null : EventStatus.from(status);
+    }
 }
@@ -0,0 +1,236 @@
+package com.tiquetera.events.infrastructure.adapter.out.booking;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Árbol de intervalos semiabiertos [start, end) sobre un árbol AVL.
+ *
+ * Los nodos se ordenan por inicio y cada uno guarda el mayor fin de su
+ * subárbol, así la búsqueda de un solapamiento descarta ramas enteras y
+ * cuesta O(log n). Admite intervalos repetidos: cada entrada se distingue
+ * por un número de secuencia.
+ *
+ * No es seguro para uso concurrente; quien lo usa debe sincronizar el
+ * acceso.
+ *
+ * @author Ticketing Team
+ * @version 3.13 - Venue Booking
+ */
+public class IntervalTree<T> {
+
+    /**
+     * Intervalo guardado en el árbol. Se usa como referencia para quitarlo.
+     */
+    public static final class Entry<T> {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final T value;
+        private final long sequence;
+
+        private Entry(LocalDateTime start, LocalDateTime end, T value, long sequence) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.sequence = sequence;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    private static final class Node<T> {
+        private Entry<T> entry;
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private LocalDateTime maxEnd;
+
+        private Node(Entry<T> entry) {
+            this.entry = entry;
+            this.maxEnd = entry.end;
+        }
+    }
+
+    private Node<T> root;
+    private int size;
+    private long nextSequence;
+
+    /**
+     * Agrega un intervalo.
+     *
+     * @return la entrada creada, necesaria para quitarla
+     * @throws IllegalArgumentException si el fin no es posterior al inicio
+     */
+    public Entry<T> add(LocalDateTime start, LocalDateTime end, T value) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("El fin del intervalo debe ser posterior al inicio");
+        }
+        Entry<T> entry = new Entry<>(start, end, value, nextSequence++);
+        root = insert(root, entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Quita una entrada si sigue en el árbol.
+     *
+     * @return true si se quitó
+     */
+    public boolean remove(Entry<T> entry) {
+        int before = size;
+        root = delete(root, entry);
+        return size < before;
+    }
+
+    /**
+     * Busca un intervalo que se solape con [start, end).
+     *
+     * @param ignored valores que no cuentan como solapamiento
+     * @return valor de uno de los intervalos que se solapan, si existe
+     */
+    public Optional<T> findOverlap(LocalDateTime start, LocalDateTime end, Predicate<? super T> ignored) {
+        return Optional.ofNullable(findOverlap(root, start, end, ignored));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private T findOverlap(Node<T> node, LocalDateTime start, LocalDateTime end, Predicate<? super T> ignored) {
+        // Ningún intervalo del subárbol termina después de start
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return null;
+        }
+        T found = findOverlap(node.left, start, end, ignored);
+        if (found != null) {
+            return found;
+        }
+        // Este nodo y todo su subárbol derecho empiezan en end o después
+        if (!node.entry.start.isBefore(end)) {
+            return null;
+        }
+        if (node.entry.end.isAfter(start) && !ignored.test(node.entry.value)) {
+            return node.entry.value;
+        }
+        return findOverlap(node.right, start, end, ignored);
+    }
+
+    private Node<T> insert(Node<T> node, Entry<T> entry) {
+        if (node == null) {
+            return new Node<>(entry);
+        }
+        if (compare(entry, node.entry) < 0) {
+            node.left = insert(node.left, entry);
+        } else {
+            node.right = insert(node.right, entry);
+        }
+        return balance(node);
+    }
+
+    private Node<T> delete(Node<T> node, Entry<T> entry) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(entry, node.entry);
+        if (comparison < 0) {
+            node.left = delete(node.left, entry);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, entry);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = deleteMin(node.right);
+            node.entry = successor.entry;
+        }
+        return balance(node);
+    }
+
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        LocalDateTime maxEnd = node.entry.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int compare(Entry<?> a, Entry<?> b) {
+        int byStart = a.start.compareTo(b.start);
+        return byStart != 0 ? byStart : Long.compare(a.sequence, b.sequence);
+    }
+}
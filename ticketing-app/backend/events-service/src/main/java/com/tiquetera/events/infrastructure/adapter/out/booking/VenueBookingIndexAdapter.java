@@ -0,0 +1,246 @@
+package com.tiquetera.events.infrastructure.adapter.out.booking;
+
+import com.tiquetera.common.replica.ReplicaLoadBalancingDataSource;
+import com.tiquetera.events.domain.exception.VenueBookingConflictException;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.VenueBookingPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador de horarios ocupados sobre un {@link IntervalTree} por venue.
+ *
+ * El índice se carga al arrancar recorriendo la tabla una vez. Mientras no
+ * está cargado, o si la carga falla, cada comprobación se hace con una
+ * consulta por rango sobre idx_events_venue_date.
+ *
+ * Una reserva entra en el árbol al comprobarse, antes del commit, para que
+ * otra transacción concurrente sobre el mismo venue la vea; si la
+ * transacción se revierte se quita, y si se confirma reemplaza al horario
+ * anterior del evento. Todas las operaciones se serializan con el monitor
+ * del adaptador: cada una toca un solo árbol y cuesta O(log n).
+ *
+ * @author Ticketing Team
+ * @version 3.13 - Venue Booking
+ */
+@Slf4j
+@Component
+public class VenueBookingIndexAdapter implements VenueBookingPort {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final EventRepositoryPort eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Protegidos por this
+    private Map<Long, IntervalTree<Long>> venues = new HashMap<>();
+    private Map<Long, Booking> committed = new HashMap<>();
+    private boolean loaded;
+    // Escrituras hechas sin índice, para saber si coincidieron con la carga
+    private int pendingUnindexedWrites;
+    private long completedUnindexedWrites;
+
+    public VenueBookingIndexAdapter(EventRepositoryPort eventRepository, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Carga el índice recorriendo todos los eventos en el primario. Una carga
+     * que coincide con una escritura se repite, porque no se sabe si la vio;
+     * si no se consigue cargar, las comprobaciones siguen yendo a la base de
+     * datos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        try {
+            for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+                long writesBefore;
+                synchronized (this) {
+                    writesBefore = completedUnindexedWrites;
+                }
+                Map<Long, IntervalTree<Long>> loadedVenues = new HashMap<>();
+                Map<Long, Booking> loadedBookings = new HashMap<>();
+                ReplicaLoadBalancingDataSource.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Event> events = eventRepository.streamAll()) {
+                        events.forEach(event -> {
+                            Booking booking = Booking.add(loadedVenues, Slot.of(event), event.getId());
+                            if (booking != null) {
+                                loadedBookings.put(event.getId(), booking);
+                            }
+                        });
+                    }
+                }));
+                synchronized (this) {
+                    if (pendingUnindexedWrites == 0 && completedUnindexedWrites == writesBefore) {
+                        venues = loadedVenues;
+                        committed = loadedBookings;
+                        loaded = true;
+                        log.info("Índice de horarios por venue cargado: {} eventos en {} ms",
+                                committed.size(), System.currentTimeMillis() - start);
+                        return;
+                    }
+                }
+            }
+            log.warn("Índice de horarios por venue no cargado: hubo escrituras en cada intento");
+        } catch (RuntimeException ex) {
+            log.error("No se pudo cargar el índice de horarios por venue", ex);
+        }
+    }
+
+    @Override
+    public void reserve(Event event) {
+        Long id = event.getId();
+        Slot slot = Slot.of(event);
+
+        boolean indexed;
+        Booking reserved = null;
+        synchronized (this) {
+            indexed = loaded;
+            if (!indexed) {
+                pendingUnindexedWrites++;
+            } else if (slot != null) {
+                requireFree(venues.get(slot.venueId()), slot, id);
+                reserved = Booking.add(venues, slot, id);
+            }
+        }
+
+        if (!indexed) {
+            // Se registra antes de consultar para que un conflicto también
+            // cierre la escritura al revertirse la transacción
+            afterCompletion(committedTransaction -> unindexedWriteFinished());
+            if (slot != null) {
+                eventRepository.findOverlappingEventId(slot.venueId(), slot.start(), slot.end(), id)
+                        .ifPresent(conflict -> {
+                            throw new VenueBookingConflictException(slot.venueId(), conflict);
+                        });
+            }
+            return;
+        }
+
+        Booking booking = reserved;
+        afterCompletion(committedTransaction -> {
+            synchronized (this) {
+                if (committedTransaction) {
+                    Booking previous = committed.remove(id);
+                    if (previous != null) {
+                        previous.removeFrom(venues);
+                    }
+                    if (booking != null) {
+                        committed.put(id, booking);
+                    }
+                } else if (booking != null) {
+                    booking.removeFrom(venues);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void release(Long eventId) {
+        boolean indexed;
+        synchronized (this) {
+            indexed = loaded;
+            if (!indexed) {
+                pendingUnindexedWrites++;
+            }
+        }
+        afterCompletion(committedTransaction -> {
+            synchronized (this) {
+                if (!indexed) {
+                    unindexedWriteFinished();
+                } else if (committedTransaction) {
+                    Booking previous = committed.remove(eventId);
+                    if (previous != null) {
+                        previous.removeFrom(venues);
+                    }
+                }
+            }
+        });
+    }
+
+    private synchronized void unindexedWriteFinished() {
+        pendingUnindexedWrites--;
+        completedUnindexedWrites++;
+    }
+
+    private static void requireFree(IntervalTree<Long> tree, Slot slot, Long id) {
+        if (tree == null) {
+            return;
+        }
+        tree.findOverlap(slot.start(), slot.end(), other -> other.equals(id))
+                .ifPresent(conflict -> {
+                    throw new VenueBookingConflictException(slot.venueId(), conflict);
+                });
+    }
+
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            action.accept(true);
+        }
+    }
+
+    /**
+     * Horario que ocupa un evento; null si no ocupa el venue.
+     */
+    private record Slot(Long venueId, LocalDateTime start, LocalDateTime end) {
+
+        static Slot of(Event event) {
+            if (event.getVenueId() == null || event.getEventDate() == null
+                    || event.getStatus() == EventStatus.CANCELLED) {
+                return null;
+            }
+            LocalDateTime start = event.getEventDate();
+            LocalDateTime end = event.getEndDate();
+            // Sin fin válido el evento ocupa solo su instante de inicio
+            if (end == null || !end.isAfter(start)) {
+                end = start.plusNanos(1);
+            }
+            return new Slot(event.getVenueId(), start, end);
+        }
+    }
+
+    /**
+     * Entrada de un evento en el árbol de su venue.
+     */
+    private record Booking(Long venueId, IntervalTree.Entry<Long> entry) {
+
+        static Booking add(Map<Long, IntervalTree<Long>> venues, Slot slot, Long id) {
+            if (slot == null) {
+                return null;
+            }
+            IntervalTree<Long> tree = venues.computeIfAbsent(slot.venueId(), venueId -> new IntervalTree<>());
+            return new Booking(slot.venueId(), tree.add(slot.start(), slot.end(), id));
+        }
+
+        void removeFrom(Map<Long, IntervalTree<Long>> venues) {
+            IntervalTree<Long> tree = venues.get(venueId);
+            if (tree != null && tree.remove(entry) && tree.isEmpty()) {
+                venues.remove(venueId);
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.tiquetera.events.infrastructure.adapter.out.calendar;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tiquetera.common.replica.ReplicaLoadBalancingDataSource;
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.VenueCalendarPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calendario por venue con agregados mensuales en memoria.
+ *
+ * Cada mes de cada venue se carga una vez con la consulta agregada de
+ * EventRepositoryPort (una fila por día) y luego se mantiene aplicando la
+ * diferencia de cada escritura al confirmarse la transacción. Los meses que
+ * faltan para un rango se cargan juntos con una sola consulta.
+ *
+ * Una carga que coincide con una escritura en curso no se guarda en caché:
+ * no se puede saber si la consulta vio o no ese cambio, y aplicar la
+ * diferencia sobre un mes que ya la incluye contaría el evento dos veces.
+ *
+ * Las cargas van al primario en su propia transacción: el caso de uso que
+ * pide el calendario puede estar en una transacción de solo lectura con una
+ * conexión de réplica, y un mes leído con retraso quedaría en caché sin la
+ * escritura que le falta.
+ *
+ * @author Ticketing Team
+ * @version 3.15 - Read Replicas
+ */
+@Component
+public class VenueCalendarAdapter implements VenueCalendarPort {
+
+    private final EventRepositoryPort eventRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Cache<MonthKey, NavigableMap<LocalDate, CalendarDay>> months;
+
+    // Escrituras entre beforeCommit y afterCompletion, y contador de
+    // escrituras terminadas, para descartar cargas concurrentes
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private final AtomicLong completedWrites = new AtomicLong();
+
+    public VenueCalendarAdapter(EventRepositoryPort eventRepository, MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${events.calendar.maximum-months:10000}") long maximumMonths) {
+        this.eventRepository = eventRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.months = Caffeine.newBuilder()
+                .maximumSize(maximumMonths)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, months, "events.venue-calendar");
+    }
+
+    @Override
+    public List<CalendarDay> getCalendar(Long venueId, LocalDate from, LocalDate to) {
+        YearMonth first = YearMonth.from(from);
+        YearMonth last = YearMonth.from(to);
+
+        Map<YearMonth, NavigableMap<LocalDate, CalendarDay>> rollups = new TreeMap<>();
+        YearMonth firstMissing = null;
+        YearMonth lastMissing = null;
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            NavigableMap<LocalDate, CalendarDay> cached = months.getIfPresent(new MonthKey(venueId, month));
+            if (cached != null) {
+                rollups.put(month, cached);
+            } else {
+                firstMissing = firstMissing == null ? month : firstMissing;
+                lastMissing = month;
+            }
+        }
+        if (firstMissing != null) {
+            rollups.putAll(load(venueId, firstMissing, lastMissing));
+        }
+
+        List<CalendarDay> days = new ArrayList<>();
+        for (NavigableMap<LocalDate, CalendarDay> rollup : rollups.values()) {
+            days.addAll(rollup.subMap(from, true, to, true).values());
+        }
+        return days;
+    }
+
+    @Override
+    public void recordChange(Event previous, Event current) {
+        Contribution removed = Contribution.of(previous);
+        Contribution added = Contribution.of(current);
+        if (Objects.equals(removed, added)) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(removed, added);
+            completedWrites.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean pending;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                pendingWrites.incrementAndGet();
+                pending = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    apply(removed, added);
+                }
+                completedWrites.incrementAndGet();
+                if (pending) {
+                    pendingWrites.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    // Carga [firstMonth, lastMonth] con una consulta; los meses sin eventos
+    // se guardan vacíos para no volver a consultarlos
+    private Map<YearMonth, NavigableMap<LocalDate, CalendarDay>> load(Long venueId, YearMonth firstMonth,
+            YearMonth lastMonth) {
+        boolean cacheable = pendingWrites.get() == 0;
+        long writesBefore = completedWrites.get();
+
+        List<CalendarDay> days = ReplicaLoadBalancingDataSource.onPrimary(() -> loadTransaction.execute(status ->
+                eventRepository.findCalendar(venueId, firstMonth.atDay(1).atStartOfDay(),
+                        lastMonth.plusMonths(1).atDay(1).atStartOfDay())));
+
+        Map<YearMonth, NavigableMap<LocalDate, CalendarDay>> loaded = new HashMap<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            loaded.put(month, new TreeMap<>());
+        }
+        for (CalendarDay day : days) {
+            loaded.get(YearMonth.from(day.date())).put(day.date(), day);
+        }
+        loaded.replaceAll((month, rollup) -> Collections.unmodifiableNavigableMap(rollup));
+
+        if (cacheable && isQuiet(writesBefore)) {
+            loaded.forEach((month, rollup) -> months.put(new MonthKey(venueId, month), rollup));
+            // Una escritura terminada entre la comprobación y el put no se
+            // aplicó sobre estos meses
+            if (!isQuiet(writesBefore)) {
+                loaded.keySet().forEach(month -> months.invalidate(new MonthKey(venueId, month)));
+            }
+        }
+        return loaded;
+    }
+
+    private boolean isQuiet(long writesBefore) {
+        return pendingWrites.get() == 0 && completedWrites.get() == writesBefore;
+    }
+
+    private void apply(Contribution removed, Contribution added) {
+        if (removed != null) {
+            adjust(removed, -1);
+        }
+        if (added != null) {
+            adjust(added, 1);
+        }
+    }
+
+    // Copia el mes con el día ajustado; los lectores siguen viendo la
+    // versión anterior hasta que se publica la nueva
+    private void adjust(Contribution contribution, int sign) {
+        MonthKey key = new MonthKey(contribution.venueId(), YearMonth.from(contribution.date()));
+        months.asMap().computeIfPresent(key, (k, rollup) -> {
+            TreeMap<LocalDate, CalendarDay> updated = new TreeMap<>(rollup);
+            CalendarDay day = updated.getOrDefault(contribution.date(), new CalendarDay(contribution.date(), 0L, 0L))
+                    .plus(sign, (long) sign * contribution.capacity());
+            if (day.eventCount() <= 0) {
+                updated.remove(contribution.date());
+            } else {
+                updated.put(contribution.date(), day);
+            }
+            return Collections.unmodifiableNavigableMap(updated);
+        });
+    }
+
+    private record MonthKey(Long venueId, YearMonth month) {
+    }
+
+    /**
+     * Lo que un evento suma a su día: nada si está cancelado o le faltan
+     * venue o fecha.
+     */
+    private record Contribution(Long venueId, LocalDate date, long capacity) {
+
+        static Contribution of(Event event) {
+            if (event == null || event.getVenueId() == null || event.getEventDate() == null
+                    || event.getStatus() == EventStatus.CANCELLED) {
+                return null;
+            }
+            return new Contribution(event.getVenueId(), event.getEventDate().toLocalDate(),
+                    event.getCapacity() == null ? 0 : event.getCapacity());
+        }
+    }
+}
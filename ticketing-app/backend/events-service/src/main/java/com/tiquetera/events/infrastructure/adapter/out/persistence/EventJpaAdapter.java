@@ -1,36 +1,84 @@
 package com.tiquetera.events.infrastructure.adapter.out.persistence;
 
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
 import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSort;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
 import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.EventEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.VenueEntity;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.mapper.EventPersistenceMapper;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.EventJpaRepository;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.specifications.EventSpecifications;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Primary;
-
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistencia JPA para events - Microservicio Events
  * 
+ * Las altas en lote no pasan por Hibernate: con IDENTITY Hibernate inserta
+ * fila a fila para leer cada ID generado, así que se envían como un batch
+ * JDBC (que el driver de MySQL reescribe como INSERT multi-fila con
+ * rewriteBatchedStatements) y se leen las claves generadas del mismo batch.
+ * 
  * @author Ticketing Team
- * @version 3.0 - Microservices Architecture
+ * @version 3.1 - Bulk Events
  */
 @Component
-@Primary
 @RequiredArgsConstructor
 @Transactional
 public class EventJpaAdapter implements EventRepositoryPort {
 
     private final EventJpaRepository repository;
     private final EventPersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO events (name, description, event_date, end_date, "
+            + "venue_id, capacity, ticket_price, status, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
 
     @Override
     public Event save(Event event) {
@@ -43,6 +91,85 @@ public class EventJpaAdapter implements EventRepositoryPort {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> created = new ArrayList<>();
+        List<Event> updated = new ArrayList<>();
+        for (Event event : events) {
+            (event.getId() == null ? created : updated).add(event);
+        }
+
+        for (int from = 0; from < created.size(); from += INSERT_BATCH_SIZE) {
+            insertBatch(created.subList(from, Math.min(from + INSERT_BATCH_SIZE, created.size())));
+        }
+
+        Map<Long, Event> updatedById = Map.of();
+        if (!updated.isEmpty()) {
+            updatedById = update(updated).stream()
+                    .map(mapper::toDomain)
+                    .collect(Collectors.toMap(Event::getId, Function.identity()));
+        }
+
+        List<Event> saved = new ArrayList<>(events.size());
+        for (Event event : events) {
+            saved.add(updatedById.getOrDefault(event.getId(), event));
+        }
+        return saved;
+    }
+
+    // Copia los cambios sobre las entidades administradas, sin merge. Las que
+    // el caso de uso ya leyó en esta transacción salen del contexto de
+    // persistencia y el resto se carga, con su venue, en una sola consulta;
+    // los venues nuevos se cargan en otra. Los UPDATE se agrupan según
+    // hibernate.jdbc.batch_size y el venueName devuelto es el del venue.
+    private List<EventEntity> update(List<Event> events) {
+        Session session = entityManager.unwrap(Session.class);
+        RootGraph<EventEntity> withVenue = session.createEntityGraph(EventEntity.class);
+        withVenue.addAttributeNodes("venue");
+        List<EventEntity> entities = session.byMultipleIds(EventEntity.class)
+                .with(withVenue, GraphSemantic.FETCH)
+                .enableSessionCheck(true)
+                .multiLoad(events.stream().map(Event::getId).toList());
+
+        Set<Long> venueIds = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            EventEntity entity = entities.get(i);
+            Event event = events.get(i);
+            if (entity == null || (event.getVersion() != null && !event.getVersion().equals(entity.getVersion()))) {
+                throw new ObjectOptimisticLockingFailureException(EventEntity.class, event.getId());
+            }
+            if (event.getVenueId() != null
+                    && (!event.getVenueId().equals(entity.getVenue().getId())
+                            || !Hibernate.isInitialized(entity.getVenue()))) {
+                venueIds.add(event.getVenueId());
+            }
+        }
+        Map<Long, VenueEntity> venues = venueIds.isEmpty() ? Map.of()
+                : session.byMultipleIds(VenueEntity.class).enableSessionCheck(true)
+                        .multiLoad(List.copyOf(venueIds)).stream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toMap(VenueEntity::getId, Function.identity()));
+
+        for (int i = 0; i < events.size(); i++) {
+            EventEntity entity = entities.get(i);
+            Event event = events.get(i);
+            entity.setName(event.getName());
+            entity.setDescription(event.getDescription());
+            entity.setEventDate(event.getEventDate());
+            entity.setEndDate(event.getEndDate());
+            entity.setCapacity(event.getCapacity());
+            entity.setTicketPrice(event.getTicketPrice());
+            entity.setStatus(event.getStatus());
+            if (event.getVenueId() != null && !event.getVenueId().equals(entity.getVenue().getId())) {
+                VenueEntity venue = venues.get(event.getVenueId());
+                entity.setVenue(venue != null ? venue : entityManager.getReference(VenueEntity.class,
+                        event.getVenueId()));
+            }
+        }
+        entityManager.flush();
+        return entities;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Event> findById(Long id) {
@@ -50,6 +177,30 @@ public class EventJpaAdapter implements EventRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersionById(Long id) {
+        return repository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeStamp getChangeStamp() {
+        return repository.getChangeStamp();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeStamp getChangeStampByVenueId(Long venueId) {
+        return repository.getChangeStampByVenueId(venueId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeStamp getChangeStampByStatus(EventStatus status) {
+        return repository.getChangeStampByStatus(status);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Event> findAll() {
@@ -60,8 +211,62 @@ public class EventJpaAdapter implements EventRepositoryPort {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Event> findByStatus(String status) {
-        return repository.findByStatusIgnoreCase(status).stream()
+    public List<Event> findAllById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return mapper.toDomainList(repository.findAllById(ids));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventSummary> findAllSummaries() {
+        return repository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventSummary> findSummariesByVenueId(Long venueId) {
+        return repository.findSummariesByVenueId(venueId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventSummary> findSummariesByStatus(EventStatus status) {
+        return repository.findSummariesByStatus(status);
+    }
+
+    /**
+     * Recorre todos los eventos fila a fila.
+     * 
+     * Un fetch size de Integer.MIN_VALUE hace que el driver de MySQL lea el
+     * resultado en streaming en lugar de cargarlo completo en memoria; otras
+     * bases (H2 en local y en los tests) lo rechazan y leen en bloques de
+     * {@value #STREAM_FETCH_SIZE}. El venue se trae en el mismo JOIN porque
+     * MySQL no permite lanzar otra consulta en la conexión mientras el stream
+     * sigue abierto. Debe consumirse dentro de una transacción y cerrarse al
+     * terminar.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<Event> streamAll() {
+        // Se desvincula cada fila ya mapeada para que el contexto de
+        // persistencia no crezca con el número de eventos recorridos.
+        return entityManager.createQuery("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue", EventEntity.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(entity -> {
+                    Event event = mapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return event;
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> findByStatus(EventStatus status) {
+        return repository.findByStatus(status).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -74,11 +279,45 @@ public class EventJpaAdapter implements EventRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Event> findAll(EventCursor after, int limit) {
+        List<EventEntity> rows = after == null
+                ? repository.findFirstPage(Limit.of(limit + 1))
+                : repository.findPageAfter(after.getEventDate(), after.getId(), Limit.of(limit + 1));
+        return toPage(rows, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Event> findByVenueId(Long venueId, EventCursor after, int limit) {
+        List<EventEntity> rows = after == null
+                ? repository.findFirstPageByVenueId(venueId, Limit.of(limit + 1))
+                : repository.findPageByVenueIdAfter(venueId, after.getEventDate(), after.getId(),
+                        Limit.of(limit + 1));
+        return toPage(rows, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Event> findByStatus(EventStatus status, EventCursor after, int limit) {
+        List<EventEntity> rows = after == null
+                ? repository.findFirstPageByStatus(status, Limit.of(limit + 1))
+                : repository.findPageByStatusAfter(status, after.getEventDate(), after.getId(),
+                        Limit.of(limit + 1));
+        return toPage(rows, limit);
+    }
+
     @Override
     public void deleteById(Long id) {
         repository.deleteById(id);
     }
 
+    @Override
+    public int deleteAllById(List<Long> ids) {
+        return repository.deleteByIdIn(ids);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(Long id) {
@@ -86,8 +325,105 @@ public class EventJpaAdapter implements EventRepositoryPort {
     }
 
     @Override
-    public List<Event> findByFilters(Long venueId, String status, LocalDateTime startDate, LocalDateTime endDate) {
+    public List<Event> findByFilters(Long venueId, EventStatus status, LocalDateTime startDate, LocalDateTime endDate) {
         return mapper.toDomainList(
                 repository.findAll(EventSpecifications.withFilters(venueId, status, startDate, endDate)));
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Event> search(EventSearchCriteria criteria, EventCursor after, int limit) {
+        Specification<EventEntity> spec = EventSpecifications.withSearchCriteria(criteria)
+                .and(EventSpecifications.after(criteria.sort(), after))
+                .and(EventSpecifications.fetchVenue());
+        List<EventEntity> rows = repository.findBy(spec, query -> query
+                .sortBy(sortOf(criteria.sort()))
+                .limit(limit + 1)
+                .all());
+        return toPage(rows, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> findUpcoming(LocalDateTime from, int limit) {
+        return mapper.toDomainList(repository.findUpcomingEvents(from, Limit.of(limit)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> findUpcomingByVenueId(Long venueId, LocalDateTime from, int limit) {
+        return mapper.toDomainList(repository.findUpcomingEventsByVenueId(venueId, from, Limit.of(limit)));
+    }
+
+    private void insertBatch(List<Event> batch) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Event event = batch.get(i);
+                        ps.setString(1, event.getName());
+                        ps.setString(2, event.getDescription());
+                        ps.setTimestamp(3, toTimestamp(event.getEventDate()));
+                        ps.setTimestamp(4, toTimestamp(event.getEndDate()));
+                        ps.setLong(5, event.getVenueId());
+                        ps.setObject(6, event.getCapacity(), Types.INTEGER);
+                        ps.setBigDecimal(7, event.getTicketPrice());
+                        ps.setString(8, event.getStatus().name());
+                        ps.setTimestamp(9, toTimestamp(event.getCreatedAt()));
+                        ps.setTimestamp(10, toTimestamp(event.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < batch.size(); i++) {
+            Event event = batch.get(i);
+            event.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            event.setVersion(0L);
+        }
+    }
+
+    private int streamFetchSize() {
+        Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        return dialect instanceof MySQLDialect ? Integer.MIN_VALUE : STREAM_FETCH_SIZE;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarDay> findCalendar(Long venueId, LocalDateTime start, LocalDateTime end) {
+        return repository.findCalendar(venueId, start, end);
+    }
+
+    @Override
+    public Optional<Long> findOverlappingEventId(Long venueId, LocalDateTime start, LocalDateTime end,
+            Long excludedId) {
+        return repository.findOverlappingIds(venueId, start, end, excludedId, Limit.of(1)).stream().findFirst();
+    }
+
+    // El ID desempata para que el orden sea total y coincida con el cursor;
+    // con venueId filtrado, el orden por fecha recorre idx_events_venue_date.
+    private static Sort sortOf(EventSort sort) {
+        Sort.Direction direction = sort.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String key = sort.byPrice() ? "ticketPrice" : "eventDate";
+        return Sort.by(direction, key, "id");
+    }
+
+    // Se pide una fila de más para saber si existe una página siguiente
+    // sin lanzar un COUNT sobre la tabla.
+    private CursorPage<Event> toPage(List<EventEntity> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Event> items = mapper.toDomainList(hasNext ? rows.subList(0, limit) : rows);
+        String nextCursor = hasNext ? EventCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
 }
@@ -0,0 +1,280 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.tiquetera.common.replica.ReplicaLoadBalancingDataSource;
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de EventRepositoryPort con caché read-through por ID.
+ *
+ * Las lecturas por ID se sirven desde una caché Caffeine acotada
+ * (W-TinyLFU + TTL); el resto de consultas se delegan sin cambios.
+ * Las escrituras invalidan la entrada antes de ejecutarse y otra vez al
+ * terminar la transacción, de modo que una lectura concurrente no deje en
+ * caché un valor anterior al commit ni uno que luego se revierta.
+ *
+ * Una lectura que cargó la fila antes del commit podría guardarla en la
+ * caché después de la invalidación final. Para evitarlo cada invalidación
+ * avanza una generación por franja de IDs ({@value #STRIPES} franjas): la
+ * lectura anota la generación antes de ir a la base, guarda lo leído y, si
+ * la generación cambió mientras tanto, retira su propia entrada. Una
+ * invalidación de otro ID de la misma franja solo cuesta un acierto.
+ *
+ * Los fallos de caché se leen del primario: una réplica con retraso podría
+ * devolver la fila anterior a una escritura ya invalidada, y la caché la
+ * conservaría hasta el TTL.
+ *
+ * La caché guarda copias: Event es mutable y los casos de uso modifican
+ * el objeto que reciben antes de guardarlo.
+ *
+ * @author Ticketing Team
+ * @version 3.4 - Event Cache
+ */
+public class CachingEventRepositoryAdapter implements EventRepositoryPort {
+
+    private static final int STRIPES = 1024;
+
+    private final EventRepositoryPort delegate;
+    private final Cache<Long, Event> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public CachingEventRepositoryAdapter(EventRepositoryPort delegate, Cache<Long, Event> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Event save(Event event) {
+        invalidateAroundTransaction(event.getId());
+        Event saved = delegate.save(event);
+        invalidateAroundTransaction(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        events.forEach(event -> invalidateAroundTransaction(event.getId()));
+        return delegate.saveAll(events);
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        Event cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+        long generation = generation(id);
+        Optional<Event> loaded = ReplicaLoadBalancingDataSource.onPrimary(() -> delegate.findById(id));
+        loaded.ifPresent(event -> putIfCurrent(id, event, generation));
+        return loaded;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        Event cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.ofNullable(cached.getVersion());
+        }
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public ChangeStamp getChangeStamp() {
+        return delegate.getChangeStamp();
+    }
+
+    @Override
+    public ChangeStamp getChangeStampByVenueId(Long venueId) {
+        return delegate.getChangeStampByVenueId(venueId);
+    }
+
+    @Override
+    public ChangeStamp getChangeStampByStatus(EventStatus status) {
+        return delegate.getChangeStampByStatus(status);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Event> findAllById(List<Long> ids) {
+        List<Event> found = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Event cached = cache.getIfPresent(id);
+            if (cached != null) {
+                found.add(copyOf(cached));
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Long> generationsById = new HashMap<>();
+            for (Long id : missing) {
+                generationsById.put(id, generation(id));
+            }
+            for (Event event : ReplicaLoadBalancingDataSource.onPrimary(() -> delegate.findAllById(missing))) {
+                putIfCurrent(event.getId(), event, generationsById.get(event.getId()));
+                found.add(event);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<EventSummary> findAllSummaries() {
+        return delegate.findAllSummaries();
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByVenueId(Long venueId) {
+        return delegate.findSummariesByVenueId(venueId);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByStatus(EventStatus status) {
+        return delegate.findSummariesByStatus(status);
+    }
+
+    @Override
+    public Stream<Event> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Event> findByVenueId(Long venueId) {
+        return delegate.findByVenueId(venueId);
+    }
+
+    @Override
+    public List<Event> findByStatus(EventStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public CursorPage<Event> findAll(EventCursor after, int limit) {
+        return delegate.findAll(after, limit);
+    }
+
+    @Override
+    public CursorPage<Event> findByVenueId(Long venueId, EventCursor after, int limit) {
+        return delegate.findByVenueId(venueId, after, limit);
+    }
+
+    @Override
+    public CursorPage<Event> findByStatus(EventStatus status, EventCursor after, int limit) {
+        return delegate.findByStatus(status, after, limit);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        invalidateAroundTransaction(id);
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public int deleteAllById(List<Long> ids) {
+        ids.forEach(this::invalidateAroundTransaction);
+        return delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return cache.getIfPresent(id) != null || delegate.existsById(id);
+    }
+
+    @Override
+    public List<Event> findByFilters(Long venueId, EventStatus status, LocalDateTime startDate, LocalDateTime endDate) {
+        return delegate.findByFilters(venueId, status, startDate, endDate);
+    }
+
+    @Override
+    public CursorPage<Event> search(EventSearchCriteria criteria, EventCursor after, int limit) {
+        return delegate.search(criteria, after, limit);
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDateTime from, int limit) {
+        return delegate.findUpcoming(from, limit);
+    }
+
+    @Override
+    public List<Event> findUpcomingByVenueId(Long venueId, LocalDateTime from, int limit) {
+        return delegate.findUpcomingByVenueId(venueId, from, limit);
+    }
+
+    @Override
+    public List<CalendarDay> findCalendar(Long venueId, LocalDateTime start, LocalDateTime end) {
+        return delegate.findCalendar(venueId, start, end);
+    }
+
+    @Override
+    public Optional<Long> findOverlappingEventId(Long venueId, LocalDateTime start, LocalDateTime end,
+            Long excludedId) {
+        return delegate.findOverlappingEventId(venueId, start, end, excludedId);
+    }
+
+    private void invalidateAroundTransaction(Long id) {
+        if (id == null) {
+            return;
+        }
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    // La generación avanza antes de invalidar: una lectura que la compare
+    // después de guardar ve el cambio, y si la compara antes, la
+    // invalidación llega después de su put
+    private void invalidate(Long id) {
+        generations.incrementAndGet(stripe(id));
+        cache.invalidate(id);
+    }
+
+    private long generation(Long id) {
+        return generations.get(stripe(id));
+    }
+
+    private void putIfCurrent(Long id, Event event, long generation) {
+        Event copy = copyOf(event);
+        cache.put(id, copy);
+        if (generations.get(stripe(id)) != generation) {
+            cache.asMap().remove(id, copy);
+        }
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (STRIPES - 1);
+    }
+
+    static Event copyOf(Event event) {
+        return event.copy();
+    }
+}
@@ -0,0 +1,338 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence.cache;
+
+import com.tiquetera.common.replica.ReplicaLoadBalancingDataSource;
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de EventRepositoryPort que mantiene en memoria los próximos
+ * eventos programados.
+ * 
+ * Los eventos SCHEDULED con fecha futura se guardan en un NavigableMap
+ * ordenado por (eventDate, id), y en otro igual por venue, así "los próximos
+ * N" se responden recorriendo el inicio del mapa sin ir a la base de datos.
+ * Los mapas se cargan al arrancar; hasta entonces, o si la carga falla, las
+ * consultas se delegan.
+ * 
+ * Las escrituras hechas a través del puerto actualizan los mapas al
+ * confirmarse la transacción, y una tarea periódica retira los eventos
+ * cuya fecha ya pasó. Las lecturas filtran además por la hora actual, por
+ * lo que un evento vencido nunca se devuelve aunque la tarea no haya
+ * corrido todavía.
+ * 
+ * Las escrituras que se confirman mientras dura la carga se aplican y se
+ * guardan; al terminar se repiten sobre lo cargado, porque la consulta pudo
+ * leer la fila antes del cambio y pisarlo al copiarse en los mapas.
+ * 
+ * @author Ticketing Team
+ * @version 3.11 - Upcoming Events
+ */
+@Slf4j
+public class UpcomingEventsRepositoryAdapter implements EventRepositoryPort {
+
+    private static final Comparator<Slot> ORDER = Comparator.comparing(Slot::eventDate)
+            .thenComparing(Slot::id);
+
+    private final EventRepositoryPort delegate;
+    private final NavigableMap<Slot, Event> upcoming = new ConcurrentSkipListMap<>(ORDER);
+    private final Map<Long, NavigableMap<Slot, Event>> upcomingByVenue = new ConcurrentHashMap<>();
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    // Escrituras confirmadas durante la carga; null fuera de ella
+    private List<Runnable> pendingWrites;
+
+    public UpcomingEventsRepositoryAdapter(EventRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Carga los próximos eventos desde el primario.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            pendingWrites = new ArrayList<>();
+        }
+        try {
+            List<Event> events = ReplicaLoadBalancingDataSource.onPrimary(
+                    () -> delegate.findUpcoming(now(), Integer.MAX_VALUE));
+            synchronized (this) {
+                events.forEach(this::refresh);
+                pendingWrites.forEach(Runnable::run);
+                loaded = true;
+            }
+            log.info("Índice de próximos eventos cargado: {} eventos", upcoming.size());
+        } catch (RuntimeException ex) {
+            log.error("No se pudo cargar el índice de próximos eventos; se consultará la base de datos", ex);
+        } finally {
+            synchronized (this) {
+                pendingWrites = null;
+            }
+        }
+    }
+
+    /**
+     * Retira los eventos cuya fecha ya pasó.
+     */
+    @Scheduled(fixedDelayString = "${events.upcoming.rollover-interval:PT1M}")
+    public synchronized void rollover() {
+        NavigableMap<Slot, Event> past = upcoming.headMap(new Slot(now(), Long.MIN_VALUE, null), false);
+        int removed = 0;
+        for (Slot slot : List.copyOf(past.keySet())) {
+            evict(slot.id());
+            removed++;
+        }
+        if (removed > 0) {
+            log.debug("Retirados {} eventos pasados del índice de próximos eventos", removed);
+        }
+    }
+
+    @Override
+    public List<Event> findUpcoming(LocalDateTime from, int limit) {
+        if (!loaded) {
+            return delegate.findUpcoming(from, limit);
+        }
+        return firstFrom(upcoming, from, limit);
+    }
+
+    @Override
+    public List<Event> findUpcomingByVenueId(Long venueId, LocalDateTime from, int limit) {
+        if (!loaded) {
+            return delegate.findUpcomingByVenueId(venueId, from, limit);
+        }
+        NavigableMap<Slot, Event> venueEvents = upcomingByVenue.get(venueId);
+        return venueEvents == null ? List.of() : firstFrom(venueEvents, from, limit);
+    }
+
+    @Override
+    public List<CalendarDay> findCalendar(Long venueId, LocalDateTime start, LocalDateTime end) {
+        return delegate.findCalendar(venueId, start, end);
+    }
+
+    @Override
+    public Optional<Long> findOverlappingEventId(Long venueId, LocalDateTime start, LocalDateTime end,
+            Long excludedId) {
+        return delegate.findOverlappingEventId(venueId, start, end, excludedId);
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event saved = delegate.save(event);
+        Event snapshot = CachingEventRepositoryAdapter.copyOf(saved);
+        afterCommit(() -> write(() -> refresh(snapshot)));
+        return saved;
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> saved = delegate.saveAll(events);
+        List<Event> snapshots = saved.stream().map(CachingEventRepositoryAdapter::copyOf).toList();
+        afterCommit(() -> write(() -> snapshots.forEach(this::refresh)));
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        afterCommit(() -> write(() -> evict(id)));
+    }
+
+    @Override
+    public int deleteAllById(List<Long> ids) {
+        int deleted = delegate.deleteAllById(ids);
+        List<Long> evicted = List.copyOf(ids);
+        afterCommit(() -> write(() -> evicted.forEach(this::evict)));
+        return deleted;
+    }
+
+    @Override
+    public Optional<Event> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public ChangeStamp getChangeStamp() {
+        return delegate.getChangeStamp();
+    }
+
+    @Override
+    public ChangeStamp getChangeStampByVenueId(Long venueId) {
+        return delegate.getChangeStampByVenueId(venueId);
+    }
+
+    @Override
+    public ChangeStamp getChangeStampByStatus(EventStatus status) {
+        return delegate.getChangeStampByStatus(status);
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Event> findAllById(List<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<EventSummary> findAllSummaries() {
+        return delegate.findAllSummaries();
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByVenueId(Long venueId) {
+        return delegate.findSummariesByVenueId(venueId);
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByStatus(EventStatus status) {
+        return delegate.findSummariesByStatus(status);
+    }
+
+    @Override
+    public Stream<Event> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Event> findByVenueId(Long venueId) {
+        return delegate.findByVenueId(venueId);
+    }
+
+    @Override
+    public List<Event> findByStatus(EventStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public CursorPage<Event> findAll(EventCursor after, int limit) {
+        return delegate.findAll(after, limit);
+    }
+
+    @Override
+    public CursorPage<Event> findByVenueId(Long venueId, EventCursor after, int limit) {
+        return delegate.findByVenueId(venueId, after, limit);
+    }
+
+    @Override
+    public CursorPage<Event> findByStatus(EventStatus status, EventCursor after, int limit) {
+        return delegate.findByStatus(status, after, limit);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<Event> findByFilters(Long venueId, EventStatus status, LocalDateTime startDate, LocalDateTime endDate) {
+        return delegate.findByFilters(venueId, status, startDate, endDate);
+    }
+
+    @Override
+    public CursorPage<Event> search(EventSearchCriteria criteria, EventCursor after, int limit) {
+        return delegate.search(criteria, after, limit);
+    }
+
+    private static List<Event> firstFrom(NavigableMap<Slot, Event> events, LocalDateTime from, int limit) {
+        return events.tailMap(new Slot(from, Long.MIN_VALUE, null), true).values().stream()
+                .limit(limit)
+                .map(CachingEventRepositoryAdapter::copyOf)
+                .toList();
+    }
+
+    private synchronized void write(Runnable write) {
+        write.run();
+        if (pendingWrites != null) {
+            pendingWrites.add(write);
+        }
+    }
+
+    // Quita la entrada anterior del evento y lo vuelve a agregar si sigue
+    // siendo un evento programado a futuro.
+    private synchronized void refresh(Event event) {
+        evict(event.getId());
+        if (event.getStatus() != EventStatus.SCHEDULED || event.getEventDate() == null
+                || event.getEventDate().isBefore(now())) {
+            return;
+        }
+        Slot slot = new Slot(event.getEventDate(), event.getId(), event.getVenueId());
+        slots.put(event.getId(), slot);
+        upcoming.put(slot, event);
+        if (slot.venueId() != null) {
+            upcomingByVenue.computeIfAbsent(slot.venueId(), id -> new ConcurrentSkipListMap<>(ORDER))
+                    .put(slot, event);
+        }
+    }
+
+    private synchronized void evict(Long id) {
+        Slot slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        upcoming.remove(slot);
+        if (slot.venueId() != null) {
+            NavigableMap<Slot, Event> venueEvents = upcomingByVenue.get(slot.venueId());
+            if (venueEvents != null) {
+                venueEvents.remove(slot);
+                if (venueEvents.isEmpty()) {
+                    upcomingByVenue.remove(slot.venueId());
+                }
+            }
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Posición de un evento en el orden (eventDate, id); guarda el venue
+     * para poder retirarlo también del mapa de su venue.
+     */
+    private record Slot(LocalDateTime eventDate, Long id, Long venueId) {
+    }
+}
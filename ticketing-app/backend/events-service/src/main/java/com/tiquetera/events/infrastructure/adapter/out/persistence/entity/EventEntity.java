@@ -1,5 +1,6 @@
 package com.tiquetera.events.infrastructure.adapter.out.persistence.entity;
 
+import com.tiquetera.events.domain.model.EventStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -63,9 +64,10 @@ public class EventEntity {
     @Column(name = "ticket_price", precision = 10, scale = 2)
     private BigDecimal ticketPrice;
 
-    @Column(name = "status", length = 20)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
     @Builder.Default
-    private String status = "SCHEDULED";
+    private EventStatus status = EventStatus.SCHEDULED;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -74,4 +76,9 @@ public class EventEntity {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Versión de la fila: bloqueo optimista y base del ETag del recurso
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
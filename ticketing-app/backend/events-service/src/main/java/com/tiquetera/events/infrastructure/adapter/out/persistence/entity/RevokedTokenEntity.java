@@ -0,0 +1,40 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Access token revocado antes de expirar, identificado por su claim jti.
+ *
+ * La tabla es además el registro del que cada instancia toma las
+ * revocaciones nuevas; una fila sobra cuando su token expira.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Refresh Tokens
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedTokenEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "jti", nullable = false, unique = true, length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
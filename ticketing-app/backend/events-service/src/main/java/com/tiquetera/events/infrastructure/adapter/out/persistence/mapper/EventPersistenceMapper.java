@@ -50,6 +50,7 @@ public interface EventPersistenceMapper {
         builder.status(domain.getStatus());
         builder.createdAt(domain.getCreatedAt());
         builder.updatedAt(domain.getUpdatedAt());
+        builder.version(domain.getVersion());
 
         if (domain.getVenueId() != null) {
             VenueEntity venue = new VenueEntity();
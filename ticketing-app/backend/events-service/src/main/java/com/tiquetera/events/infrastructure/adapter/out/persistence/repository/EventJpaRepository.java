@@ -1,32 +1,93 @@
 package com.tiquetera.events.infrastructure.adapter.out.persistence.repository;
 
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.EventSummary;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.EventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio Spring Data JPA para EventEntity.
  * 
+ * EventPersistenceMapper.toDomain lee venue.name y la relación es LAZY, así
+ * que toda consulta que devuelve entidades trae el venue en el mismo SELECT
+ * (JOIN FETCH o entity graph) en lugar de lanzar una consulta extra por fila.
+ * 
  * @author Ticketing Team
  * @version 3.0 - JPA/MySQL Implementation
  */
 @Repository
 public interface EventJpaRepository extends JpaRepository<EventEntity, Long>, JpaSpecificationExecutor<EventEntity> {
 
+    /**
+     * Proyección usada por los listados: solo las columnas de la respuesta,
+     * con el nombre del venue resuelto en el mismo JOIN.
+     */
+    String SUMMARY_SELECT = "SELECT new com.tiquetera.events.domain.model.EventSummary("
+            + "e.id, e.name, e.description, e.eventDate, e.endDate, e.venue.id, v.name, "
+            + "e.capacity, e.ticketPrice, e.status, e.createdAt, e.updatedAt) "
+            + "FROM EventEntity e LEFT JOIN e.venue v ";
+
+    /**
+     * Busca un evento por ID con su venue.
+     * 
+     * @param id ID del evento
+     * @return evento si existe
+     */
+    @Override
+    @EntityGraph(attributePaths = "venue")
+    Optional<EventEntity> findById(Long id);
+
+    /**
+     * Lista todos los eventos con su venue.
+     * 
+     * @return lista de eventos
+     */
+    @Override
+    @EntityGraph(attributePaths = "venue")
+    List<EventEntity> findAll();
+
+    /**
+     * Busca eventos por ID con su venue.
+     * 
+     * @param ids IDs de los eventos
+     * @return lista de eventos
+     */
+    @Override
+    @EntityGraph(attributePaths = "venue")
+    List<EventEntity> findAllById(Iterable<Long> ids);
+
+    /**
+     * Lista los eventos que cumplen una especificación, con su venue.
+     * 
+     * @param spec criterios de filtrado
+     * @return lista de eventos
+     */
+    @Override
+    @EntityGraph(attributePaths = "venue")
+    List<EventEntity> findAll(Specification<EventEntity> spec);
+
     /**
      * Encuentra eventos por estado.
      * 
      * @param status estado del evento
      * @return lista de eventos
      */
-    @Query("SELECT e FROM EventEntity e WHERE LOWER(e.status) = LOWER(:status)")
-    List<EventEntity> findByStatusIgnoreCase(@Param("status") String status);
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.status = :status")
+    List<EventEntity> findByStatus(@Param("status") EventStatus status);
 
     /**
      * Encuentra eventos por ID de venue.
@@ -34,7 +95,7 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>, Jp
      * @param venueId ID del venue
      * @return lista de eventos
      */
-    @Query("SELECT e FROM EventEntity e WHERE e.venue.id = :venueId")
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.venue.id = :venueId")
     List<EventEntity> findByVenueId(@Param("venueId") Long venueId);
 
     /**
@@ -44,7 +105,7 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>, Jp
      * @param end   fecha fin
      * @return lista de eventos
      */
-    @Query("SELECT e FROM EventEntity e WHERE e.eventDate BETWEEN :start AND :end")
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.eventDate BETWEEN :start AND :end")
     List<EventEntity> findByEventDateBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     /**
@@ -53,6 +114,7 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>, Jp
      * @param date fecha de referencia
      * @return lista de eventos futuros
      */
+    @EntityGraph(attributePaths = "venue")
     List<EventEntity> findByEventDateAfter(LocalDateTime date);
 
     /**
@@ -61,6 +123,7 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>, Jp
      * @param name nombre o parte del nombre del evento
      * @return lista de eventos que coinciden con el nombre
      */
+    @EntityGraph(attributePaths = "venue")
     List<EventEntity> findByNameContainingIgnoreCase(String name);
 
     /**
@@ -71,6 +134,189 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long>, Jp
      * @param limit       número máximo de eventos a retornar
      * @return lista de eventos próximos ordenados por fecha
      */
-    @Query("SELECT e FROM EventEntity e WHERE e.eventDate >= :currentDate AND e.status = 'SCHEDULED' ORDER BY e.eventDate ASC")
-    List<EventEntity> findUpcomingEvents(@Param("currentDate") LocalDateTime currentDate);
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.eventDate >= :currentDate "
+            + "AND e.status = com.tiquetera.events.domain.model.EventStatus.SCHEDULED ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findUpcomingEvents(@Param("currentDate") LocalDateTime currentDate, Limit limit);
+
+    /**
+     * Encuentra los eventos próximos de un venue.
+     * 
+     * @param venueId     ID del venue
+     * @param currentDate fecha actual
+     * @param limit       número máximo de eventos a retornar
+     * @return lista de eventos próximos ordenados por fecha
+     */
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.venue.id = :venueId "
+            + "AND e.eventDate >= :currentDate "
+            + "AND e.status = com.tiquetera.events.domain.model.EventStatus.SCHEDULED ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findUpcomingEventsByVenueId(@Param("venueId") Long venueId,
+            @Param("currentDate") LocalDateTime currentDate, Limit limit);
+
+    /**
+     * Agrupa por día los eventos no cancelados de un venue en un rango.
+     * El filtro por venue y rango de fechas recorre idx_events_venue_date y
+     * solo devuelve una fila por día con eventos.
+     * 
+     * @param venueId ID del venue
+     * @param start   inicio del rango (inclusive)
+     * @param end     fin del rango (exclusivo)
+     * @return días con eventos ordenados por fecha
+     */
+    @Query("SELECT new com.tiquetera.events.domain.model.CalendarDay("
+            + "CAST(e.eventDate AS LocalDate), COUNT(e), COALESCE(SUM(e.capacity), 0L)) "
+            + "FROM EventEntity e WHERE e.venue.id = :venueId "
+            + "AND e.eventDate >= :start AND e.eventDate < :end "
+            + "AND e.status <> com.tiquetera.events.domain.model.EventStatus.CANCELLED "
+            + "GROUP BY CAST(e.eventDate AS LocalDate) ORDER BY CAST(e.eventDate AS LocalDate)")
+    List<CalendarDay> findCalendar(@Param("venueId") Long venueId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    /**
+     * IDs de los eventos no cancelados de un venue que se solapan con un
+     * rango, del que empieza más tarde al que empieza antes. La condición
+     * sobre eventDate acota el recorrido de idx_events_venue_date; los
+     * eventos sin fecha de fin solo ocupan su fecha de inicio.
+     * 
+     * @param venueId    ID del venue
+     * @param start      inicio del rango (inclusive)
+     * @param end        fin del rango (exclusivo)
+     * @param excludedId ID del evento que se está comprobando
+     */
+    @Query("SELECT e.id FROM EventEntity e WHERE e.venue.id = :venueId AND e.id <> :excludedId "
+            + "AND e.eventDate < :end AND (e.eventDate >= :start OR e.endDate > :start) "
+            + "AND e.status <> com.tiquetera.events.domain.model.EventStatus.CANCELLED "
+            + "ORDER BY e.eventDate DESC")
+    List<Long> findOverlappingIds(@Param("venueId") Long venueId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, @Param("excludedId") Long excludedId, Limit limit);
+
+    /**
+     * Primera página de eventos en orden keyset (eventDate, id).
+     * 
+     * @param limit tamaño de la página
+     * @return lista de eventos ordenados
+     */
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findFirstPage(Limit limit);
+
+    /**
+     * Página de eventos posteriores a la posición (eventDate, id) dada.
+     * Recorre idx_events_event_date sin OFFSET, por lo que el costo no
+     * depende de cuántas páginas se hayan leído antes.
+     * 
+     * @param eventDate fecha del último evento de la página anterior
+     * @param id        ID del último evento de la página anterior
+     * @param limit     tamaño de la página
+     * @return lista de eventos ordenados
+     */
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.eventDate > :eventDate "
+            + "OR (e.eventDate = :eventDate AND e.id > :id) "
+            + "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findPageAfter(@Param("eventDate") LocalDateTime eventDate, @Param("id") Long id, Limit limit);
+
+    /**
+     * Primera página de eventos de un venue en orden keyset (eventDate, id).
+     */
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.venue.id = :venueId ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findFirstPageByVenueId(@Param("venueId") Long venueId, Limit limit);
+
+    /**
+     * Página de eventos de un venue posteriores a la posición dada.
+     * Usa idx_events_venue_date.
+     */
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.venue.id = :venueId "
+            + "AND (e.eventDate > :eventDate OR (e.eventDate = :eventDate AND e.id > :id)) "
+            + "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findPageByVenueIdAfter(@Param("venueId") Long venueId,
+            @Param("eventDate") LocalDateTime eventDate, @Param("id") Long id, Limit limit);
+
+    /**
+     * Primera página de eventos con un estado en orden keyset (eventDate, id).
+     */
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.status = :status ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findFirstPageByStatus(@Param("status") EventStatus status, Limit limit);
+
+    /**
+     * Página de eventos con un estado posteriores a la posición dada.
+     */
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.venue WHERE e.status = :status "
+            + "AND (e.eventDate > :eventDate OR (e.eventDate = :eventDate AND e.id > :id)) "
+            + "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventEntity> findPageByStatusAfter(@Param("status") EventStatus status,
+            @Param("eventDate") LocalDateTime eventDate, @Param("id") Long id, Limit limit);
+
+    /**
+     * Elimina un lote de eventos con un único DELETE.
+     * 
+     * @param ids IDs de los eventos
+     * @return número de filas eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM EventEntity e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Obtiene la versión de un evento por clave primaria sin hidratar la entidad.
+     * 
+     * @param id ID del evento
+     * @return versión del evento si existe
+     */
+    @Query("SELECT e.version FROM EventEntity e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Cuenta los eventos y obtiene la última fecha de modificación
+     * (resuelta con idx_events_updated_at).
+     * 
+     * @return número de eventos y fecha de la última modificación
+     */
+    @Query("SELECT new com.tiquetera.events.domain.model.ChangeStamp(COUNT(e), MAX(e.updatedAt)) FROM EventEntity e")
+    ChangeStamp getChangeStamp();
+
+    /**
+     * Cuenta los eventos de un venue y obtiene su última fecha de
+     * modificación (filtrando por idx_events_venue_date).
+     * 
+     * @param venueId ID del venue
+     * @return número de eventos y fecha de la última modificación
+     */
+    @Query("SELECT new com.tiquetera.events.domain.model.ChangeStamp(COUNT(e), MAX(e.updatedAt)) FROM EventEntity e "
+            + "WHERE e.venue.id = :venueId")
+    ChangeStamp getChangeStampByVenueId(@Param("venueId") Long venueId);
+
+    /**
+     * Cuenta los eventos con un estado y obtiene su última fecha de
+     * modificación (filtrando por idx_events_status_date).
+     * 
+     * @param status estado del evento
+     * @return número de eventos y fecha de la última modificación
+     */
+    @Query("SELECT new com.tiquetera.events.domain.model.ChangeStamp(COUNT(e), MAX(e.updatedAt)) FROM EventEntity e "
+            + "WHERE e.status = :status")
+    ChangeStamp getChangeStampByStatus(@Param("status") EventStatus status);
+
+    /**
+     * Lista todos los eventos como proyección de solo lectura.
+     * 
+     * @return lista de resúmenes de eventos
+     */
+    @Query(SUMMARY_SELECT)
+    List<EventSummary> findAllSummaries();
+
+    /**
+     * Lista los eventos de un venue como proyección de solo lectura.
+     * 
+     * @param venueId ID del venue
+     * @return lista de resúmenes de eventos
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.venue.id = :venueId")
+    List<EventSummary> findSummariesByVenueId(@Param("venueId") Long venueId);
+
+    /**
+     * Lista los eventos con un estado como proyección de solo lectura.
+     * 
+     * @param status estado del evento
+     * @return lista de resúmenes de eventos
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.status = :status")
+    List<EventSummary> findSummariesByStatus(@Param("status") EventStatus status);
 }
@@ -0,0 +1,34 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence.repository;
+
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoca el token si sigue activo; 0 si otra petición lo revocó antes.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshTokenEntity r SET r.revokedAt = :now WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revokeIfActive(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshTokenEntity r SET r.revokedAt = :now WHERE r.userId = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence.repository;
+
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+    boolean existsByJti(String jti);
+
+    /**
+     * jti de los tokens aún vigentes revocados desde {@code since}.
+     */
+    @Query("SELECT r.jti FROM RevokedTokenEntity r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+    List<String> findJtisRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.jti FROM RevokedTokenEntity r WHERE r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,9 +1,15 @@
 package com.tiquetera.events.infrastructure.adapter.out.persistence.specifications;
 
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSort;
+import com.tiquetera.events.domain.model.EventStatus;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.EventEntity;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public class EventSpecifications {
@@ -13,16 +19,16 @@ public class EventSpecifications {
             if (venueId == null) {
                 return null;
             }
-            return criteriaBuilder.equal(root.get("venueId"), venueId);
+            return criteriaBuilder.equal(root.get("venue").get("id"), venueId);
         };
     }
 
-    public static Specification<EventEntity> withStatus(String status) {
+    public static Specification<EventEntity> withStatus(EventStatus status) {
         return (root, query, criteriaBuilder) -> {
-            if (!StringUtils.hasText(status)) {
+            if (status == null) {
                 return null;
             }
-            return criteriaBuilder.equal(criteriaBuilder.lower(root.get("status")), status.toLowerCase());
+            return criteriaBuilder.equal(root.get("status"), status);
         };
     }
 
@@ -41,7 +47,70 @@ public class EventSpecifications {
         };
     }
 
-    public static Specification<EventEntity> withFilters(Long venueId, String status, LocalDateTime startDate,
+    public static Specification<EventEntity> withPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return (root, query, criteriaBuilder) -> {
+            if (minPrice == null && maxPrice == null) {
+                return null;
+            }
+            if (minPrice != null && maxPrice != null) {
+                return criteriaBuilder.between(root.get("ticketPrice"), minPrice, maxPrice);
+            }
+            if (minPrice != null) {
+                return criteriaBuilder.greaterThanOrEqualTo(root.get("ticketPrice"), minPrice);
+            }
+            return criteriaBuilder.lessThanOrEqualTo(root.get("ticketPrice"), maxPrice);
+        };
+    }
+
+    /**
+     * Eventos estrictamente posteriores al cursor en el orden de búsqueda
+     * (clave de orden, id), en el sentido que indique el orden.
+     */
+    public static Specification<EventEntity> after(EventSort sort, EventCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return null;
+            }
+            Path<Long> id = root.get("id");
+            if (sort.byPrice()) {
+                Path<BigDecimal> price = root.get("ticketPrice");
+                return sort.descending()
+                        ? criteriaBuilder.or(criteriaBuilder.lessThan(price, cursor.getTicketPrice()),
+                                criteriaBuilder.and(criteriaBuilder.equal(price, cursor.getTicketPrice()),
+                                        criteriaBuilder.lessThan(id, cursor.getId())))
+                        : criteriaBuilder.or(criteriaBuilder.greaterThan(price, cursor.getTicketPrice()),
+                                criteriaBuilder.and(criteriaBuilder.equal(price, cursor.getTicketPrice()),
+                                        criteriaBuilder.greaterThan(id, cursor.getId())));
+            }
+            Path<LocalDateTime> date = root.get("eventDate");
+            return sort.descending()
+                    ? criteriaBuilder.or(criteriaBuilder.lessThan(date, cursor.getEventDate()),
+                            criteriaBuilder.and(criteriaBuilder.equal(date, cursor.getEventDate()),
+                                    criteriaBuilder.lessThan(id, cursor.getId())))
+                    : criteriaBuilder.or(criteriaBuilder.greaterThan(date, cursor.getEventDate()),
+                            criteriaBuilder.and(criteriaBuilder.equal(date, cursor.getEventDate()),
+                                    criteriaBuilder.greaterThan(id, cursor.getId())));
+        };
+    }
+
+    /**
+     * Trae el venue en el mismo SELECT; las consultas de conteo no lo necesitan.
+     */
+    public static Specification<EventEntity> fetchVenue() {
+        return (root, query, criteriaBuilder) -> {
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                root.fetch("venue", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<EventEntity> withSearchCriteria(EventSearchCriteria criteria) {
+        return withFilters(criteria.venueId(), criteria.status(), criteria.startDate(), criteria.endDate())
+                .and(withPriceRange(criteria.minPrice(), criteria.maxPrice()));
+    }
+
+    public static Specification<EventEntity> withFilters(Long venueId, EventStatus status, LocalDateTime startDate,
             LocalDateTime endDate) {
         return withVenueId(venueId)
                 .and(withStatus(status))
@@ -0,0 +1,127 @@
+package com.tiquetera.events.infrastructure.adapter.out.search;
+
+import com.tiquetera.common.replica.ReplicaLoadBalancingDataSource;
+import com.tiquetera.common.search.NGramIndex;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.EventSearchIndexPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador del índice de texto de eventos sobre {@link NGramIndex}.
+ * 
+ * El índice se construye al arrancar recorriendo la tabla una vez y luego
+ * lo mantienen los casos de uso de escritura. Los cambios hechos dentro de
+ * una transacción se aplican al confirmarse, para no indexar datos que
+ * luego se revierten.
+ * 
+ * Reconstruir no vacía el índice en uso: se arma uno nuevo con
+ * {@link NGramIndex.Builder} mientras las búsquedas siguen respondiendo con
+ * el anterior. Las escrituras que llegan durante la carga se aplican al
+ * índice en uso y se guardan; al terminar se repiten sobre el nuevo, que
+ * reemplaza al anterior, así que ninguna se pierde aunque la lectura de la
+ * tabla haya visto la fila antes del cambio.
+ * 
+ * @author Ticketing Team
+ * @version 3.9 - Text Search
+ */
+@Slf4j
+@Component
+public class EventSearchIndexAdapter implements EventSearchIndexPort {
+
+    private final Object writeLock = new Object();
+    private volatile NGramIndex index = new NGramIndex();
+    // Escrituras recibidas durante una reconstrucción; null fuera de ella
+    private List<Consumer<NGramIndex>> pendingWrites;
+    private final EventRepositoryPort eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public EventSearchIndexAdapter(EventRepositoryPort eventRepository, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Construye el índice recorriendo todos los eventos en el primario. Si
+     * falla, el servicio arranca igual y el índice se va llenando con las
+     * escrituras.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        try {
+            NGramIndex fresh = ReplicaLoadBalancingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> {
+                NGramIndex.Builder builder = new NGramIndex.Builder();
+                try (Stream<Event> events = eventRepository.streamAll()) {
+                    events.forEach(event -> builder.add(event.getId(), event.getName(), event.getDescription()));
+                }
+                return builder.build();
+            }));
+            synchronized (writeLock) {
+                pendingWrites.forEach(write -> write.accept(fresh));
+                index = fresh;
+            }
+            log.info("Índice de texto de eventos construido: {} eventos en {} ms",
+                    fresh.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException ex) {
+            log.error("No se pudo construir el índice de texto de eventos", ex);
+        } finally {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+        }
+    }
+
+    @Override
+    public void index(Event event) {
+        afterCommit(() -> write(target -> target.put(event.getId(), event.getName(), event.getDescription())));
+    }
+
+    @Override
+    public void remove(Long id) {
+        afterCommit(() -> write(target -> target.remove(id)));
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    private void write(Consumer<NGramIndex> write) {
+        synchronized (writeLock) {
+            write.accept(index);
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
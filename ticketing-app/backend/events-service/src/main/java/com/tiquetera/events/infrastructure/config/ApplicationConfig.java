@@ -1,18 +1,28 @@
 package com.tiquetera.events.infrastructure.config;
 
 import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.UserRepository;
+import com.tiquetera.events.infrastructure.security.BoundedPasswordEncoder;
+import com.tiquetera.events.infrastructure.security.CaffeineUserCache;
+import com.tiquetera.security.JwtKeys;
+import com.tiquetera.security.JwtVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
@@ -25,11 +35,28 @@ public class ApplicationConfig {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
+    // Verifica con la pública de la clave con que firma JwtService
+    @Bean
+    public JwtVerifier jwtVerifier(
+            @Value("${application.security.jwt.private-key}") String privateKey,
+            @Value("${application.security.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        return new JwtVerifier(JwtKeys.publicKey(JwtKeys.privateKey(privateKey)), verifiedCacheSize);
+    }
+
+    // Usuarios del login; con ttl 0, el valor por defecto, se consulta siempre la base
+    @Bean
+    public UserCache userCache(
+            @Value("${application.security.user-cache.ttl:0s}") Duration ttl,
+            @Value("${application.security.user-cache.maximum-size:10000}") long maximumSize) {
+        return ttl.isZero() ? new NullUserCache() : new CaffeineUserCache(ttl, maximumSize);
+    }
+
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder, UserCache userCache) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserCache(userCache);
         return authProvider;
     }
 
@@ -38,8 +65,12 @@ public class ApplicationConfig {
         return config.getAuthenticationManager();
     }
 
+    // BCrypt en un pool acotado; con 0 hilos usa la mitad de los núcleos
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+            @Value("${application.security.password-hashing.threads:0}") int threads,
+            @Value("${application.security.password-hashing.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, meterRegistry);
     }
 }
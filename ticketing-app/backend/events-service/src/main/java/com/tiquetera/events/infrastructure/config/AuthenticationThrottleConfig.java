@@ -0,0 +1,25 @@
+package com.tiquetera.events.infrastructure.config;
+
+import com.tiquetera.events.infrastructure.security.AuthenticationThrottle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Aplica el límite de intentos por IP a /auth/**.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AuthenticationThrottleConfig implements WebMvcConfigurer {
+
+    private final AuthenticationThrottle authenticationThrottle;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(authenticationThrottle).addPathPatterns("/auth/**");
+    }
+}
@@ -1,31 +1,82 @@
 package com.tiquetera.events.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.tiquetera.events.application.usecase.*;
+import com.tiquetera.events.domain.model.Event;
 import com.tiquetera.events.domain.ports.in.*;
 import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import com.tiquetera.events.domain.ports.out.EventSearchIndexPort;
+import com.tiquetera.events.domain.ports.out.VenueBookingPort;
+import com.tiquetera.events.domain.ports.out.VenueCalendarPort;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.EventJpaAdapter;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.cache.CachingEventRepositoryAdapter;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.cache.UpcomingEventsRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
 
 @Configuration
+@EnableScheduling
 public class BeanConfiguration {
     @Bean
-    public CreateEventUseCase createEventUseCase(EventRepositoryPort repo) {
-        return new CreateEventService(repo);
+    @Primary
+    public UpcomingEventsRepositoryAdapter eventRepository(EventJpaAdapter jpaAdapter,
+            ObjectProvider<CachingEventRepositoryAdapter> cachingEventRepository) {
+        EventRepositoryPort cached = cachingEventRepository.getIfAvailable();
+        return new UpcomingEventsRepositoryAdapter(cached != null ? cached : jpaAdapter);
+    }
+    @Bean
+    @ConditionalOnProperty(name = "events.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingEventRepositoryAdapter cachingEventRepository(EventJpaAdapter jpaAdapter, MeterRegistry meterRegistry,
+            @Value("${events.cache.maximum-size:10000}") long maximumSize,
+            @Value("${events.cache.ttl:10m}") Duration ttl) {
+        Cache<Long, Event> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "events.by-id");
+        return new CachingEventRepositoryAdapter(jpaAdapter, cache);
+    }
+    @Bean
+    public CreateEventUseCase createEventUseCase(EventRepositoryPort repo, EventSearchIndexPort searchIndex,
+            VenueCalendarPort venueCalendar, VenueBookingPort venueBookings) {
+        return new CreateEventService(repo, searchIndex, venueCalendar, venueBookings);
     }
     @Bean
     public GetEventUseCase getEventUseCase(EventRepositoryPort repo) {
         return new GetEventService(repo);
     }
     @Bean
-    public ListEventsUseCase listEventsUseCase(EventRepositoryPort repo) {
-        return new ListEventsService(repo);
+    public ListEventsUseCase listEventsUseCase(EventRepositoryPort repo, VenueCalendarPort venueCalendar) {
+        return new ListEventsService(repo, venueCalendar);
+    }
+    @Bean
+    public UpdateEventUseCase updateEventUseCase(EventRepositoryPort repo, EventSearchIndexPort searchIndex,
+            VenueCalendarPort venueCalendar, VenueBookingPort venueBookings) {
+        return new UpdateEventService(repo, searchIndex, venueCalendar, venueBookings);
+    }
+    @Bean
+    public DeleteEventUseCase deleteEventUseCase(EventRepositoryPort repo, EventSearchIndexPort searchIndex,
+            VenueCalendarPort venueCalendar, VenueBookingPort venueBookings) {
+        return new DeleteEventService(repo, searchIndex, venueCalendar, venueBookings);
     }
     @Bean
-    public UpdateEventUseCase updateEventUseCase(EventRepositoryPort repo) {
-        return new UpdateEventService(repo);
+    public BulkEventsUseCase bulkEventsUseCase(EventRepositoryPort repo, EventSearchIndexPort searchIndex,
+            VenueCalendarPort venueCalendar, VenueBookingPort venueBookings) {
+        return new BulkEventsService(repo, searchIndex, venueCalendar, venueBookings);
     }
     @Bean
-    public DeleteEventUseCase deleteEventUseCase(EventRepositoryPort repo) {
-        return new DeleteEventService(repo);
+    public SearchEventsUseCase searchEventsUseCase(EventRepositoryPort repo, EventSearchIndexPort searchIndex) {
+        return new SearchEventsService(repo, searchIndex);
     }
 }
@@ -0,0 +1,37 @@
+package com.tiquetera.events.infrastructure.config;
+
+import com.tiquetera.common.metrics.OperationMetricsAdvisors;
+import com.tiquetera.events.domain.ports.in.CreateEventUseCase;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Métricas de latencia, throughput y errores de los casos de uso y del
+ * repositorio de eventos, con los advisors de service-common. En el
+ * repositorio se mide cada capa del puerto (índice de próximos eventos,
+ * caché y JPA) por separado, con la etiqueta implementation.
+ *
+ * @author Ticketing Team
+ * @version 3.16 - Service Common
+ */
+@Configuration
+public class OperationMetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor useCaseMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return OperationMetricsAdvisors.useCases(meterRegistry, CreateEventUseCase.class);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return OperationMetricsAdvisors.repository(meterRegistry, EventRepositoryPort.class);
+    }
+}
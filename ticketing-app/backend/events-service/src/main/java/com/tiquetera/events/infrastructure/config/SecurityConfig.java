@@ -1,6 +1,9 @@
 package com.tiquetera.events.infrastructure.config;
 
-import com.tiquetera.events.infrastructure.security.JwtAuthenticationFilter;
+import com.tiquetera.events.infrastructure.security.JwtService;
+import com.tiquetera.events.infrastructure.security.TokenRevocationService;
+import com.tiquetera.security.JwtAuthenticationFilter;
+import com.tiquetera.security.JwtVerifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,21 +16,30 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.List;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthFilter;
+    private final JwtVerifier jwtVerifier;
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
     private final AuthenticationProvider authenticationProvider;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        // Fuera del contexto para que no se registre también como filtro del contenedor
+        JwtAuthenticationFilter jwtAuthFilter =
+                new JwtAuthenticationFilter(jwtVerifier, List.of(jwtService, tokenRevocationService));
+
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(req -> req
-                        .requestMatchers("/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html")
+                        .requestMatchers("/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html",
+                                "/actuator/health")
                         .permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -0,0 +1,64 @@
+package com.tiquetera.events.infrastructure.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Vigila cuántas sentencias SQL lanza cada petición HTTP.
+ *
+ * Si una petición supera events.sql.statement-budget se registra un WARN
+ * con el método, la ruta y el número de sentencias, lo que delata un N+1
+ * (una consulta por fila) sin tener que revisar el log de SQL.
+ *
+ * Es opcional y está desactivado por defecto: la garantía de que ningún
+ * método del repositorio cae en un N+1 la da
+ * EventJpaAdapterStatementBudgetTest en el build. Este filtro sirve para
+ * revisar un entorno concreto, arrancando con
+ * {@code --events.sql.statement-budget=10}.
+ *
+ * @author Ticketing Team
+ * @version 3.6 - Query Budget
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.sql.statement-budget")
+public class SqlStatementBudgetFilter implements Filter, HibernatePropertiesCustomizer {
+
+    private final int budget;
+
+    public SqlStatementBudgetFilter(@Value("${events.sql.statement-budget}") int budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        SqlStatementCounter.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.current();
+            if (statements > budget) {
+                HttpServletRequest httpRequest = (HttpServletRequest) request;
+                log.warn("{} {} ejecutó {} sentencias SQL (presupuesto: {})",
+                        httpRequest.getMethod(), httpRequest.getRequestURI(), statements, budget);
+            }
+            SqlStatementCounter.clear();
+        }
+    }
+}
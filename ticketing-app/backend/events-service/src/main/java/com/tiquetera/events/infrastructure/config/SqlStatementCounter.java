@@ -0,0 +1,35 @@
+package com.tiquetera.events.infrastructure.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en el hilo actual.
+ *
+ * Se registra como StatementInspector y no modifica el SQL; lo usa
+ * SqlStatementBudgetFilter para detectar peticiones con consultas N+1.
+ *
+ * @author Ticketing Team
+ * @version 3.5 - Query Budget
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+}
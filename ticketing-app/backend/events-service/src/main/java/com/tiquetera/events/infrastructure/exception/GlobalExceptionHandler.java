@@ -1,12 +1,23 @@
 package com.tiquetera.events.infrastructure.exception;
 
+import com.tiquetera.common.importer.ImportQueueFullException;
+import com.tiquetera.events.domain.exception.InvalidBulkRequestException;
+import com.tiquetera.events.domain.exception.InvalidCursorException;
+import com.tiquetera.events.domain.exception.InvalidSearchCriteriaException;
+import com.tiquetera.events.domain.exception.InvalidStatusException;
 import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.domain.exception.VenueBookingConflictException;
+import com.tiquetera.events.infrastructure.security.AuthenticationThrottledException;
+import com.tiquetera.events.infrastructure.security.InvalidRefreshTokenException;
+import com.tiquetera.events.infrastructure.security.PasswordHashingRejectedException;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -52,6 +63,87 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidCursorException(
+            InvalidCursorException ex,
+            WebRequest request) {
+
+        log.error("Cursor de paginación inválido: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Cursor");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/invalid-cursor"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidStatusException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidStatusException(
+            InvalidStatusException ex,
+            WebRequest request) {
+
+        log.error("Estado inválido: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Status");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/invalid-status"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidSearchCriteriaException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidSearchCriteriaException(
+            InvalidSearchCriteriaException ex,
+            WebRequest request) {
+
+        log.error("Criterios de búsqueda inválidos: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Search Criteria");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/invalid-search-criteria"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidBulkRequestException(
+            InvalidBulkRequestException ex,
+            WebRequest request) {
+
+        log.error("Operación en lote inválida: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Bulk Request");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/invalid-bulk-request"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    @ExceptionHandler(VenueBookingConflictException.class)
+    public ResponseEntity<ProblemDetail> handleVenueBookingConflictException(
+            VenueBookingConflictException ex,
+            WebRequest request) {
+
+        log.error("Conflicto de horario en el venue: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+        problemDetail.setTitle("Venue Booking Conflict");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/venue-booking-conflict"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        problemDetail.setProperty("conflictingEventId", ex.getConflictingEventId());
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ProblemDetail> handleValidationExceptions(
             MethodArgumentNotValidException ex,
@@ -99,6 +191,76 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex,
+            WebRequest request) {
+
+        log.error("Conflicto de versión: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "El recurso fue modificado por otra petición");
+        problemDetail.setTitle("Concurrent Modification");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/conflict"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidRefreshTokenException(
+            InvalidRefreshTokenException ex,
+            WebRequest request) {
+
+        log.warn("Refresh token rechazado");
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, ex.getMessage());
+        problemDetail.setTitle("Invalid Refresh Token");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/invalid-refresh-token"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problemDetail);
+    }
+
+    @ExceptionHandler(AuthenticationThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleAuthenticationThrottledException(
+            AuthenticationThrottledException ex,
+            WebRequest request) {
+
+        log.warn("Intentos de autenticación limitados: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+        problemDetail.setTitle("Too Many Requests");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/too-many-requests"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(problemDetail);
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ProblemDetail> handlePasswordHashingRejectedException(
+            PasswordHashingRejectedException ex,
+            WebRequest request) {
+
+        log.warn("Hash de contraseña rechazado: cola llena");
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage());
+        problemDetail.setTitle("Service Unavailable");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/service-unavailable"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problemDetail);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGlobalException(
             Exception ex,
@@ -116,6 +278,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
     }
 
+    @ExceptionHandler(ImportQueueFullException.class)
+    public ResponseEntity<ProblemDetail> handleImportQueueFullException(
+            ImportQueueFullException ex,
+            WebRequest request) {
+
+        log.warn("Importación rechazada: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problemDetail.setTitle("Import Queue Full");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/import-queue-full"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(problemDetail);
+    }
+
     private void enrichProblemDetail(ProblemDetail problemDetail) {
         problemDetail.setProperty(TIMESTAMP, LocalDateTime.now());
         String traceId = MDC.get(TRACE_ID);
@@ -3,15 +3,22 @@ package com.tiquetera.events.infrastructure.security;
 import com.tiquetera.events.domain.model.Role;
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.AuthenticationRequest;
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.AuthenticationResponse;
+import com.tiquetera.events.infrastructure.adapter.in.web.dto.RefreshTokenRequest;
 import com.tiquetera.events.infrastructure.adapter.in.web.dto.RegisterRequest;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.UserEntity;
 import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.UserRepository;
+import com.tiquetera.security.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class AuthenticationService {
@@ -20,8 +27,12 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final AuthenticationThrottle authenticationThrottle;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthenticationResponse register(RegisterRequest request) {
+        authenticationThrottle.checkAccount(request.getEmail());
         var user = UserEntity.builder()
                 .firstname(request.getFirstname())
                 .lastname(request.getLastname())
@@ -30,22 +41,60 @@ public class AuthenticationService {
                 .role(request.getRole() != null ? request.getRole() : Role.USER)
                 .build();
         repository.save(user);
-        var jwtToken = jwtService.generateToken(user);
-        return AuthenticationResponse.builder()
-                .token(jwtToken)
-                .build();
+        return tokens(user);
     }
 
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()));
+        authenticationThrottle.checkAccount(request.getEmail());
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()));
+        } catch (InternalAuthenticationServiceException ex) {
+            // El hash de un usuario inexistente también pasa por el pool
+            if (ex.getCause() instanceof PasswordHashingRejectedException rejected) {
+                throw rejected;
+            }
+            throw ex;
+        }
         var user = repository.findByEmail(request.getEmail())
                 .orElseThrow();
-        var jwtToken = jwtService.generateToken(user);
+        return tokens(user);
+    }
+
+    /**
+     * Cambia un refresh token por un par nuevo, con el rol actual del usuario.
+     */
+    public AuthenticationResponse refresh(RefreshTokenRequest request) {
+        var user = refreshTokenService.consume(request.getRefreshToken());
+        return tokens(user);
+    }
+
+    /**
+     * Revoca el access token de la cabecera Authorization, si es válido, y
+     * el refresh token del cuerpo.
+     */
+    public void logout(String authHeader, RefreshTokenRequest request) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                Claims claims = jwtService.verify(authHeader.substring(7));
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+            } catch (JwtException ex) {
+                // Un token inválido o expirado ya no da acceso
+            }
+        }
+        if (request != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+    }
+
+    private AuthenticationResponse tokens(UserEntity user) {
+        var jwtToken = jwtService.generateToken(Map.of(JwtVerifier.ROLE_CLAIM, user.getRole().name()), user);
         return AuthenticationResponse.builder()
                 .token(jwtToken)
+                .refreshToken(refreshTokenService.issue(user))
+                .expiresIn(jwtService.getExpiration() / 1000)
                 .build();
     }
 }
@@ -0,0 +1,84 @@
+package com.tiquetera.events.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Limita los intentos de autenticación por cliente y por cuenta.
+ *
+ * Como interceptor de /auth/** aplica el límite por IP antes de leer el
+ * cuerpo; AuthenticationService aplica el de la cuenta antes de hashear la
+ * contraseña. Pasado el límite responde 429 con Retry-After y cuenta el
+ * rechazo en ticketing.auth.throttled (scope=client o account). Una
+ * capacidad 0 desactiva ese límite.
+ *
+ * La IP es la de la conexión; detrás de un proxy hay que activar
+ * server.forward-headers-strategy para usar la del cliente.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+@Component
+public class AuthenticationThrottle implements HandlerInterceptor {
+
+    private final TokenBucketLimiter perClient;
+    private final TokenBucketLimiter perAccount;
+    private final Counter clientRejections;
+    private final Counter accountRejections;
+
+    public AuthenticationThrottle(MeterRegistry meterRegistry,
+            @Value("${application.security.auth-throttle.per-client.capacity:30}") int clientCapacity,
+            @Value("${application.security.auth-throttle.per-client.refill-per-minute:60}") int clientRefill,
+            @Value("${application.security.auth-throttle.per-account.capacity:5}") int accountCapacity,
+            @Value("${application.security.auth-throttle.per-account.refill-per-minute:5}") int accountRefill,
+            @Value("${application.security.auth-throttle.maximum-keys:100000}") long maximumKeys) {
+        this.perClient = limiter(clientCapacity, clientRefill, maximumKeys);
+        this.perAccount = limiter(accountCapacity, accountRefill, maximumKeys);
+        this.clientRejections = rejections("client", meterRegistry);
+        this.accountRejections = rejections("account", meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        check(perClient, request.getRemoteAddr(), clientRejections);
+        return true;
+    }
+
+    /**
+     * @throws AuthenticationThrottledException si la cuenta agotó sus intentos
+     */
+    public void checkAccount(String email) {
+        if (email != null) {
+            check(perAccount, email.toLowerCase(), accountRejections);
+        }
+    }
+
+    private static void check(TokenBucketLimiter limiter, String key, Counter rejections) {
+        if (limiter == null) {
+            return;
+        }
+        long retryAfter = limiter.tryAcquire(key);
+        if (retryAfter > 0) {
+            rejections.increment();
+            throw new AuthenticationThrottledException(retryAfter);
+        }
+    }
+
+    private static TokenBucketLimiter limiter(int capacity, int refillPerMinute, long maximumKeys) {
+        return capacity > 0 ? new TokenBucketLimiter(capacity, refillPerMinute, maximumKeys) : null;
+    }
+
+    private static Counter rejections(String scope, MeterRegistry meterRegistry) {
+        return Counter.builder("ticketing.auth.throttled")
+                .description("Intentos de autenticación rechazados por el límite de intentos")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
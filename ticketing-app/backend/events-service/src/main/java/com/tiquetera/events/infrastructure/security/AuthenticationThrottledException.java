@@ -0,0 +1,20 @@
+package com.tiquetera.events.infrastructure.security;
+
+import lombok.Getter;
+
+/**
+ * Un cliente o una cuenta agotó sus intentos de autenticación (429).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+@Getter
+public class AuthenticationThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AuthenticationThrottledException(long retryAfterSeconds) {
+        super("Demasiados intentos de autenticación, intente de nuevo en " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
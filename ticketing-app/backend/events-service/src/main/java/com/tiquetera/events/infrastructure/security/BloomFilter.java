@@ -0,0 +1,76 @@
+package com.tiquetera.events.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de cadenas, seguro entre hilos y sin asignaciones al
+ * consultar.
+ *
+ * {@link #mightContain(String)} nunca da falso negativo: si responde false
+ * la cadena no se agregó. Un true puede ser falso positivo con la
+ * probabilidad elegida mientras no se supere el número de elementos
+ * esperado. Cada cadena se resume en un hash de 64 bits (FNV-1a con la
+ * mezcla final de MurmurHash3) del que salen las k posiciones por doble
+ * hashing.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Refresh Tokens
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long expected = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long size = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (size + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * 64;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expected * ln2));
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,111 @@
+package com.tiquetera.events.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ejecuta el hash de contraseñas (BCrypt) en un pool propio y acotado.
+ *
+ * Login y registro esperan su hash en el pool, que tiene
+ * {@code threads} hilos y una cola de {@code queueCapacity}; con la cola
+ * llena el hash se rechaza enseguida con
+ * {@link PasswordHashingRejectedException} (503) en lugar de esperar. Así una
+ * avalancha de logins ocupa a lo sumo esos hilos de CPU y el resto queda
+ * para las lecturas de eventos.
+ *
+ * Publica ticketing.password.hash (duración del hash por operación, encode
+ * o matches), ticketing.password.hash.wait (tiempo en cola) y las métricas
+ * executor.* del pool con name=password-hash, entre ellas executor.queued.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.waitTimer = Timer.builder("ticketing.password.hash.wait")
+                .description("Espera de los hash de contraseña en la cola del pool")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "password-hash", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        long queuedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException ex) {
+            throw new PasswordHashingRejectedException();
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el hash de la contraseña", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("ticketing.password.hash")
+                .description("Duración del hash de contraseñas")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
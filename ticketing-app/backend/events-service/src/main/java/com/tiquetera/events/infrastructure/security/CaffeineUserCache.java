@@ -0,0 +1,56 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+/**
+ * Caché breve de usuarios para el inicio de sesión, que ahorra la lectura
+ * de users en logins repetidos de la misma cuenta.
+ *
+ * Es opcional ({@code application.security.user-cache.ttl}, apagada por
+ * defecto). Las entradas viven pocos segundos porque un cambio hecho en
+ * otra instancia no llega aquí: durante ese tiempo esta instancia sigue
+ * viendo el usuario anterior. Los cambios de rol de esta instancia las
+ * descartan en el momento con {@link UserRoleChangedEvent}. Una contraseña
+ * que no coincide con la guardada en caché se vuelve a comprobar contra la
+ * base (DaoAuthenticationProvider).
+ *
+ * @author Ticketing Team
+ * @version 1.1 - Stateless Authentication
+ */
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, UserDetails> users;
+
+    public CaffeineUserCache(Duration ttl, long maximumSize) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return users.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        users.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        users.invalidate(username);
+    }
+
+    @EventListener
+    public void onRoleChanged(UserRoleChangedEvent event) {
+        removeUserFromCache(event.email());
+    }
+}
@@ -0,0 +1,14 @@
+package com.tiquetera.events.infrastructure.security;
+
+/**
+ * Refresh token inexistente, expirado o ya usado (401).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Refresh Tokens
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException() {
+        super("Refresh token inválido o expirado");
+    }
+}
@@ -1,79 +1,146 @@
 package com.tiquetera.events.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tiquetera.events.domain.model.Role;
+import com.tiquetera.security.JwtClaimsValidator;
+import com.tiquetera.security.JwtKeys;
+import com.tiquetera.security.JwtVerifier;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import java.security.PrivateKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * Emite los JWT de la API y verifica los propios.
+ *
+ * Los tokens se firman con RS256 y la clave privada
+ * ({@code application.security.jwt.private-key}), que solo tiene este
+ * servicio; la verificación es la de {@link JwtVerifier} con la pública, la
+ * misma que usan venues-service y events-reactive sin llamar a este servicio.
+ *
+ * Los tokens llevan el rol ({@value JwtVerifier#ROLE_CLAIM}) y las
+ * authorities ({@value JwtVerifier#AUTHORITIES_CLAIM}) del usuario, así que
+ * JwtAuthenticationFilter arma la autenticación sin consultar la tabla users.
+ * Como el rol viaja en el token, un cambio de rol se anuncia con
+ * {@link UserRoleChangedEvent}: a partir de ahí, en esta instancia, los
+ * tokens del usuario con otro rol se rechazan hasta que expiran.
+ *
+ * Los access tokens duran poco ({@code expiration}, 15 minutos por
+ * defecto) y llevan un jti para poder revocarlos antes con
+ * TokenRevocationService; la sesión se extiende con refresh tokens.
+ *
+ * @author Ticketing Team
+ * @version 1.4 - Shared Security
+ */
 @Service
-public class JwtService {
+public class JwtService implements JwtClaimsValidator {
 
-    @Value("${application.security.jwt.secret-key:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}")
-    private String secretKey;
+    private final long jwtExpiration;
+    private final PrivateKey signingKey;
+    private final JwtVerifier jwtVerifier;
+    // Rol nuevo por usuario; cada entrada vive lo que un token emitido justo
+    // antes del cambio, sin límite de tamaño para no olvidar un cambio antes
+    private final Cache<String, Role> changedRoles;
 
-    @Value("${application.security.jwt.expiration:86400000}")
-    private long jwtExpiration;
+    public JwtService(
+            @Value("${application.security.jwt.private-key}") String privateKey,
+            @Value("${application.security.jwt.expiration:900000}") long jwtExpiration,
+            JwtVerifier jwtVerifier) {
+        this.jwtExpiration = jwtExpiration;
+        this.signingKey = JwtKeys.privateKey(privateKey);
+        this.jwtVerifier = jwtVerifier;
+        this.changedRoles = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtExpiration))
+                .build();
+    }
+
+    /**
+     * Verifica firma y expiración del token y devuelve sus claims.
+     *
+     * @throws io.jsonwebtoken.JwtException si el token no es válido o expiró
+     */
+    public Claims verify(String token) {
+        return jwtVerifier.verify(token);
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token));
+    }
+
+    /**
+     * Vigencia de los access tokens en milisegundos.
+     */
+    public long getExpiration() {
+        return jwtExpiration;
     }
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    /**
+     * Emite un token con las authorities del usuario; el rol lo agrega quien
+     * lo conoce, en {@code extraClaims} con la clave
+     * {@value JwtVerifier#ROLE_CLAIM}.
+     */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(JwtVerifier.AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        return buildToken(claims, userDetails, jwtExpiration);
     }
 
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
         return Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.RS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        Claims claims = verify(token);
+        return userDetails.getUsername().equals(claims.getSubject()) && jwtVerifier.isTokenValid(claims)
+                && isValid(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Rechaza los tokens cuyo rol ya no es el del usuario.
+     */
+    @Override
+    public boolean isValid(Claims claims) {
+        return !isRoleSuperseded(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    @EventListener
+    public void onRoleChanged(UserRoleChangedEvent event) {
+        changedRoles.put(event.email(), event.role());
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Un token sin claim de rol no se puede comparar y se rechaza igual
+    private boolean isRoleSuperseded(Claims claims) {
+        Role role = changedRoles.getIfPresent(claims.getSubject());
+        return role != null && !role.name().equals(claims.get(JwtVerifier.ROLE_CLAIM, String.class));
     }
 }
@@ -0,0 +1,15 @@
+package com.tiquetera.events.infrastructure.security;
+
+/**
+ * El pool de hash de contraseñas tiene la cola llena; el cliente debe
+ * reintentar más tarde (503).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException() {
+        super("El servicio de autenticación está saturado, intente de nuevo en unos segundos");
+    }
+}
@@ -0,0 +1,119 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.RefreshTokenEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.RefreshTokenRepository;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.UserRepository;
+import com.tiquetera.security.TokenDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Emite, rota y revoca refresh tokens.
+ *
+ * Un refresh token es un valor aleatorio de 256 bits del que la tabla
+ * refresh_tokens guarda solo el SHA-256. Cada uso lo revoca y emite otro
+ * (rotación); si llega uno ya revocado se supone robado y se revocan todos
+ * los del usuario, que deberá volver a iniciar sesión. Cada
+ * {@code cleanup-interval} se borran de la tabla los ya expirados.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Refresh Tokens
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Duration expiration;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+            @Value("${application.security.refresh-token.expiration:7d}") Duration expiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.expiration = expiration;
+    }
+
+    /**
+     * Emite un refresh token para el usuario.
+     */
+    public String issue(UserEntity user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(TokenDigest.sha256(token))
+                .userId(user.getId())
+                .createdAt(now)
+                .expiresAt(now.plus(expiration))
+                .build());
+        return token;
+    }
+
+    /**
+     * Revoca el refresh token y devuelve su usuario, para emitirle otro par.
+     *
+     * @throws InvalidRefreshTokenException si no existe, expiró o ya se usó
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public UserEntity consume(String token) {
+        RefreshTokenEntity stored = find(token);
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException();
+        }
+        // La revocación condicional deja pasar a una sola de dos peticiones
+        // con el mismo token
+        if (refreshTokenRepository.revokeIfActive(stored.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeAllByUserId(stored.getUserId(), now);
+            log.warn("Refresh token reutilizado del usuario {}; {} tokens revocados", stored.getUserId(), revoked);
+            throw new InvalidRefreshTokenException();
+        }
+        return userRepository.findById(stored.getUserId())
+                .orElseThrow(InvalidRefreshTokenException::new);
+    }
+
+    /**
+     * Revoca el refresh token, p. ej. al cerrar sesión. Un token inválido se
+     * ignora.
+     */
+    public void revoke(String token) {
+        if (token == null) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(TokenDigest.sha256(token))
+                .ifPresent(stored -> refreshTokenRepository.revokeIfActive(stored.getId(), LocalDateTime.now()));
+    }
+
+    /**
+     * Borra los refresh tokens expirados; un token expirado se rechaza igual
+     * exista o no su fila.
+     */
+    @Scheduled(fixedDelayString = "${application.security.refresh-token.cleanup-interval:PT1H}",
+            initialDelayString = "${application.security.refresh-token.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("{} refresh tokens expirados borrados", deleted);
+    }
+
+    private RefreshTokenEntity find(String token) {
+        if (token == null) {
+            throw new InvalidRefreshTokenException();
+        }
+        return refreshTokenRepository.findByTokenHash(TokenDigest.sha256(token))
+                .orElseThrow(InvalidRefreshTokenException::new);
+    }
+}
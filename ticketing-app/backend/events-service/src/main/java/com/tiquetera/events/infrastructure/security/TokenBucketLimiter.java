@@ -0,0 +1,71 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Un token bucket por clave (IP o cuenta).
+ *
+ * Cada bucket admite ráfagas de hasta {@code capacity} intentos y recupera
+ * {@code refillPerMinute} por minuto. Un bucket sin uso durante el tiempo
+ * que tarda en llenarse sale de la caché, porque volvería lleno de todos
+ * modos; con {@code maximumKeys} buckets se descartan los menos usados.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+public class TokenBucketLimiter {
+
+    // La recarga suma fracciones en coma flotante: quien vuelve justo al
+    // cumplirse Retry-After puede tener 0.9999999 intentos y debe pasar
+    private static final double ROUNDING = 1e-6;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final Cache<String, Bucket> buckets;
+
+    public TokenBucketLimiter(int capacity, int refillPerMinute, long maximumKeys) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(Duration.ofNanos((long) Math.ceil(capacity / tokensPerNano)))
+                .build();
+    }
+
+    /**
+     * Consume un intento de la clave.
+     *
+     * @return 0 si se admite; si no, segundos hasta el próximo intento
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    // Con el instante explícito, para probar la recarga sin esperar
+    long tryAcquire(String key, long now) {
+        return buckets.get(key, k -> new Bucket(now)).tryAcquire(now);
+    }
+
+    private final class Bucket {
+
+        private double tokens = capacity;
+        private long refilledAt;
+
+        private Bucket(long now) {
+            this.refilledAt = now;
+        }
+
+        synchronized long tryAcquire(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens >= 1 - ROUNDING) {
+                tokens--;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano / 1_000_000_000L));
+        }
+    }
+}
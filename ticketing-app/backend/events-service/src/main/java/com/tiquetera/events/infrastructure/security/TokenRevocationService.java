@@ -0,0 +1,130 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.RevokedTokenEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.RevokedTokenRepository;
+import com.tiquetera.security.JwtClaimsValidator;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Lista de access tokens revocados, consultada en cada petición autenticada.
+ *
+ * La tabla revoked_tokens es la fuente de verdad; delante hay un filtro de
+ * Bloom en memoria con los jti revocados que siguen vigentes. Un token que
+ * el filtro no contiene, el caso normal, se acepta sin ir a la base; solo un
+ * posible acierto (revocado o falso positivo, 1 % por defecto) se confirma
+ * con una consulta por jti.
+ *
+ * El filtro se mantiene con la propia tabla como registro: cada
+ * {@code poll-interval} se agregan las filas revocadas desde la lectura
+ * anterior (menos un margen, por relojes y transacciones que confirman
+ * tarde; agregar dos veces no cambia nada), y cada {@code rebuild-interval}
+ * se arma uno nuevo con las vigentes, para soltar las expiradas, y se borran
+ * de la tabla las que ya expiraron. Las revocaciones de esta instancia
+ * entran al filtro en el momento; las de otras, en la siguiente lectura.
+ * Hasta la primera carga todas las consultas van a la base.
+ *
+ * @author Ticketing Team
+ * @version 1.1 - Shared Security
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements JwtClaimsValidator {
+
+    private static final Duration POLL_MARGIN = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository repository;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private LocalDateTime lastPoll;
+
+    public TokenRevocationService(RevokedTokenRepository repository,
+            @Value("${application.security.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${application.security.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Indica si el token con ese jti fue revocado. Los tokens sin jti
+     * (emitidos antes de la lista) no se pueden revocar.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(jti)) {
+            return false;
+        }
+        return repository.existsByJti(jti);
+    }
+
+    /**
+     * Rechaza los tokens revocados, para JwtAuthenticationFilter.
+     */
+    @Override
+    public boolean isValid(Claims claims) {
+        return !isRevoked(claims.getId());
+    }
+
+    /**
+     * Revoca el token hasta su expiración.
+     */
+    public void revoke(String jti, Date expiresAt) {
+        if (jti == null) {
+            return;
+        }
+        try {
+            repository.save(RevokedTokenEntity.builder()
+                    .jti(jti)
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                    .revokedAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException ex) {
+            // Ya estaba revocado
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.add(jti);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.revocation.poll-interval:PT5S}")
+    public synchronized void poll() {
+        if (filter == null) {
+            rebuild();
+            return;
+        }
+        LocalDateTime start = LocalDateTime.now();
+        List<String> revoked = repository.findJtisRevokedSince(lastPoll.minus(POLL_MARGIN), start);
+        revoked.forEach(filter::add);
+        lastPoll = start;
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.revocation.rebuild-interval:PT1H}",
+            initialDelayString = "${application.security.revocation.rebuild-interval:PT1H}")
+    public synchronized void rebuild() {
+        LocalDateTime start = LocalDateTime.now();
+        int deleted = repository.deleteExpired(start);
+        List<String> active = repository.findActiveJtis(start);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, 2L * active.size()), falsePositiveRate);
+        active.forEach(rebuilt::add);
+        filter = rebuilt;
+        lastPoll = start;
+        log.debug("Filtro de tokens revocados con {} vigentes; {} expirados borrados", active.size(), deleted);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.domain.model.Role;
+
+/**
+ * Aviso de que el rol de un usuario cambió.
+ *
+ * Lo publica UserRoleService después de guardar el usuario. Al recibirlo,
+ * JwtService rechaza los tokens del usuario que aún llevan el rol anterior
+ * y CaffeineUserCache descarta su entrada; el usuario debe volver a
+ * autenticarse para recibir uno nuevo. venues-service y events-reactive no
+ * reciben el aviso: allí un token conserva su rol hasta que expira.
+ *
+ * @param email usuario (sujeto de sus tokens)
+ * @param role  rol nuevo
+ * @author Ticketing Team
+ * @version 1.2 - Stateless Authentication
+ */
+public record UserRoleChangedEvent(String email, Role role) {
+}
@@ -0,0 +1,48 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.domain.model.Role;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cambia el rol de los usuarios.
+ *
+ * Cada cambio se anuncia con {@link UserRoleChangedEvent} una vez guardado,
+ * fuera de toda transacción: si el guardado falla no se publica nada y los
+ * tokens del usuario siguen valiendo. Con el aviso, JwtService rechaza los
+ * tokens que llevan el rol anterior y la caché de usuarios suelta la
+ * entrada; el usuario recibe el rol nuevo al iniciar sesión o renovar.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Stateless Authentication
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRoleService {
+
+    private final UserRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Asigna el rol al usuario; si ya lo tenía no hace nada.
+     *
+     * @throws ResourceNotFoundException si no existe un usuario con ese email
+     */
+    public void changeRole(String email, Role role) {
+        UserEntity user = repository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado: " + email));
+        if (user.getRole() == role) {
+            return;
+        }
+        user.setRole(role);
+        repository.save(user);
+        log.info("Rol de {} cambiado a {}", email, role);
+        eventPublisher.publishEvent(new UserRoleChangedEvent(email, role));
+    }
+}
@@ -0,0 +1,2 @@
+ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX idx_events_updated_at ON events(updated_at);
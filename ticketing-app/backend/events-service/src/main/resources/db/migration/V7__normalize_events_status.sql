@@ -0,0 +1,7 @@
+UPDATE events SET status = UPPER(TRIM(status)) WHERE status IS NOT NULL;
+UPDATE events SET status = 'CANCELLED' WHERE status = 'CANCELED';
+UPDATE events SET status = 'SCHEDULED'
+    WHERE status IS NULL OR status NOT IN ('SCHEDULED', 'ACTIVE', 'CANCELLED', 'COMPLETED');
+ALTER TABLE events MODIFY status VARCHAR(20) NOT NULL DEFAULT 'SCHEDULED';
+DROP INDEX idx_events_status ON events;
+CREATE INDEX idx_events_status_date ON events(status, event_date);
@@ -0,0 +1,128 @@
+package com.tiquetera.events.infrastructure.adapter.out.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Árbol de intervalos: cada búsqueda se compara con un recorrido lineal de
+ * los mismos intervalos, también tras las rotaciones de inserciones y
+ * borrados.
+ *
+ * @author Ticketing Team
+ * @version 3.13 - Venue Booking
+ */
+class IntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final IntervalTree<Integer> tree = new IntervalTree<>();
+
+    @Test
+    void touchingIntervalsDoNotOverlap() {
+        tree.add(at(10), at(12), 1);
+
+        assertThat(tree.findOverlap(at(12), at(14), value -> false)).isEmpty();
+        assertThat(tree.findOverlap(at(8), at(10), value -> false)).isEmpty();
+        assertThat(tree.findOverlap(at(11), at(13), value -> false)).contains(1);
+        assertThat(tree.findOverlap(at(9), at(11), value -> false)).contains(1);
+        assertThat(tree.findOverlap(at(10), at(12), value -> false)).contains(1);
+    }
+
+    @Test
+    void ignoredValuesDoNotCount() {
+        tree.add(at(10), at(12), 1);
+        tree.add(at(11), at(13), 2);
+
+        assertThat(tree.findOverlap(at(10), at(14), value -> value == 1)).contains(2);
+        assertThat(tree.findOverlap(at(10), at(14), value -> value == 2)).contains(1);
+        assertThat(tree.findOverlap(at(10), at(14), value -> true)).isEmpty();
+    }
+
+    @Test
+    void longIntervalIsFoundThroughMaxEnd() {
+        // El primero acaba en la hoja más a la izquierda tras las rotaciones
+        tree.add(at(0), at(1000), 0);
+        for (int i = 1; i <= 100; i++) {
+            tree.add(at(i), at(i + 1), i);
+        }
+
+        assertThat(tree.findOverlap(at(500), at(501), value -> false)).contains(0);
+        assertThat(tree.findOverlap(at(1000), at(1001), value -> false)).isEmpty();
+    }
+
+    @Test
+    void repeatedIntervalsAreKeptApart() {
+        IntervalTree.Entry<Integer> first = tree.add(at(10), at(12), 1);
+        tree.add(at(10), at(12), 2);
+
+        assertThat(tree.remove(first)).isTrue();
+        assertThat(tree.remove(first)).isFalse();
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.findOverlap(at(10), at(12), value -> false)).contains(2);
+    }
+
+    @Test
+    void rejectsEmptyIntervals() {
+        assertThatThrownBy(() -> tree.add(at(10), at(10), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tree.isEmpty()).isTrue();
+    }
+
+    @Test
+    void matchesLinearScanAcrossInsertsAndDeletes() {
+        Random random = new Random(42);
+        List<IntervalTree.Entry<Integer>> entries = new ArrayList<>();
+        // Inserciones ascendentes y aleatorias, para forzar rotaciones simples y dobles
+        for (int i = 0; i < 200; i++) {
+            int start = i < 100 ? i * 3 : random.nextInt(300);
+            entries.add(tree.add(at(start), at(start + 1 + random.nextInt(20)), i));
+        }
+        assertMatchesLinearScan(entries, random);
+
+        Collections.shuffle(entries, random);
+        List<IntervalTree.Entry<Integer>> removed = new ArrayList<>(entries.subList(0, 120));
+        removed.forEach(entry -> assertThat(tree.remove(entry)).isTrue());
+        entries.removeAll(removed);
+        assertThat(tree.size()).isEqualTo(entries.size());
+        assertMatchesLinearScan(entries, random);
+
+        entries.forEach(tree::remove);
+        assertThat(tree.isEmpty()).isTrue();
+        assertThat(tree.findOverlap(at(0), at(400), value -> false)).isEmpty();
+    }
+
+    private void assertMatchesLinearScan(List<IntervalTree.Entry<Integer>> entries, Random random) {
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = at(random.nextInt(330));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(10));
+            int ignored = random.nextInt(200);
+
+            List<Integer> expected = entries.stream()
+                    .filter(entry -> entry.getStart().isBefore(end) && entry.getEnd().isAfter(start))
+                    .map(IntervalTree.Entry::getValue)
+                    .filter(value -> value != ignored)
+                    .toList();
+            Optional<Integer> found = tree.findOverlap(start, end, value -> value == ignored);
+
+            if (expected.isEmpty()) {
+                assertThat(found).isEmpty();
+            } else {
+                assertThat(found).isPresent();
+                assertThat(expected).contains(found.get());
+            }
+        }
+    }
+
+    private static LocalDateTime at(int hours) {
+        return BASE.plusHours(hours);
+    }
+}
@@ -0,0 +1,201 @@
+package com.tiquetera.events.infrastructure.adapter.out.booking;
+
+import com.tiquetera.events.domain.exception.VenueBookingConflictException;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Índice de horarios por venue: reservas visibles antes del commit, quitadas
+ * al revertirse, y consulta a la base mientras el índice no está cargado.
+ *
+ * Las transacciones se simulan registrando las sincronizaciones a mano y
+ * completándolas con el estado que corresponda.
+ *
+ * @author Ticketing Team
+ * @version 3.13 - Venue Booking
+ */
+class VenueBookingIndexAdapterTest {
+
+    private static final Long VENUE = 1L;
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 11, 20, 0, 0);
+
+    private EventRepositoryPort repository;
+    private VenueBookingIndexAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(EventRepositoryPort.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        adapter = new VenueBookingIndexAdapter(repository, transactionManager);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadedBookingsRejectOverlaps() {
+        loadWith(event(1L, 10, 12));
+
+        assertThatThrownBy(() -> adapter.reserve(event(2L, 11, 13)))
+                .isInstanceOf(VenueBookingConflictException.class)
+                .extracting(ex -> ((VenueBookingConflictException) ex).getConflictingEventId())
+                .isEqualTo(1L);
+        assertThatCode(() -> adapter.reserve(event(3L, 12, 14))).doesNotThrowAnyException();
+        assertThatCode(() -> adapter.reserve(event(1L, 9, 11))).doesNotThrowAnyException();
+        verify(repository, never()).findOverlappingEventId(any(), any(), any(), any());
+    }
+
+    @Test
+    void uncommittedBookingIsVisibleAndRemovedOnRollback() {
+        loadWith();
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.reserve(event(1L, 10, 12));
+        List<TransactionSynchronization> first = takeSynchronizations();
+
+        // Otra transacción ve la reserva antes del commit
+        assertThatThrownBy(() -> adapter.reserve(event(2L, 11, 13)))
+                .isInstanceOf(VenueBookingConflictException.class);
+
+        complete(first, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThatCode(() -> adapter.reserve(event(2L, 11, 13))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void committedMoveReplacesThePreviousSlot() {
+        loadWith(event(1L, 10, 12));
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.reserve(event(1L, 14, 16));
+        complete(takeSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThatCode(() -> adapter.reserve(event(2L, 10, 12))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> adapter.reserve(event(3L, 15, 17)))
+                .isInstanceOf(VenueBookingConflictException.class);
+    }
+
+    @Test
+    void rolledBackMoveKeepsThePreviousSlot() {
+        loadWith(event(1L, 10, 12));
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.reserve(event(1L, 14, 16));
+        complete(takeSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThatThrownBy(() -> adapter.reserve(event(2L, 10, 12)))
+                .isInstanceOf(VenueBookingConflictException.class);
+        assertThatCode(() -> adapter.reserve(event(3L, 14, 16))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void releaseFreesTheSlotOnlyOnCommit() {
+        loadWith(event(1L, 10, 12));
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.release(1L);
+        complete(takeSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThatThrownBy(() -> adapter.reserve(event(2L, 10, 12)))
+                .isInstanceOf(VenueBookingConflictException.class);
+
+        adapter.release(1L);
+        assertThatCode(() -> adapter.reserve(event(2L, 10, 12))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void unloadedIndexQueriesTheDatabase() {
+        Event event = event(2L, 10, 12);
+        when(repository.findOverlappingEventId(VENUE, event.getEventDate(), event.getEndDate(), 2L))
+                .thenReturn(Optional.of(1L));
+
+        assertThatThrownBy(() -> adapter.reserve(event))
+                .isInstanceOf(VenueBookingConflictException.class);
+
+        when(repository.findOverlappingEventId(VENUE, event.getEventDate(), event.getEndDate(), 2L))
+                .thenReturn(Optional.empty());
+        assertThatCode(() -> adapter.reserve(event)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void loadDuringAnUnfinishedWriteGivesUpAndKeepsQueryingTheDatabase() {
+        when(repository.streamAll()).thenAnswer(invocation -> Stream.of(event(1L, 10, 12)));
+        when(repository.findOverlappingEventId(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.reserve(event(2L, 14, 16));
+        List<TransactionSynchronization> pending = takeSynchronizations();
+
+        // La escritura sigue abierta: ningún intento sabe si la carga la vio
+        adapter.load();
+        verify(repository, times(3)).streamAll();
+
+        assertThatCode(() -> adapter.reserve(event(3L, 10, 12))).doesNotThrowAnyException();
+        verify(repository).findOverlappingEventId(VENUE, at(10), at(12), 3L);
+
+        complete(pending, TransactionSynchronization.STATUS_COMMITTED);
+        adapter.load();
+        assertThatThrownBy(() -> adapter.reserve(event(3L, 10, 12)))
+                .isInstanceOf(VenueBookingConflictException.class);
+    }
+
+    @Test
+    void cancelledEventsDoNotOccupyTheVenue() {
+        Event cancelled = event(1L, 10, 12);
+        cancelled.setStatus(EventStatus.CANCELLED);
+        loadWith(cancelled);
+
+        assertThatCode(() -> adapter.reserve(event(2L, 10, 12))).doesNotThrowAnyException();
+    }
+
+    private void loadWith(Event... events) {
+        when(repository.streamAll()).thenAnswer(invocation -> Stream.of(events));
+        adapter.load();
+    }
+
+    private static List<TransactionSynchronization> takeSynchronizations() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Event event(Long id, int startHour, int endHour) {
+        return new Event(id, "Evento " + id, null, at(startHour), at(endHour), VENUE, null, 100,
+                BigDecimal.TEN, EventStatus.SCHEDULED, null, null);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.plusHours(hour);
+    }
+}
@@ -0,0 +1,225 @@
+package com.tiquetera.events.infrastructure.adapter.out.calendar;
+
+import com.tiquetera.events.domain.model.CalendarDay;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Agregados mensuales del calendario: tras cada escritura confirmada, lo
+ * que devuelve la caché coincide con agregar de nuevo los eventos, sin
+ * volver a consultar los meses ya cargados.
+ *
+ * La base es un mapa de eventos que el repositorio falso agrega por día,
+ * como la consulta real. Las transacciones se simulan registrando las
+ * sincronizaciones a mano.
+ *
+ * @author Ticketing Team
+ * @version 3.12 - Venue Calendar
+ */
+class VenueCalendarAdapterTest {
+
+    private static final Long VENUE = 1L;
+    private static final Long OTHER_VENUE = 2L;
+    private static final LocalDate JANUARY = LocalDate.of(2027, 1, 1);
+    private static final LocalDate END_OF_FEBRUARY = LocalDate.of(2027, 2, 28);
+
+    private final Map<Long, Event> database = new HashMap<>();
+    private EventRepositoryPort repository;
+    private VenueCalendarAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(EventRepositoryPort.class);
+        when(repository.findCalendar(any(), any(), any())).thenAnswer(invocation -> aggregate(
+                invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        adapter = new VenueCalendarAdapter(repository, new SimpleMeterRegistry(), transactionManager, 100);
+
+        insert(event(1L, VENUE, 10, 500));
+        insert(event(2L, VENUE, 10, 300));
+        insert(event(3L, VENUE, 40, 200));
+        insert(event(4L, OTHER_VENUE, 10, 100));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void missingMonthsAreLoadedWithOneQueryAndThenCached() {
+        assertMatchesDatabase(VENUE);
+        assertMatchesDatabase(VENUE);
+        adapter.getCalendar(VENUE, JANUARY.plusDays(5), JANUARY.plusDays(20));
+
+        verify(repository, times(1)).findCalendar(eq(VENUE), any(), any());
+    }
+
+    @Test
+    void moveBetweenMonthsUpdatesBothRollups() {
+        assertMatchesDatabase(VENUE);
+
+        update(event(1L, VENUE, 10, 500), event(1L, VENUE, 45, 500));
+
+        assertMatchesDatabase(VENUE);
+        verify(repository, times(1)).findCalendar(eq(VENUE), any(), any());
+    }
+
+    @Test
+    void moveBetweenVenuesUpdatesBothVenues() {
+        assertMatchesDatabase(VENUE);
+        assertMatchesDatabase(OTHER_VENUE);
+
+        update(event(2L, VENUE, 10, 300), event(2L, OTHER_VENUE, 12, 350));
+
+        assertMatchesDatabase(VENUE);
+        assertMatchesDatabase(OTHER_VENUE);
+        verify(repository, times(1)).findCalendar(eq(VENUE), any(), any());
+        verify(repository, times(1)).findCalendar(eq(OTHER_VENUE), any(), any());
+    }
+
+    @Test
+    void deleteAndCancelRemoveTheContribution() {
+        assertMatchesDatabase(VENUE);
+
+        update(event(3L, VENUE, 40, 200), null);
+        assertMatchesDatabase(VENUE);
+
+        Event cancelled = event(2L, VENUE, 10, 300);
+        cancelled.setStatus(EventStatus.CANCELLED);
+        update(event(2L, VENUE, 10, 300), cancelled);
+        assertMatchesDatabase(VENUE);
+
+        update(event(1L, VENUE, 10, 500), null);
+        assertThat(adapter.getCalendar(VENUE, JANUARY, END_OF_FEBRUARY)).isEmpty();
+        verify(repository, times(1)).findCalendar(eq(VENUE), any(), any());
+    }
+
+    @Test
+    void createAddsToACachedMonth() {
+        assertMatchesDatabase(VENUE);
+
+        update(null, event(5L, VENUE, 10, 50));
+
+        assertMatchesDatabase(VENUE);
+        assertThat(adapter.getCalendar(VENUE, JANUARY.plusDays(10), JANUARY.plusDays(10)))
+                .containsExactly(new CalendarDay(JANUARY.plusDays(10), 3L, 850L));
+    }
+
+    @Test
+    void writeAppliesOnlyOnCommit() {
+        List<CalendarDay> before = adapter.getCalendar(VENUE, JANUARY, END_OF_FEBRUARY);
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.recordChange(event(1L, VENUE, 10, 500), event(1L, VENUE, 45, 500));
+        List<TransactionSynchronization> rolledBack = takeSynchronizations();
+        rolledBack.forEach(synchronization -> synchronization.beforeCommit(false));
+        rolledBack.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(adapter.getCalendar(VENUE, JANUARY, END_OF_FEBRUARY)).isEqualTo(before);
+
+        TransactionSynchronizationManager.initSynchronization();
+        Event moved = event(1L, VENUE, 45, 500);
+        adapter.recordChange(event(1L, VENUE, 10, 500), moved);
+        List<TransactionSynchronization> committed = takeSynchronizations();
+        committed.forEach(synchronization -> synchronization.beforeCommit(false));
+        database.put(moved.getId(), moved);
+        assertThat(adapter.getCalendar(VENUE, JANUARY, END_OF_FEBRUARY)).isEqualTo(before);
+
+        committed.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertMatchesDatabase(VENUE);
+        verify(repository, times(1)).findCalendar(eq(VENUE), any(), any());
+    }
+
+    @Test
+    void loadDuringACommitIsNotCached() {
+        TransactionSynchronizationManager.initSynchronization();
+        Event moved = event(1L, VENUE, 45, 500);
+        adapter.recordChange(event(1L, VENUE, 10, 500), moved);
+        List<TransactionSynchronization> committing = takeSynchronizations();
+        committing.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // No se sabe si esta carga ve el cambio: no se guarda
+        adapter.getCalendar(VENUE, JANUARY, END_OF_FEBRUARY);
+        database.put(moved.getId(), moved);
+        committing.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertMatchesDatabase(VENUE);
+        assertMatchesDatabase(VENUE);
+        verify(repository, times(2)).findCalendar(eq(VENUE), any(), any());
+    }
+
+    // Aplica la escritura en la base y la anuncia fuera de transacción
+    private void update(Event previous, Event current) {
+        if (current != null) {
+            database.put(current.getId(), current);
+        } else {
+            database.remove(previous.getId());
+        }
+        adapter.recordChange(previous, current);
+    }
+
+    private void assertMatchesDatabase(Long venueId) {
+        assertThat(adapter.getCalendar(venueId, JANUARY, END_OF_FEBRUARY))
+                .isEqualTo(aggregate(venueId, JANUARY.atStartOfDay(), END_OF_FEBRUARY.plusDays(1).atStartOfDay()));
+    }
+
+    private List<CalendarDay> aggregate(Long venueId, LocalDateTime start, LocalDateTime end) {
+        TreeMap<LocalDate, CalendarDay> days = new TreeMap<>();
+        for (Event event : database.values()) {
+            if (event.getVenueId().equals(venueId) && event.getStatus() != EventStatus.CANCELLED
+                    && !event.getEventDate().isBefore(start) && event.getEventDate().isBefore(end)) {
+                LocalDate date = event.getEventDate().toLocalDate();
+                days.put(date, days.getOrDefault(date, new CalendarDay(date, 0L, 0L)).plus(1, event.getCapacity()));
+            }
+        }
+        return List.copyOf(days.values());
+    }
+
+    private void insert(Event event) {
+        database.put(event.getId(), event);
+    }
+
+    private static List<TransactionSynchronization> takeSynchronizations() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    // Día contado desde el 1 de enero, para cruzar de mes con un número
+    private static Event event(Long id, Long venueId, int day, int capacity) {
+        LocalDateTime date = JANUARY.plusDays(day).atTime(20, 0);
+        return new Event(id, "Evento " + id, null, date, date.plusHours(3), venueId, null, capacity,
+                BigDecimal.TEN, EventStatus.SCHEDULED, null, null);
+    }
+}
@@ -0,0 +1,216 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence;
+
+import com.tiquetera.events.domain.exception.InvalidCursorException;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventCursor;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSort;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.model.PageSize;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.mapper.EventPersistenceMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Paginación keyset de EventRepositoryPort sobre H2.
+ *
+ * Los eventos sembrados comparten fechas y precios, de modo que solo el
+ * desempate por ID da un orden total: recorrer todas las páginas con el
+ * cursor codificado de cada una debe devolver cada evento una sola vez y en
+ * el mismo orden que el ordenamiento completo.
+ *
+ * @author Ticketing Team
+ * @version 3.1 - Keyset Pagination
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keyset-pagination;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import({ EventJpaAdapter.class, EventPersistenceMapperImpl.class })
+class EventJpaAdapterKeysetPaginationTest {
+
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.now().plusYears(1).withNano(0);
+    // Días y precios repetidos, sembrados fuera de orden
+    private static final int[] DAYS = { 2, 0, 1, 0, 2, 1, 0, 3, 2, 1, 0 };
+    private static final String[] PRICES = { "50.00", "80.00", "50.00", "50.00", "120.00", "80.00",
+            "120.00", "50.00", "80.00", "50.00", "80.00" };
+    private static final int PAGE = 2;
+
+    @Autowired
+    private EventJpaAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Seeded> seeded = new ArrayList<>();
+    private Long venueA;
+    private Long venueB;
+
+    private record Seeded(Long id, LocalDateTime eventDate, BigDecimal ticketPrice, Long venueId,
+            EventStatus status) {
+    }
+
+    @BeforeEach
+    void seed() {
+        venueA = insertVenue("Venue A");
+        venueB = insertVenue("Venue B");
+        for (int e = 0; e < DAYS.length; e++) {
+            insertEvent(FIRST_DATE.plusDays(DAYS[e]), new BigDecimal(PRICES[e]), e % 3 == 0 ? venueB : venueA,
+                    e % 2 == 0 ? EventStatus.SCHEDULED : EventStatus.ACTIVE);
+        }
+    }
+
+    @Test
+    void findAllWalksEveryEventOnceByDateThenId() {
+        assertWalk((after, limit) -> adapter.findAll(after, limit), event -> true, byDate());
+    }
+
+    @Test
+    void findByVenueIdWalksOnlyThatVenue() {
+        assertWalk((after, limit) -> adapter.findByVenueId(venueB, after, limit),
+                event -> event.venueId().equals(venueB), byDate());
+    }
+
+    @Test
+    void findByStatusWalksOnlyThatStatus() {
+        assertWalk((after, limit) -> adapter.findByStatus(EventStatus.ACTIVE, after, limit),
+                event -> event.status() == EventStatus.ACTIVE, byDate());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EventSort.class)
+    void searchBreaksTiesById(EventSort sort) {
+        EventSearchCriteria criteria = new EventSearchCriteria(null, null, null, null, null, null, sort);
+        Comparator<Seeded> order = sort.byPrice()
+                ? Comparator.comparing(Seeded::ticketPrice)
+                : Comparator.comparing(Seeded::eventDate);
+        order = order.thenComparing(Seeded::id);
+        assertWalk((after, limit) -> adapter.search(criteria, after, limit), event -> true,
+                sort.descending() ? order.reversed() : order);
+    }
+
+    @Test
+    void cursorOfTheLastItemRoundTrips() {
+        CursorPage<Event> page = adapter.search(
+                new EventSearchCriteria(null, null, null, null, null, null, EventSort.PRICE_ASC), null, PAGE);
+        Event last = page.getItems().get(PAGE - 1);
+
+        EventCursor cursor = EventCursor.decode(page.getNextCursor());
+
+        assertThat(cursor.getId()).isEqualTo(last.getId());
+        assertThat(cursor.getEventDate()).isEqualTo(last.getEventDate());
+        assertThat(cursor.getTicketPrice()).isEqualByComparingTo(last.getTicketPrice());
+        assertThat(cursor.encode()).isEqualTo(page.getNextCursor());
+        assertThat(new EventCursor(FIRST_DATE, 5L).encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void blankTokenIsTheFirstPage() {
+        assertThat(EventCursor.decode(null)).isNull();
+        assertThat(EventCursor.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "no-es-base64!", "2026-01-01T10:00", "2026-01-01T10:00|x", "mañana|5",
+            "2026-01-01T10:00|5|gratis", "2026-01-01T10:00|5|10|3", "2026-01-01T10:00" + "|" })
+    void malformedTokenIsRejected(String raw) {
+        String token = raw.equals("no-es-base64!") ? raw
+                : Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> EventCursor.decode(token))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining(token);
+    }
+
+    @Test
+    void pageSizeIsBounded() {
+        assertThat(PageSize.bounded(null)).isEqualTo(PageSize.DEFAULT);
+        assertThat(PageSize.bounded(0)).isEqualTo(PageSize.DEFAULT);
+        assertThat(PageSize.bounded(-5)).isEqualTo(PageSize.DEFAULT);
+        assertThat(PageSize.bounded(1)).isEqualTo(1);
+        assertThat(PageSize.bounded(PageSize.MAX)).isEqualTo(PageSize.MAX);
+        assertThat(PageSize.bounded(Integer.MAX_VALUE)).isEqualTo(PageSize.MAX);
+    }
+
+    @Test
+    void boundedPageNeverLoadsMoreThanTheMaximum() {
+        for (int e = seeded.size(); e <= PageSize.MAX; e++) {
+            insertEvent(FIRST_DATE.plusDays(10), new BigDecimal("10.00"), venueA, EventStatus.SCHEDULED);
+        }
+
+        CursorPage<Event> page = adapter.findAll(null, PageSize.bounded(10_000));
+
+        assertThat(page.getItems()).hasSize(PageSize.MAX);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    private void assertWalk(BiFunction<EventCursor, Integer, CursorPage<Event>> query, Predicate<Seeded> filter,
+            Comparator<Seeded> order) {
+        List<Long> expected = seeded.stream().filter(filter).sorted(order).map(Seeded::id).toList();
+        List<Long> walked = new ArrayList<>();
+        Set<String> cursors = new HashSet<>();
+
+        CursorPage<Event> page = query.apply(null, PAGE);
+        while (true) {
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(PAGE);
+            page.getItems().forEach(event -> walked.add(event.getId()));
+            if (!page.hasNext()) {
+                break;
+            }
+            assertThat(cursors.add(page.getNextCursor())).isTrue();
+            page = query.apply(EventCursor.decode(page.getNextCursor()), PAGE);
+        }
+
+        assertThat(expected).hasSizeGreaterThan(PAGE);
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    private static Comparator<Seeded> byDate() {
+        return Comparator.comparing(Seeded::eventDate).thenComparing(Seeded::id);
+    }
+
+    private Long insertVenue(String name) {
+        jdbcTemplate.update("INSERT INTO venues (name, city, capacity) VALUES (?, ?, ?)", name, "Bogotá", 1000);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM venues", Long.class);
+    }
+
+    private void insertEvent(LocalDateTime date, BigDecimal price, Long venueId, EventStatus status) {
+        jdbcTemplate.update("INSERT INTO events (name, description, event_date, end_date, venue_id, capacity, "
+                + "ticket_price, status, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                "Evento " + seeded.size(), "Descripción", date, date.plusHours(3), venueId, 500, price,
+                status.name(), LocalDateTime.now(), LocalDateTime.now());
+        Long id = jdbcTemplate.queryForObject("SELECT MAX(id) FROM events", Long.class);
+        seeded.add(new Seeded(id, date, price, venueId, status));
+    }
+}
@@ -0,0 +1,294 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence;
+
+import com.tiquetera.events.domain.model.ChangeStamp;
+import com.tiquetera.events.domain.model.CursorPage;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventSearchCriteria;
+import com.tiquetera.events.domain.model.EventSort;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.mapper.EventPersistenceMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Presupuesto de sentencias SQL de cada método de EventRepositoryPort.
+ *
+ * Se siembran {@value #EVENTS} eventos repartidos en {@value #VENUES} venues
+ * y cada método debe ejecutar un número fijo de sentencias, menor que el de
+ * filas que devuelve: un N+1 (por ejemplo, cargar el venue de cada evento
+ * por separado) supera el presupuesto y rompe el build. Cuenta las
+ * sentencias que prepara Hibernate con sus Statistics; las altas en lote van
+ * por JDBC y no pasan por Hibernate.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Query Budget
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import({ EventJpaAdapter.class, EventPersistenceMapperImpl.class })
+class EventJpaAdapterStatementBudgetTest {
+
+    private static final int VENUES = 3;
+    private static final int EVENTS = 12;
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.now().plusYears(1).withNano(0);
+
+    @Autowired
+    private EventJpaAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> venueIds = new ArrayList<>();
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        for (int v = 0; v < VENUES; v++) {
+            jdbcTemplate.update("INSERT INTO venues (name, city, capacity) VALUES (?, ?, ?)",
+                    "Venue " + v, "Bogotá", 1000);
+            venueIds.add(jdbcTemplate.queryForObject("SELECT MAX(id) FROM venues", Long.class));
+        }
+        for (int e = 0; e < EVENTS; e++) {
+            LocalDateTime date = FIRST_DATE.plusDays(e);
+            jdbcTemplate.update("INSERT INTO events (name, description, event_date, end_date, venue_id, capacity, "
+                    + "ticket_price, status, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                    "Evento " + e, "Descripción", date, date.plusHours(3), venueIds.get(e % VENUES), 500,
+                    new BigDecimal("100.00"), (e % 2 == 0 ? EventStatus.SCHEDULED : EventStatus.ACTIVE).name(),
+                    LocalDateTime.now(), LocalDateTime.now());
+            eventIds.add(jdbcTemplate.queryForObject("SELECT MAX(id) FROM events", Long.class));
+        }
+    }
+
+    @Test
+    void save() {
+        Event event = adapter.findById(eventIds.get(0)).orElseThrow();
+        event.setName("Renombrado");
+        assertStatements(3, () -> adapter.save(event));
+    }
+
+    @Test
+    void saveAll() {
+        List<Event> events = adapter.findAllById(eventIds);
+        events.forEach(event -> event.setName(event.getName() + " (editado)"));
+        List<Event> created = List.of(newEvent(), newEvent(), newEvent());
+        List<Event> batch = new ArrayList<>(events);
+        batch.addAll(created);
+        assertStatements(2, () -> adapter.saveAll(batch));
+    }
+
+    @Test
+    void saveAllMovingVenues() {
+        List<Event> events = adapter.findAllById(eventIds);
+        events.forEach(event -> {
+            event.setVenueId(venueIds.get(0));
+            event.setVenueName("Nombre enviado por el cliente");
+        });
+        List<Event> saved = assertStatements(3, () -> adapter.saveAll(events));
+        assertThat(venueNames(saved)).containsOnly("Venue 0");
+    }
+
+    @Test
+    void findById() {
+        assertStatements(1, () -> adapter.findById(eventIds.get(0)).map(Event::getVenueName));
+    }
+
+    @Test
+    void findVersionById() {
+        assertStatements(1, () -> adapter.findVersionById(eventIds.get(0)));
+    }
+
+    @Test
+    void getChangeStamp() {
+        assertStatements(1, () -> adapter.getChangeStamp());
+    }
+
+    @Test
+    void getChangeStampByVenueId() {
+        ChangeStamp stamp = assertStatements(1, () -> adapter.getChangeStampByVenueId(venueIds.get(0)));
+        assertThat(stamp.getCount()).isEqualTo(EVENTS / VENUES);
+    }
+
+    @Test
+    void getChangeStampByStatus() {
+        ChangeStamp stamp = assertStatements(1, () -> adapter.getChangeStampByStatus(EventStatus.SCHEDULED));
+        assertThat(stamp.getCount()).isEqualTo(EVENTS / 2);
+    }
+
+    @Test
+    void findAll() {
+        assertStatements(1, () -> venueNames(adapter.findAll()));
+    }
+
+    @Test
+    void findAllById() {
+        assertStatements(1, () -> venueNames(adapter.findAllById(eventIds)));
+    }
+
+    @Test
+    void findAllSummaries() {
+        assertStatements(1, () -> adapter.findAllSummaries());
+    }
+
+    @Test
+    void findSummariesByVenueId() {
+        assertStatements(1, () -> adapter.findSummariesByVenueId(venueIds.get(0)));
+    }
+
+    @Test
+    void findSummariesByStatus() {
+        assertStatements(1, () -> adapter.findSummariesByStatus(EventStatus.SCHEDULED));
+    }
+
+    @Test
+    void streamAll() {
+        assertStatements(1, () -> {
+            try (Stream<Event> events = adapter.streamAll()) {
+                return events.map(Event::getVenueName).toList();
+            }
+        });
+    }
+
+    @Test
+    void findByVenueId() {
+        assertStatements(1, () -> venueNames(adapter.findByVenueId(venueIds.get(0))));
+    }
+
+    @Test
+    void findByStatus() {
+        assertStatements(1, () -> venueNames(adapter.findByStatus(EventStatus.SCHEDULED)));
+    }
+
+    @Test
+    void findAllPage() {
+        assertStatements(1, () -> venueNames(adapter.findAll(null, EVENTS).getItems()));
+    }
+
+    @Test
+    void findByVenueIdPage() {
+        assertStatements(1, () -> venueNames(adapter.findByVenueId(venueIds.get(0), null, EVENTS).getItems()));
+    }
+
+    @Test
+    void findByStatusPage() {
+        assertStatements(1, () -> venueNames(adapter.findByStatus(EventStatus.SCHEDULED, null, EVENTS).getItems()));
+    }
+
+    @Test
+    void deleteById() {
+        assertStatements(2, () -> {
+            adapter.deleteById(eventIds.get(0));
+            return null;
+        });
+    }
+
+    @Test
+    void deleteAllById() {
+        assertStatements(1, () -> adapter.deleteAllById(eventIds));
+    }
+
+    @Test
+    void existsById() {
+        assertStatements(1, () -> adapter.existsById(eventIds.get(0)));
+    }
+
+    @Test
+    void findByFilters() {
+        assertStatements(1, () -> venueNames(adapter.findByFilters(null, EventStatus.SCHEDULED, FIRST_DATE,
+                FIRST_DATE.plusDays(EVENTS))));
+    }
+
+    @Test
+    void search() {
+        EventSearchCriteria criteria = new EventSearchCriteria(null, null, FIRST_DATE, null, null, null,
+                EventSort.DATE_ASC);
+        assertStatements(1, () -> {
+            CursorPage<Event> page = adapter.search(criteria, null, EVENTS);
+            return venueNames(page.getItems());
+        });
+    }
+
+    @Test
+    void findUpcoming() {
+        assertStatements(1, () -> venueNames(adapter.findUpcoming(LocalDateTime.now(), EVENTS)));
+    }
+
+    @Test
+    void findUpcomingByVenueId() {
+        assertStatements(1, () -> venueNames(adapter.findUpcomingByVenueId(venueIds.get(0), LocalDateTime.now(),
+                EVENTS)));
+    }
+
+    @Test
+    void findCalendar() {
+        assertStatements(1, () -> adapter.findCalendar(venueIds.get(0), FIRST_DATE, FIRST_DATE.plusDays(EVENTS)));
+    }
+
+    @Test
+    void findOverlappingEventId() {
+        assertStatements(1, () -> adapter.findOverlappingEventId(venueIds.get(0), FIRST_DATE,
+                FIRST_DATE.plusHours(1), null));
+    }
+
+    // Ejecuta la llamada con el contexto de persistencia vacío, para que
+    // nada salga de la caché de primer nivel, y cuenta sus sentencias
+    // incluidas las del flush
+    private <T> T assertStatements(int budget, Supplier<T> call) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        T result = call.get();
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("sentencias SQL (presupuesto %d)", budget)
+                .isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    private static List<String> venueNames(List<Event> events) {
+        assertThat(events).isNotEmpty();
+        return events.stream().map(Event::getVenueName).toList();
+    }
+
+    private Event newEvent() {
+        LocalDateTime date = FIRST_DATE.plusMonths(2);
+        return new Event(null, "Nuevo", "Descripción", date, date.plusHours(2), venueIds.get(0), null, 100,
+                new BigDecimal("50.00"), EventStatus.SCHEDULED, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,120 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence;
+
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.EventJpaRepository;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.specifications.EventSpecifications;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comprueba con EXPLAIN que los filtros por estado usan el índice.
+ *
+ * Captura el SQL que genera Hibernate para cada consulta por estado y pide
+ * su plan a la base de datos con el estado enlazado como parámetro: el plan
+ * debe resolver el filtro con idx_events_status_date. Si la consulta vuelve
+ * a envolver la columna en una función (LOWER, UPPER...), el plan pasa a
+ * recorrer la tabla y el test falla.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Normalized Status
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:status-explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.tiquetera.events.infrastructure.adapter.out.persistence.EventStatusIndexExplainTest$CapturedSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+class EventStatusIndexExplainTest {
+
+    private static final String STATUS_INDEX = "idx_events_status_date";
+
+    @Autowired
+    private EventJpaRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO venues (name, city, capacity) VALUES ('Venue', 'Bogotá', 1000)");
+        Long venueId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM venues", Long.class);
+        EventStatus[] statuses = EventStatus.values();
+        for (int e = 0; e < 40; e++) {
+            LocalDateTime date = LocalDateTime.now().plusDays(e).withNano(0);
+            jdbcTemplate.update("INSERT INTO events (name, event_date, venue_id, capacity, ticket_price, status, "
+                    + "created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)",
+                    "Evento " + e, date, venueId, 500, new BigDecimal("100.00"),
+                    statuses[e % statuses.length].name(), LocalDateTime.now());
+        }
+        CapturedSql.clear();
+    }
+
+    @Test
+    void findByStatusUsesStatusIndex() {
+        repository.findByStatus(EventStatus.ACTIVE);
+
+        assertThat(explainLastQuery(EventStatus.ACTIVE.name())).contains(STATUS_INDEX);
+    }
+
+    @Test
+    void findSummariesByStatusUsesStatusIndex() {
+        repository.findSummariesByStatus(EventStatus.CANCELLED);
+
+        assertThat(explainLastQuery(EventStatus.CANCELLED.name())).contains(STATUS_INDEX);
+    }
+
+    @Test
+    void statusSpecificationUsesStatusIndex() {
+        repository.findAll(EventSpecifications.withStatus(EventStatus.SCHEDULED));
+
+        assertThat(explainLastQuery(EventStatus.SCHEDULED.name())).contains(STATUS_INDEX);
+    }
+
+    private String explainLastQuery(Object... parameters) {
+        String sql = CapturedSql.last();
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+        return plan.toLowerCase();
+    }
+
+    /**
+     * Guarda el SQL que Hibernate envía a la base de datos.
+     */
+    public static class CapturedSql implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String last() {
+            assertThat(STATEMENTS).as("SQL generado por Hibernate").isNotEmpty();
+            return STATEMENTS.get(STATEMENTS.size() - 1);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tiquetera.common.replica.ReplicaLoadBalancingDataSource;
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Caché por ID: una lectura que se cruza con una escritura no deja en
+ * caché el valor anterior, ni uno que luego se revierte, y la lectura
+ * siguiente vuelve al primario.
+ *
+ * Las transacciones se simulan registrando las sincronizaciones a mano y
+ * completándolas con el estado que corresponda.
+ *
+ * @author Ticketing Team
+ * @version 3.4 - Event Cache
+ */
+class CachingEventRepositoryAdapterTest {
+
+    private static final Long ID = 7L;
+
+    private EventRepositoryPort delegate;
+    private CachingEventRepositoryAdapter adapter;
+    // Fila confirmada que devuelve el primario
+    private final AtomicReference<Event> primary = new AtomicReference<>(event("Antes"));
+    // Acción que corre mientras la lectura está en la base, o null
+    private Runnable duringRead;
+    private int readsOffPrimary;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(EventRepositoryPort.class);
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(delegate.findById(ID)).thenAnswer(invocation -> {
+            if (!ReplicaLoadBalancingDataSource.isPinnedToPrimary()) {
+                readsOffPrimary++;
+            }
+            Event read = primary.get().copy();
+            if (duringRead != null) {
+                Runnable action = duringRead;
+                duringRead = null;
+                action.run();
+            }
+            return Optional.of(read);
+        });
+        adapter = new CachingEventRepositoryAdapter(delegate, Caffeine.newBuilder().<Long, Event>build());
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void hitsAreCopiesAndSkipTheDatabase() {
+        adapter.findById(ID).orElseThrow().setName("Modificado");
+
+        assertThat(adapter.findById(ID)).get().extracting(Event::getName).isEqualTo("Antes");
+        verify(delegate, times(1)).findById(ID);
+    }
+
+    @Test
+    void readInterleavedWithACommittedWriteIsNotCached() {
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.save(event("Después"));
+        List<TransactionSynchronization> transaction = takeSynchronizations();
+
+        // La lectura carga la fila anterior y el commit llega antes de su put
+        duringRead = () -> {
+            primary.set(event("Después"));
+            complete(transaction, TransactionSynchronization.STATUS_COMMITTED);
+        };
+        assertThat(adapter.findById(ID)).get().extracting(Event::getName).isEqualTo("Antes");
+
+        assertThat(adapter.findById(ID)).get().extracting(Event::getName).isEqualTo("Después");
+        verify(delegate, times(2)).findById(ID);
+        assertThat(readsOffPrimary).isZero();
+    }
+
+    @Test
+    void readInterleavedWithAWriteOutsideATransactionIsNotCached() {
+        duringRead = () -> {
+            primary.set(event("Después"));
+            adapter.save(event("Después"));
+        };
+        assertThat(adapter.findById(ID)).get().extracting(Event::getName).isEqualTo("Antes");
+
+        assertThat(adapter.findById(ID)).get().extracting(Event::getName).isEqualTo("Después");
+        verify(delegate, times(2)).findById(ID);
+        assertThat(readsOffPrimary).isZero();
+    }
+
+    @Test
+    void valueReadBeforeARollbackIsDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.save(event("Revertido"));
+        List<TransactionSynchronization> transaction = takeSynchronizations();
+
+        // Lectura dentro de la transacción: ve su propio cambio sin confirmar
+        primary.set(event("Revertido"));
+        assertThat(adapter.findById(ID)).get().extracting(Event::getName).isEqualTo("Revertido");
+
+        primary.set(event("Antes"));
+        complete(transaction, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(adapter.findById(ID)).get().extracting(Event::getName).isEqualTo("Antes");
+        verify(delegate, times(2)).findById(ID);
+        assertThat(readsOffPrimary).isZero();
+    }
+
+    @Test
+    void writeToAnotherIdOfTheStripeOnlyCostsAMiss() {
+        // 7 y 7 + 1024 caen en la misma franja
+        duringRead = () -> adapter.deleteById(ID + 1024);
+        adapter.findById(ID);
+
+        adapter.findById(ID);
+        adapter.findById(ID);
+        verify(delegate, times(2)).findById(ID);
+    }
+
+    private static List<TransactionSynchronization> takeSynchronizations() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Event event(String name) {
+        LocalDateTime date = LocalDateTime.of(2026, 11, 20, 20, 0);
+        return new Event(ID, name, null, date, date.plusHours(2), 1L, null, 100,
+                BigDecimal.TEN, EventStatus.SCHEDULED, null, null);
+    }
+}
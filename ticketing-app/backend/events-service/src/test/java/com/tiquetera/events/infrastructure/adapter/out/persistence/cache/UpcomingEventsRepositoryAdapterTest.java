@@ -0,0 +1,191 @@
+package com.tiquetera.events.infrastructure.adapter.out.persistence.cache;
+
+import com.tiquetera.events.domain.model.Event;
+import com.tiquetera.events.domain.model.EventStatus;
+import com.tiquetera.events.domain.ports.out.EventRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Índice de próximos eventos: escrituras aplicadas al confirmarse, repetidas
+ * si coinciden con la carga, y retiro de los eventos que ya pasaron.
+ *
+ * Las transacciones se simulan registrando las sincronizaciones a mano y
+ * completándolas con el estado que corresponda.
+ *
+ * @author Ticketing Team
+ * @version 3.11 - Upcoming Events
+ */
+class UpcomingEventsRepositoryAdapterTest {
+
+    private static final Long VENUE = 1L;
+    private static final LocalDateTime FUTURE = LocalDateTime.now().plusMonths(1).withNano(0);
+
+    private EventRepositoryPort delegate;
+    private UpcomingEventsRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(EventRepositoryPort.class);
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(delegate.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        adapter = new UpcomingEventsRepositoryAdapter(delegate);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void delegatesUntilLoaded() {
+        adapter.findUpcoming(LocalDateTime.now(), 5);
+        adapter.findUpcomingByVenueId(VENUE, LocalDateTime.now(), 5);
+
+        verify(delegate).findUpcoming(any(), eq(5));
+        verify(delegate).findUpcomingByVenueId(eq(VENUE), any(), eq(5));
+    }
+
+    @Test
+    void failedLoadKeepsDelegating() {
+        when(delegate.findUpcoming(any(), eq(Integer.MAX_VALUE))).thenThrow(new IllegalStateException("caída"));
+
+        adapter.load();
+        adapter.findUpcoming(LocalDateTime.now(), 5);
+
+        verify(delegate).findUpcoming(any(), eq(5));
+    }
+
+    @Test
+    void servesScheduledFutureEventsInOrderOnceLoaded() {
+        Event cancelled = event(4L, FUTURE, VENUE);
+        cancelled.setStatus(EventStatus.CANCELLED);
+        loadWith(event(3L, FUTURE.plusDays(1), VENUE), event(2L, FUTURE, 2L), event(1L, FUTURE, VENUE), cancelled,
+                event(5L, LocalDateTime.now().minusDays(1), VENUE));
+
+        assertThat(ids(adapter.findUpcoming(LocalDateTime.now(), 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(adapter.findUpcoming(LocalDateTime.now(), 2))).containsExactly(1L, 2L);
+        assertThat(ids(adapter.findUpcomingByVenueId(VENUE, LocalDateTime.now(), 10))).containsExactly(1L, 3L);
+        assertThat(adapter.findUpcomingByVenueId(99L, LocalDateTime.now(), 10)).isEmpty();
+        verify(delegate, times(1)).findUpcoming(any(), anyInt());
+    }
+
+    @Test
+    void writesDuringTheLoadAreReplayedOverTheLoadedRows() {
+        Event moved = event(1L, FUTURE.plusDays(5), 2L);
+        Event created = event(2L, FUTURE, VENUE);
+        // La consulta lee las filas antes de que se confirmen las escrituras
+        when(delegate.findUpcoming(any(), eq(Integer.MAX_VALUE))).thenAnswer(invocation -> {
+            List<Event> stale = List.of(event(1L, FUTURE, VENUE), event(3L, FUTURE.plusDays(1), VENUE));
+            adapter.save(moved);
+            adapter.save(created);
+            adapter.deleteById(3L);
+            return stale;
+        });
+
+        adapter.load();
+
+        assertThat(ids(adapter.findUpcoming(LocalDateTime.now(), 10))).containsExactly(2L, 1L);
+        assertThat(ids(adapter.findUpcomingByVenueId(VENUE, LocalDateTime.now(), 10))).containsExactly(2L);
+        assertThat(adapter.findUpcomingByVenueId(2L, LocalDateTime.now(), 10))
+                .singleElement().extracting(Event::getEventDate).isEqualTo(moved.getEventDate());
+    }
+
+    @Test
+    void writesApplyOnlyAfterCommit() {
+        loadWith(event(1L, FUTURE, VENUE));
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.save(event(2L, FUTURE.minusDays(1), VENUE));
+        adapter.deleteById(1L);
+        List<TransactionSynchronization> transaction = takeSynchronizations();
+        assertThat(ids(adapter.findUpcoming(LocalDateTime.now(), 10))).containsExactly(1L);
+
+        transaction.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(ids(adapter.findUpcoming(LocalDateTime.now(), 10))).containsExactly(2L);
+    }
+
+    @Test
+    void rolledBackWritesAreNeverApplied() {
+        loadWith(event(1L, FUTURE, VENUE));
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.saveAll(List.of(event(2L, FUTURE.minusDays(1), VENUE)));
+        adapter.deleteAllById(List.of(1L));
+        takeSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(ids(adapter.findUpcoming(LocalDateTime.now(), 10))).containsExactly(1L);
+    }
+
+    @Test
+    void savedSnapshotIsNotAffectedByLaterChanges() {
+        loadWith();
+        Event event = event(1L, FUTURE, VENUE);
+        adapter.save(event);
+
+        event.setName("Cambiado sin guardar");
+        adapter.findUpcoming(LocalDateTime.now(), 10).get(0).setName("Cambiado por quien lo leyó");
+
+        assertThat(adapter.findUpcoming(LocalDateTime.now(), 10))
+                .singleElement().extracting(Event::getName).isEqualTo("Evento 1");
+    }
+
+    @Test
+    void rolloverRemovesEventsThatHavePassed() throws InterruptedException {
+        LocalDateTime soon = LocalDateTime.now().plusNanos(300_000_000);
+        loadWith(event(1L, soon, VENUE), event(2L, FUTURE, VENUE));
+        LocalDateTime earlier = soon.minusHours(1);
+
+        adapter.rollover();
+        assertThat(ids(adapter.findUpcoming(earlier, 10))).containsExactly(1L, 2L);
+
+        while (!LocalDateTime.now().isAfter(soon)) {
+            Thread.sleep(50);
+        }
+        adapter.rollover();
+
+        assertThat(ids(adapter.findUpcoming(earlier, 10))).containsExactly(2L);
+        assertThat(ids(adapter.findUpcomingByVenueId(VENUE, earlier, 10))).containsExactly(2L);
+    }
+
+    private void loadWith(Event... events) {
+        when(delegate.findUpcoming(any(), eq(Integer.MAX_VALUE))).thenReturn(List.of(events));
+        adapter.load();
+    }
+
+    private static List<TransactionSynchronization> takeSynchronizations() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private static List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+
+    private static Event event(Long id, LocalDateTime date, Long venueId) {
+        return new Event(id, "Evento " + id, null, date, date.plusHours(2), venueId, null, 100,
+                BigDecimal.TEN, EventStatus.SCHEDULED, null, null);
+    }
+}
@@ -0,0 +1,95 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.infrastructure.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Límite de intentos por IP y por cuenta, y su respuesta 429 con
+ * Retry-After.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+class AuthenticationThrottleTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void clientOverTheLimitIsRejectedWithRetryAfter() {
+        // 2 intentos de ráfaga; uno nuevo cada 30 s
+        AuthenticationThrottle throttle = new AuthenticationThrottle(meterRegistry, 2, 2, 5, 5, 100);
+
+        assertThat(throttle.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(throttle.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), new Object())).isTrue();
+
+        assertThatThrownBy(() -> throttle.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(AuthenticationThrottledException.class)
+                .extracting(ex -> ((AuthenticationThrottledException) ex).getRetryAfterSeconds())
+                .isEqualTo(30L);
+        assertThat(throttle.preHandle(request("10.0.0.2"), new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(rejections("client")).isEqualTo(1);
+        assertThat(rejections("account")).isZero();
+    }
+
+    @Test
+    void accountLimitIgnoresCase() {
+        AuthenticationThrottle throttle = new AuthenticationThrottle(meterRegistry, 30, 60, 1, 1, 100);
+
+        throttle.checkAccount("Ana@Tiquetera.com");
+
+        assertThatThrownBy(() -> throttle.checkAccount("ana@tiquetera.com"))
+                .isInstanceOf(AuthenticationThrottledException.class)
+                .extracting(ex -> ((AuthenticationThrottledException) ex).getRetryAfterSeconds())
+                .isEqualTo(60L);
+        assertThatCode(() -> throttle.checkAccount(null)).doesNotThrowAnyException();
+        assertThat(rejections("account")).isEqualTo(1);
+    }
+
+    @Test
+    void zeroCapacityDisablesTheLimit() {
+        AuthenticationThrottle throttle = new AuthenticationThrottle(meterRegistry, 0, 0, 0, 0, 100);
+
+        for (int i = 0; i < 100; i++) {
+            throttle.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), new Object());
+            throttle.checkAccount("ana@tiquetera.com");
+        }
+        assertThat(rejections("client") + rejections("account")).isZero();
+    }
+
+    @Test
+    void throttledMapsToTooManyRequestsWithRetryAfter() {
+        MockHttpServletRequest request = request("10.0.0.1");
+        request.setRequestURI("/auth/login");
+
+        ResponseEntity<ProblemDetail> response = new GlobalExceptionHandler()
+                .handleAuthenticationThrottledException(new AuthenticationThrottledException(42),
+                        new ServletWebRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("42");
+        assertThat(response.getBody().getInstance()).hasToString("/auth/login");
+    }
+
+    private double rejections(String scope) {
+        return meterRegistry.get("ticketing.auth.throttled").tag("scope", scope).counter().count();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
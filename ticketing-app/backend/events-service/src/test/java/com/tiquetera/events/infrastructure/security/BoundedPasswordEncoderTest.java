@@ -0,0 +1,144 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.infrastructure.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pool acotado de hash: con la cola llena rechaza enseguida y el rechazo
+ * llega al cliente como 503.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        // Un hilo y un lugar en cola; cada hash espera a que el test lo libere
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        encoder.close();
+    }
+
+    @Test
+    void hashesOnThePoolAndRecordsTimings() {
+        release.countDown();
+
+        assertThat(encoder.encode("secreto")).isEqualTo("hash:secreto");
+        assertThat(encoder.matches("secreto", "hash:secreto")).isTrue();
+        assertThat(encoder.matches("otro", "hash:secreto")).isFalse();
+        assertThat(meterRegistry.get("ticketing.password.hash").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("ticketing.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("ticketing.password.hash.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void fullQueueRejectsImmediately() throws Exception {
+        Future<String> running = callers.submit(() -> encoder.encode("uno"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> encoder.encode("dos"));
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> encoder.encode("tres")).isInstanceOf(PasswordHashingRejectedException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:uno");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:dos");
+        assertThat(encoder.encode("tres")).isEqualTo("hash:tres");
+    }
+
+    @Test
+    void rejectionMapsToServiceUnavailable() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+
+        ResponseEntity<ProblemDetail> response = new GlobalExceptionHandler()
+                .handlePasswordHashingRejectedException(new PasswordHashingRejectedException(),
+                        new ServletWebRequest(request));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void delegateFailuresPropagateUnchanged() {
+        BoundedPasswordEncoder failing = new BoundedPasswordEncoder(new BlockingEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("contraseña vacía");
+            }
+        }, 1, 1, new SimpleMeterRegistry());
+        try {
+            assertThatThrownBy(() -> failing.encode(""))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("contraseña vacía");
+        } finally {
+            failing.close();
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hash").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            await();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return ("hash:" + rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.RefreshTokenEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.RefreshTokenRepository;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.UserRepository;
+import com.tiquetera.security.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Refresh tokens contra H2 con las migraciones de Flyway: rotación,
+ * detección de reutilización y limpieza de expirados.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Refresh Tokens
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:refresh-tokens;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import(RefreshTokenService.class)
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService service;
+
+    @Autowired
+    private RefreshTokenRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (firstname, lastname, email, password, role) VALUES (?, ?, ?, ?, ?)",
+                "Ana", "Pérez", "ana@tiquetera.com", "{noop}secreto", "USER");
+        userId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+    }
+
+    @Test
+    void consumeRotatesTheToken() {
+        String token = service.issue(user());
+
+        assertThat(service.consume(token).getId()).isEqualTo(userId);
+        assertThat(revokedAt(token)).isNotNull();
+    }
+
+    @Test
+    void reusedTokenRevokesTheWholeFamily() {
+        String stolen = service.issue(user());
+        service.consume(stolen);
+        String rotated = service.issue(user());
+        String otherSession = service.issue(user());
+
+        assertThatThrownBy(() -> service.consume(stolen)).isInstanceOf(InvalidRefreshTokenException.class);
+
+        assertThat(revokedAt(rotated)).isNotNull();
+        assertThat(revokedAt(otherSession)).isNotNull();
+        assertThatThrownBy(() -> service.consume(rotated)).isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void expiredTokenIsRejectedWithoutRevokingTheFamily() {
+        LocalDateTime now = LocalDateTime.now();
+        store("expirado", now.minusDays(8), now.minusDays(1));
+        String active = service.issue(user());
+
+        assertThatThrownBy(() -> service.consume("expirado")).isInstanceOf(InvalidRefreshTokenException.class);
+
+        assertThat(revokedAt(active)).isNull();
+    }
+
+    @Test
+    void deleteExpiredRemovesOnlyExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        store("expirado", now.minusDays(8), now.minusDays(1));
+        store("vigente", now.minusDays(1), now.plusDays(6));
+
+        service.deleteExpired();
+
+        assertThat(repository.findByTokenHash(TokenDigest.sha256("expirado"))).isEmpty();
+        assertThat(repository.findByTokenHash(TokenDigest.sha256("vigente"))).isPresent();
+    }
+
+    private UserEntity user() {
+        return userRepository.findById(userId).orElseThrow();
+    }
+
+    // Por JDBC: las revocaciones son UPDATE masivos que no refrescan las
+    // entidades ya cargadas
+    private LocalDateTime revokedAt(String token) {
+        return jdbcTemplate.queryForObject("SELECT revoked_at FROM refresh_tokens WHERE token_hash = ?",
+                LocalDateTime.class, TokenDigest.sha256(token));
+    }
+
+    private void store(String token, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        repository.save(RefreshTokenEntity.builder()
+                .tokenHash(TokenDigest.sha256(token))
+                .userId(userId)
+                .createdAt(createdAt)
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
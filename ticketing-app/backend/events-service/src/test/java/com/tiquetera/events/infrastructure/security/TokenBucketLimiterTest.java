@@ -0,0 +1,79 @@
+package com.tiquetera.events.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Recarga del token bucket y segundos de Retry-After, con el instante
+ * explícito en lugar del reloj.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Login Admission Control
+ */
+class TokenBucketLimiterTest {
+
+    private static final String KEY = "10.0.0.1";
+    private static final long START = 1_000_000_000L;
+
+    // 5 intentos de ráfaga; uno nuevo cada 12 s
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(5, 5, 100);
+
+    @Test
+    void admitsABurstUpToCapacity() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(KEY, START)).isZero();
+        }
+        assertThat(limiter.tryAcquire(KEY, START)).isEqualTo(12);
+    }
+
+    @Test
+    void retryAfterCountsDownWhileRefilling() {
+        drain(START);
+
+        assertThat(limiter.tryAcquire(KEY, at(6))).isEqualTo(6);
+        assertThat(limiter.tryAcquire(KEY, at(11.5))).isEqualTo(1);
+        assertThat(limiter.tryAcquire(KEY, at(12))).isZero();
+        assertThat(limiter.tryAcquire(KEY, at(12))).isEqualTo(12);
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        drain(START);
+        long later = at(3600);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(KEY, later)).isZero();
+        }
+        assertThat(limiter.tryAcquire(KEY, later)).isPositive();
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        drain(START);
+
+        assertThat(limiter.tryAcquire(KEY, START)).isPositive();
+        assertThat(limiter.tryAcquire("10.0.0.2", START)).isZero();
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() {
+        // 100 intentos por segundo: el siguiente llega en 10 ms
+        TokenBucketLimiter fast = new TokenBucketLimiter(1, 6000, 100);
+        assertThat(fast.tryAcquire(KEY, START)).isZero();
+
+        assertThat(fast.tryAcquire(KEY, START)).isEqualTo(1);
+    }
+
+    private void drain(long now) {
+        while (limiter.tryAcquire(KEY, now) == 0) {
+            // Consume la ráfaga
+        }
+    }
+
+    private static long at(double seconds) {
+        return START + (long) (seconds * Duration.ofSeconds(1).toNanos());
+    }
+}
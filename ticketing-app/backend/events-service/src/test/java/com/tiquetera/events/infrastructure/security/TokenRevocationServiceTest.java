@@ -0,0 +1,127 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Lista de revocados: el filtro de Bloom solo puede ahorrar consultas, nunca
+ * decidir que un token está revocado.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Refresh Tokens
+ */
+class TokenRevocationServiceTest {
+
+    // Filtro diminuto y con muchos falsos positivos, para encontrarlos rápido
+    private static final long EXPECTED = 1;
+    private static final double FALSE_POSITIVE_RATE = 0.5;
+
+    private RevokedTokenRepository repository;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        service = new TokenRevocationService(repository, EXPECTED, FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void queriesTheDatabaseUntilTheFirstLoad() {
+        when(repository.existsByJti("revocado")).thenReturn(true);
+
+        assertThat(service.isRevoked("revocado")).isTrue();
+        assertThat(service.isRevoked("otro")).isFalse();
+        verify(repository).existsByJti("otro");
+    }
+
+    @Test
+    void skipsTheDatabaseWhenTheFilterDoesNotContainTheJti() {
+        loadWith("revocado");
+        String absent = findJti(false);
+
+        assertThat(service.isRevoked(absent)).isFalse();
+        verify(repository, never()).existsByJti(absent);
+    }
+
+    @Test
+    void falsePositiveFallsBackToTheDatabase() {
+        when(repository.existsByJti("revocado")).thenReturn(true);
+        loadWith("revocado");
+        String falsePositive = findJti(true);
+
+        assertThat(service.isRevoked(falsePositive)).isFalse();
+        verify(repository).existsByJti(falsePositive);
+        assertThat(service.isRevoked("revocado")).isTrue();
+    }
+
+    @Test
+    void pollAddsRevocationsFromOtherInstances() {
+        loadWith();
+        String jti = "revocado-en-otra-instancia";
+        when(repository.existsByJti(jti)).thenReturn(true);
+        assertThat(service.isRevoked(jti)).isFalse();
+
+        when(repository.findJtisRevokedSince(any(), any())).thenReturn(List.of(jti));
+        LocalDateTime beforePoll = LocalDateTime.now();
+        service.poll();
+
+        assertThat(service.isRevoked(jti)).isTrue();
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).findJtisRevokedSince(since.capture(), any());
+        // Relee desde la carga anterior menos el margen
+        assertThat(since.getValue()).isBefore(beforePoll.minusSeconds(59));
+    }
+
+    @Test
+    void firstPollLoadsTheFilter() {
+        when(repository.findActiveJtis(any())).thenReturn(List.of("revocado"));
+
+        service.poll();
+
+        verify(repository).findActiveJtis(any());
+        verify(repository, never()).findJtisRevokedSince(any(), any());
+    }
+
+    @Test
+    void localRevocationEntersTheFilterImmediately() {
+        loadWith();
+        when(repository.existsByJti("local")).thenReturn(true);
+
+        service.revoke("local", new Date(System.currentTimeMillis() + 60_000));
+
+        assertThat(service.isRevoked("local")).isTrue();
+    }
+
+    private void loadWith(String... jtis) {
+        when(repository.findActiveJtis(any())).thenReturn(List.of(jtis));
+        service.rebuild();
+    }
+
+    /**
+     * Busca un jti no revocado que un filtro igual al del servicio, con
+     * "revocado" dentro, contenga o no: el hash es determinista.
+     */
+    private static String findJti(boolean contained) {
+        BloomFilter twin = new BloomFilter(Math.max(EXPECTED, 2L), FALSE_POSITIVE_RATE);
+        twin.add("revocado");
+        for (int i = 0; ; i++) {
+            String candidate = "jti-" + i;
+            if (twin.mightContain(candidate) == contained) {
+                return candidate;
+            }
+        }
+    }
+}
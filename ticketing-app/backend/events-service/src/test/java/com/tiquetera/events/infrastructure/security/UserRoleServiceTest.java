@@ -0,0 +1,109 @@
+package com.tiquetera.events.infrastructure.security;
+
+import com.tiquetera.events.domain.exception.ResourceNotFoundException;
+import com.tiquetera.events.domain.model.Role;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.tiquetera.events.infrastructure.adapter.out.persistence.repository.UserRepository;
+import com.tiquetera.security.JwtKeys;
+import com.tiquetera.security.JwtVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Un cambio de rol se publica y sus oyentes (JwtService y la caché de
+ * usuarios) dejan de aceptar lo que dependía del rol anterior.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Stateless Authentication
+ */
+class UserRoleServiceTest {
+
+    private static final String EMAIL = "ana@tiquetera.com";
+    private static final String PRIVATE_KEY = generatePrivateKey();
+
+    private UserRepository repository;
+    private JwtService jwtService;
+    private CaffeineUserCache userCache;
+    private UserRoleService service;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        JwtVerifier verifier = new JwtVerifier(JwtKeys.publicKey(JwtKeys.privateKey(PRIVATE_KEY)), 100);
+        jwtService = new JwtService(PRIVATE_KEY, Duration.ofMinutes(15).toMillis(), verifier);
+        userCache = new CaffeineUserCache(Duration.ofMinutes(1), 100);
+        repository = mock(UserRepository.class);
+        // Entrega los avisos como lo haría el contexto de Spring
+        service = new UserRoleService(repository, event -> {
+            jwtService.onRoleChanged((UserRoleChangedEvent) event);
+            userCache.onRoleChanged((UserRoleChangedEvent) event);
+        });
+
+        user = UserEntity.builder().id(1L).email(EMAIL).password("{noop}secreto").role(Role.USER).build();
+        when(repository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void roleChangeRejectsTokensWithTheOldRole() {
+        String oldToken = token(Role.USER);
+        userCache.putUserInCache(user);
+
+        service.changeRole(EMAIL, Role.ADMIN);
+
+        verify(repository).save(user);
+        assertThat(user.getRole()).isEqualTo(Role.ADMIN);
+        assertThat(jwtService.isValid(jwtService.verify(oldToken))).isFalse();
+        assertThat(jwtService.isValid(jwtService.verify(token(Role.ADMIN)))).isTrue();
+        assertThat(userCache.getUserFromCache(EMAIL)).isNull();
+    }
+
+    @Test
+    void sameRoleChangesNothing() {
+        String token = token(Role.USER);
+        userCache.putUserInCache(user);
+
+        service.changeRole(EMAIL, Role.USER);
+
+        verify(repository, never()).save(any());
+        assertThat(jwtService.isValid(jwtService.verify(token))).isTrue();
+        assertThat(userCache.getUserFromCache(EMAIL)).isSameAs(user);
+    }
+
+    @Test
+    void unknownUserIsNotFound() {
+        when(repository.findByEmail("nadie@tiquetera.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.changeRole("nadie@tiquetera.com", Role.ADMIN))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(repository, never()).save(any());
+    }
+
+    private String token(Role role) {
+        return jwtService.generateToken(Map.of(JwtVerifier.ROLE_CLAIM, role.name()), user);
+    }
+
+    private static String generatePrivateKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return Base64.getEncoder().encodeToString(generator.generateKeyPair().getPrivate().getEncoded());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
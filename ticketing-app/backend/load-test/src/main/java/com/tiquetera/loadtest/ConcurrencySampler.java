@@ -0,0 +1,121 @@
+package com.tiquetera.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Muestrea cuántas peticiones atiende cada servicio a la vez.
+ *
+ * Lee el gauge http.server.requests.active del actuator, con token, cada
+ * {@value #INTERVAL_MILLIS} ms. Con hilos de plataforma el máximo queda
+ * acotado por server.tomcat.threads.max aunque el generador tenga más
+ * peticiones en curso, que esperan en la cola de conexiones; con hilos
+ * virtuales el límite pasa a ser el pool de conexiones a la base.
+ *
+ * @author Ticketing Team
+ * @version 1.1 - Virtual Threads
+ */
+final class ConcurrencySampler implements AutoCloseable {
+
+    private static final long INTERVAL_MILLIS = 100;
+
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final Map<String, HttpRequest> requests = new LinkedHashMap<>();
+    private final Map<String, Histogram> samples = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "concurrency-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    ConcurrencySampler(HttpClient client, ObjectMapper mapper) {
+        this.client = client;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param token token con el que leer el actuator, que solo deja health
+     *              sin autenticar
+     */
+    ConcurrencySampler add(String service, String baseUrl, String token) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/actuator/metrics/http.server.requests.active"))
+                .timeout(Duration.ofSeconds(2))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        requests.put(service, request);
+        samples.put(service, new Histogram(3));
+        return this;
+    }
+
+    /**
+     * Empieza a muestrear después de {@code delay}, para no contar el
+     * calentamiento.
+     */
+    void start(Duration delay) {
+        scheduler.scheduleAtFixedRate(this::sample, delay.toMillis(), INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Máximo y promedio de peticiones activas por servicio; vacío para un
+     * servicio sin muestras, p. ej. sin actuator.
+     */
+    Map<String, Map<String, Object>> summary() {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        synchronized (samples) {
+            samples.forEach((service, histogram) -> {
+                Map<String, Object> values = new LinkedHashMap<>();
+                if (histogram.getTotalCount() > 0) {
+                    values.put("samples", histogram.getTotalCount());
+                    values.put("mean", histogram.getMean());
+                    values.put("max", histogram.getMaxValue());
+                }
+                summary.put(service, values);
+            });
+        }
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        requests.forEach((service, request) -> {
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    return;
+                }
+                for (JsonNode measurement : mapper.readTree(response.body()).path("measurements")) {
+                    if ("ACTIVE_TASKS".equals(measurement.path("statistic").asText())) {
+                        // La propia petición de muestreo está activa
+                        long active = Math.max(measurement.path("value").asLong() - 1, 0);
+                        synchronized (samples) {
+                            samples.get(service).recordValue(active);
+                        }
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (Exception ex) {
+                // Una muestra perdida no invalida la ejecución
+            }
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.tiquetera.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Datos sembrados y cómo se generan.
+ *
+ * Cada venue y cada evento se deriva de su índice, así la carga puede
+ * reconstruir el cuerpo de un evento sembrado para actualizarlo sin
+ * consultarlo antes. Los eventos sembrados ocupan un horario por día en cada
+ * venue; los que se crean durante la carga van a partir de
+ * {@link #WRITE_OFFSET_YEARS} años después, cada uno en su propio horario,
+ * para no chocar con la detección de solapamientos.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+final class Dataset {
+
+    static final String PASSWORD = "loadtest-password";
+    static final int WRITE_OFFSET_YEARS = 5;
+
+    static final String[] GENRES = { "Concierto de Rock", "Festival de Jazz", "Obra de Teatro", "Partido de Fútbol",
+            "Concierto Sinfónico", "Stand Up Comedy", "Festival Electrónico", "Feria del Libro" };
+    static final String[] CITIES = { "Bogotá", "Medellín", "Cali", "Barranquilla", "Cartagena", "Bucaramanga",
+            "Pereira", "Santa Marta" };
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    final String eventsUrl;
+    final String venuesUrl;
+    final LocalDate firstDay;
+    final String adminToken;
+    final List<String> userEmails;
+    final List<String> userTokens;
+    final long[] venueIds;
+    final long[] eventIds;
+
+    Dataset(String eventsUrl, String venuesUrl, LocalDate firstDay, String adminToken, List<String> userEmails,
+            List<String> userTokens, long[] venueIds, long[] eventIds) {
+        this.eventsUrl = eventsUrl;
+        this.venuesUrl = venuesUrl;
+        this.firstDay = firstDay;
+        this.adminToken = adminToken;
+        this.userEmails = userEmails;
+        this.userTokens = userTokens;
+        this.venueIds = venueIds;
+        this.eventIds = eventIds;
+    }
+
+    /**
+     * Los mismos datos servidos por otra instancia de la API de eventos, p.
+     * ej. events-reactive sobre la misma base.
+     */
+    Dataset withEventsUrl(String url) {
+        return new Dataset(url, venuesUrl, firstDay, adminToken, userEmails, userTokens, venueIds, eventIds);
+    }
+
+    /**
+     * Días con eventos sembrados en cada venue.
+     */
+    int seededDays() {
+        return Math.max(1, (eventIds.length + venueIds.length - 1) / venueIds.length);
+    }
+
+    static ObjectNode venue(ObjectMapper mapper, int index) {
+        ObjectNode venue = mapper.createObjectNode();
+        venue.put("name", "Venue de carga " + index);
+        venue.put("address", "Calle " + (10 + index) + " # 20-30");
+        venue.put("city", CITIES[index % CITIES.length]);
+        venue.put("country", "Colombia");
+        venue.put("capacity", 500 + (index % 100) * 500);
+        venue.put("description", "Venue generado para pruebas de carga");
+        venue.put("phone", "+57300" + String.format("%07d", index));
+        venue.put("email", "venue" + index + "@tiquetera.com");
+        return venue;
+    }
+
+    /**
+     * Cuerpo del evento sembrado número {@code index}.
+     */
+    static ObjectNode event(ObjectMapper mapper, LocalDate firstDay, long[] venueIds, int index) {
+        LocalDateTime start = firstDay.plusDays(index / venueIds.length).atTime(20, 0);
+        return event(mapper, index, venueIds[index % venueIds.length], start);
+    }
+
+    /**
+     * Cuerpo de un evento nuevo, en un horario que no usa ningún otro.
+     */
+    ObjectNode newEvent(ObjectMapper mapper, long sequence, long venueId) {
+        LocalDateTime start = firstDay.plusYears(WRITE_OFFSET_YEARS).atStartOfDay().plusHours(4 * sequence);
+        return event(mapper, (int) (sequence % Integer.MAX_VALUE), venueId, start);
+    }
+
+    private static ObjectNode event(ObjectMapper mapper, int index, long venueId, LocalDateTime start) {
+        ObjectNode event = mapper.createObjectNode();
+        event.put("name", GENRES[index % GENRES.length] + " " + index);
+        event.put("description", "Evento generado para pruebas de carga número " + index);
+        event.put("eventDate", start.format(DATE_TIME));
+        event.put("endDate", start.plusHours(3).format(DATE_TIME));
+        event.put("venueId", venueId);
+        event.put("capacity", 1000 + (index % 50) * 100);
+        event.put("ticketPrice", 50000 + (index % 20) * 10000);
+        return event;
+    }
+}
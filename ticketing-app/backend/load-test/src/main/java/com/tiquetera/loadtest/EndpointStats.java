@@ -0,0 +1,77 @@
+package com.tiquetera.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultados de una operación: latencias en microsegundos y conteo por
+ * resultado.
+ *
+ * La latencia se mide desde el instante en que la petición debía empezar,
+ * no desde que se envió, para que una demora del propio generador también
+ * cuente (omisión coordinada).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param outcome código HTTP o nombre de la excepción
+     */
+    void record(long latencyMicros, String outcome, boolean error) {
+        latencies.recordValue(Math.max(latencyMicros, 0));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Inicio que no se envió porque había demasiadas peticiones en curso.
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    String name() {
+        return name;
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long requests() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+}
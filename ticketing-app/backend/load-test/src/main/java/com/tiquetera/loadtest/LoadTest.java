@@ -0,0 +1,165 @@
+package com.tiquetera.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Prueba de carga HTTP de events-service y venues-service.
+ *
+ * Arranca los dos servicios desde sus JAR sobre bases H2 en archivo (salvo
+ * que se indiquen --events-url y --venues-url), siembra datos por la API,
+ * aplica una carga de modelo abierto a las peticiones por segundo pedidas y
+ * deja el reporte en el directorio de salida.
+ *
+ * Con --slow-clients, en lugar de la mezcla compara events-service con
+ * events-reactive (arrancado sobre la misma base): a cada uno le abre los
+ * clientes lentos y mide, a la vez, la latencia de unas pocas lecturas
+ * rápidas.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+public final class LoadTest {
+
+    // Lecturas de sondeo: una página (va a la base) y un evento por ID
+    private static final String PROBE_MIX = "events.page:1,events.byId:1";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help") || Arrays.asList(args).contains("-h")) {
+            System.out.print(LoadTestOptions.usage());
+            return;
+        }
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(LoadTestOptions.usage());
+            System.exit(2);
+            return;
+        }
+
+        Path output = options.output();
+        Files.createDirectories(output);
+        ObjectMapper mapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // El hook de apagado detiene los servicios si se interrumpe la ejecución
+        List<ServiceProcess> services = new CopyOnWriteArrayList<>();
+        Thread stopServices = new Thread(() -> services.forEach(ServiceProcess::close));
+        Runtime.getRuntime().addShutdownHook(stopServices);
+        try {
+            String venuesUrl = options.venuesUrl();
+            String eventsUrl = options.eventsUrl();
+            String eventsJdbcUrl = null;
+            if (venuesUrl == null) {
+                services.add(ServiceProcess.start("venues-service", options.venuesJar(), options.venuesPort(),
+                        options.jvmArgs(), options.serviceArgs(), output));
+            }
+            if (eventsUrl == null) {
+                ServiceProcess events = ServiceProcess.start("events-service", options.eventsJar(),
+                        options.eventsPort(), options.jvmArgs(), options.serviceArgs(), output);
+                services.add(events);
+                eventsJdbcUrl = events.jdbcUrl();
+            }
+            for (ServiceProcess service : services) {
+                service.awaitReady(client);
+                System.out.println("Servicio listo en " + service.baseUrl());
+            }
+            venuesUrl = venuesUrl != null ? venuesUrl : "http://localhost:" + options.venuesPort();
+            eventsUrl = eventsUrl != null ? eventsUrl : "http://localhost:" + options.eventsPort();
+
+            Dataset data = new Seeder(client, mapper).seed(eventsUrl, venuesUrl, eventsJdbcUrl, options.users(),
+                    options.venues(), options.events());
+            if (options.slowClients() > 0) {
+                String reactiveUrl = options.reactiveUrl();
+                if (reactiveUrl == null) {
+                    ServiceProcess reactive = ServiceProcess.start("events-reactive", "events-service",
+                            options.reactiveJar(), options.reactivePort(), options.jvmArgs(), options.serviceArgs(),
+                            output);
+                    services.add(reactive);
+                    reactive.awaitReady(client);
+                    System.out.println("Servicio listo en " + reactive.baseUrl());
+                    reactiveUrl = reactive.baseUrl();
+                }
+                compareSlowClients(options, client, mapper, data, eventsUrl, reactiveUrl, output);
+                return;
+            }
+            Workload workload = new Workload(data, mapper, options.timeout(), options.mix());
+
+            System.out.printf("Carga de %d req/s: %d s de calentamiento y %d s medidos%n", options.rps(),
+                    options.warmup().toSeconds(), options.duration().toSeconds());
+            OpenModelRunner runner = new OpenModelRunner(client, workload, options.rps(), options.maxInFlight());
+            Map<String, EndpointStats> stats;
+            Map<String, Map<String, Object>> concurrency = new LinkedHashMap<>();
+            try (ConcurrencySampler sampler = new ConcurrencySampler(client, mapper)
+                    .add("events-service", eventsUrl, data.adminToken)
+                    .add("venues-service", venuesUrl, data.adminToken)) {
+                sampler.start(options.warmup());
+                stats = runner.run(options.warmup(), options.duration(), options.timeout());
+                concurrency.put("client", Map.of("max", runner.peakInFlight()));
+                concurrency.putAll(sampler.summary());
+            }
+
+            Report report = new Report(options.describe(), options.duration(), stats, concurrency);
+            report.print(System.out);
+            report.write(output, mapper);
+            System.out.println("\nReporte en " + output.toAbsolutePath());
+        } finally {
+            services.forEach(ServiceProcess::close);
+            services.clear();
+            Runtime.getRuntime().removeShutdownHook(stopServices);
+        }
+    }
+
+    // Cada servicio por separado: clientes lentos durante calentamiento y
+    // medición, y sondeos de modelo abierto cuya latencia muestra si el
+    // servicio sigue atendiendo a los demás
+    private static void compareSlowClients(LoadTestOptions options, HttpClient client, ObjectMapper mapper,
+            Dataset data, String eventsUrl, String reactiveUrl, Path output) throws Exception {
+        Map<String, String> targets = new LinkedHashMap<>();
+        targets.put("events-service", eventsUrl);
+        targets.put("events-reactive", reactiveUrl);
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> concurrency = new LinkedHashMap<>();
+        for (Map.Entry<String, String> target : targets.entrySet()) {
+            String service = target.getKey();
+            String url = target.getValue();
+            System.out.printf("%s: %d clientes lentos en %s y %d req/s de sondeo%n", service, options.slowClients(),
+                    options.slowPath(), options.probeRps());
+            Workload probes = new Workload(data.withEventsUrl(url), mapper, options.timeout(), PROBE_MIX);
+            OpenModelRunner runner = new OpenModelRunner(client, probes, options.probeRps(), options.maxInFlight());
+            try (SlowClients slowClients = new SlowClients(url, options.slowPath(), data.userTokens.get(0),
+                    options.slowClients());
+                    ConcurrencySampler sampler = new ConcurrencySampler(client, mapper)
+                            .add(service, url, data.adminToken)) {
+                slowClients.start();
+                sampler.start(options.warmup());
+                runner.run(options.warmup(), options.duration(), options.timeout())
+                        .forEach((operation, endpoint) -> stats.put(service + "." + operation, endpoint));
+                concurrency.putAll(sampler.summary());
+                concurrency.put(service + ".slowClients", slowClients.summary());
+            }
+        }
+
+        Report report = new Report(options.describe(), options.duration(), stats, concurrency);
+        report.print(System.out);
+        report.write(output, mapper);
+        System.out.println("\nReporte en " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,283 @@
+package com.tiquetera.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Opciones de una ejecución, leídas de argumentos {@code --nombre=valor}.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+final class LoadTestOptions {
+
+    private static final Map<String, String> DESCRIPTIONS = new LinkedHashMap<>();
+
+    static {
+        DESCRIPTIONS.put("rps", "Peticiones por segundo objetivo (200)");
+        DESCRIPTIONS.put("duration", "Duración de la medición, p. ej. 60s o 5m (60s)");
+        DESCRIPTIONS.put("warmup", "Carga previa que no se mide (15s)");
+        DESCRIPTIONS.put("venues", "Venues a sembrar (200)");
+        DESCRIPTIONS.put("events", "Eventos a sembrar (20000)");
+        DESCRIPTIONS.put("users", "Usuarios a sembrar para lecturas y logins (20)");
+        DESCRIPTIONS.put("mix", "Pesos por operación, p. ej. events.byId:40,auth.login:5 (ver Workload)");
+        DESCRIPTIONS.put("max-in-flight", "Peticiones simultáneas antes de descartar (2000)");
+        DESCRIPTIONS.put("timeout", "Tiempo máximo por petición (30s)");
+        DESCRIPTIONS.put("events-url", "Usar un events-service ya levantado en lugar de arrancarlo");
+        DESCRIPTIONS.put("venues-url", "Usar un venues-service ya levantado en lugar de arrancarlo");
+        DESCRIPTIONS.put("events-jar", "JAR ejecutable de events-service");
+        DESCRIPTIONS.put("venues-jar", "JAR ejecutable de venues-service");
+        DESCRIPTIONS.put("events-port", "Puerto de events-service arrancado (18082)");
+        DESCRIPTIONS.put("venues-port", "Puerto de venues-service arrancado (18081)");
+        DESCRIPTIONS.put("slow-clients", "En lugar de la mezcla, comparar events-service y events-reactive "
+                + "con N clientes lentos (0)");
+        DESCRIPTIONS.put("slow-path", "Ruta que piden los clientes lentos (/api/v1/events/page?size=100)");
+        DESCRIPTIONS.put("probe-rps", "Peticiones por segundo de sondeo junto a los clientes lentos (20)");
+        DESCRIPTIONS.put("reactive-url", "Usar un events-reactive ya levantado en lugar de arrancarlo");
+        DESCRIPTIONS.put("reactive-jar", "JAR ejecutable de events-reactive");
+        DESCRIPTIONS.put("reactive-port", "Puerto de events-reactive arrancado (18083)");
+        DESCRIPTIONS.put("jvm-args", "Opciones de la JVM de los servicios, separadas por espacios");
+        DESCRIPTIONS.put("service-args", "Propiedades de Spring de los servicios, p. ej. "
+                + "--spring.threads.virtual.enabled=true, separadas por espacios");
+        DESCRIPTIONS.put("output", "Directorio del reporte (target/load-test/<fecha>)");
+    }
+
+    private final Map<String, String> values;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * @throws IllegalArgumentException si un argumento no tiene el formato
+     *                                  esperado o no existe
+     */
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (se espera --nombre=valor)");
+            }
+            String name = arg.substring(2, separator);
+            if (!DESCRIPTIONS.containsKey(name)) {
+                throw new IllegalArgumentException("Opción desconocida: --" + name);
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    static String usage() {
+        StringBuilder usage = new StringBuilder("Uso: java -jar load-test.jar [--opción=valor ...]\n");
+        DESCRIPTIONS.forEach((name, description) -> usage.append(String.format("  --%-15s %s%n", name, description)));
+        return usage.toString();
+    }
+
+    int rps() {
+        return positiveInt("rps", 200);
+    }
+
+    Duration duration() {
+        return duration("duration", Duration.ofSeconds(60));
+    }
+
+    Duration warmup() {
+        return duration("warmup", Duration.ofSeconds(15));
+    }
+
+    int venues() {
+        return positiveInt("venues", 200);
+    }
+
+    int events() {
+        return positiveInt("events", 20_000);
+    }
+
+    int users() {
+        return positiveInt("users", 20);
+    }
+
+    String mix() {
+        return values.get("mix");
+    }
+
+    int maxInFlight() {
+        return positiveInt("max-in-flight", 2000);
+    }
+
+    Duration timeout() {
+        return duration("timeout", Duration.ofSeconds(30));
+    }
+
+    String eventsUrl() {
+        return values.get("events-url");
+    }
+
+    String venuesUrl() {
+        return values.get("venues-url");
+    }
+
+    String reactiveUrl() {
+        return values.get("reactive-url");
+    }
+
+    Path eventsJar() {
+        return jar("events-jar", "events-service");
+    }
+
+    Path venuesJar() {
+        return jar("venues-jar", "venues-service");
+    }
+
+    Path reactiveJar() {
+        return jar("reactive-jar", "events-reactive");
+    }
+
+    int eventsPort() {
+        return positiveInt("events-port", 18082);
+    }
+
+    int venuesPort() {
+        return positiveInt("venues-port", 18081);
+    }
+
+    int reactivePort() {
+        return positiveInt("reactive-port", 18083);
+    }
+
+    /**
+     * Clientes lentos de la comparación; 0 ejecuta la mezcla de operaciones.
+     */
+    int slowClients() {
+        String value = values.get("slow-clients");
+        return value == null || value.equals("0") ? 0 : positiveInt("slow-clients", 0);
+    }
+
+    String slowPath() {
+        return values.getOrDefault("slow-path", "/api/v1/events/page?size=100");
+    }
+
+    int probeRps() {
+        return positiveInt("probe-rps", 20);
+    }
+
+    List<String> jvmArgs() {
+        return words("jvm-args");
+    }
+
+    List<String> serviceArgs() {
+        return words("service-args");
+    }
+
+    Path output() {
+        String output = values.get("output");
+        if (output != null) {
+            return Path.of(output);
+        }
+        return Path.of("target", "load-test",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+    }
+
+    /**
+     * Valores efectivos de las opciones que afectan a la medición, para
+     * guardarlos con el reporte.
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("rps", rps());
+        description.put("duration", duration().toString());
+        description.put("warmup", warmup().toString());
+        description.put("venues", venues());
+        description.put("events", events());
+        description.put("users", users());
+        description.put("maxInFlight", maxInFlight());
+        description.put("jvmArgs", jvmArgs());
+        description.put("serviceArgs", serviceArgs());
+        if (slowClients() > 0) {
+            description.put("slowClients", slowClients());
+            description.put("slowPath", slowPath());
+            description.put("probeRps", probeRps());
+        }
+        return description;
+    }
+
+    // Por defecto, el JAR del módulo hermano junto al de este módulo:
+    // load-test/target/load-test.jar -> events-service/target/events-service-<versión>.jar
+    private Path jar(String name, String module) {
+        String jar = values.get(name);
+        if (jar != null) {
+            return Path.of(jar);
+        }
+        Path backend = Path.of("");
+        try {
+            Path self = Path.of(LoadTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            backend = self.getParent().getParent().getParent();
+        } catch (Exception ex) {
+            // Se resuelve relativo al directorio actual
+        }
+        String version = LoadTest.class.getPackage().getImplementationVersion();
+        return backend.resolve(module).resolve("target")
+                .resolve(module + "-" + (version == null ? "1.0.0" : version) + ".jar");
+    }
+
+    private List<String> words(String name) {
+        String value = values.get(name);
+        return value == null || value.isBlank() ? List.of() : new ArrayList<>(List.of(value.trim().split("\\s+")));
+    }
+
+    private int positiveInt(String name, int defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ex) {
+            // Se informa abajo
+        }
+        throw new IllegalArgumentException("--" + name + " debe ser un entero positivo: " + value);
+    }
+
+    // Acepta ISO-8601 (PT1M) o un número con unidad ms, s, m o h
+    private Duration duration(String name, Duration defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (normalized.startsWith("p")) {
+                return Duration.parse(normalized.toUpperCase(Locale.ROOT));
+            }
+            if (normalized.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(normalized.substring(0, normalized.length() - 2)));
+            }
+            long amount = Long.parseLong(normalized.substring(0, normalized.length() - 1));
+            switch (normalized.charAt(normalized.length() - 1)) {
+                case 's':
+                    return Duration.ofSeconds(amount);
+                case 'm':
+                    return Duration.ofMinutes(amount);
+                case 'h':
+                    return Duration.ofHours(amount);
+                default:
+                    break;
+            }
+        } catch (RuntimeException ex) {
+            // Se informa abajo
+        }
+        throw new IllegalArgumentException("--" + name + " debe ser una duración como 30s, 5m o PT1M: " + value);
+    }
+}
@@ -0,0 +1,124 @@
+package com.tiquetera.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto.
+ *
+ * Las peticiones empiezan a intervalos fijos de 1/rps sin esperar a que
+ * terminen las anteriores, como llegan los usuarios reales: si el servicio
+ * se degrada, las peticiones se acumulan en lugar de frenar la carga. Un
+ * solo hilo programa los inicios y el HttpClient asíncrono los ejecuta.
+ *
+ * Si hay más de {@code maxInFlight} peticiones en curso, el inicio se
+ * descarta y se cuenta aparte, para no agotar la memoria del generador
+ * cuando el servicio ya no responde.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+final class OpenModelRunner {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final int rps;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    OpenModelRunner(HttpClient client, Workload workload, int rps, int maxInFlight) {
+        this.client = client;
+        this.workload = workload;
+        this.rps = rps;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Ejecuta la carga durante warmup + duration y devuelve los resultados
+     * de duration. Las peticiones que empiezan en el calentamiento no se
+     * registran.
+     *
+     * @return resultados por operación, en el orden de la mezcla
+     */
+    Map<String, EndpointStats> run(Duration warmup, Duration duration, Duration drainTimeout)
+            throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (Workload.Operation operation : workload.operations()) {
+            stats.put(operation.name(), new EndpointStats(operation.name()));
+        }
+
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) rps;
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (long i = 0;; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            Workload.Operation operation = workload.next(random);
+            EndpointStats endpoint = intended >= measureStart ? stats.get(operation.name()) : null;
+            if (inFlight.get() >= maxInFlight) {
+                if (endpoint != null) {
+                    endpoint.drop();
+                }
+                continue;
+            }
+            dispatch(operation.request().apply(random), intended, endpoint);
+        }
+
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        return stats;
+    }
+
+    /**
+     * Máximo de peticiones en curso a la vez durante la medición.
+     */
+    int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    private void dispatch(HttpRequest request, long intended, EndpointStats endpoint) {
+        int current = inFlight.incrementAndGet();
+        if (endpoint != null) {
+            peakInFlight.accumulateAndGet(current, Math::max);
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (endpoint == null) {
+                        return;
+                    }
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        endpoint.record(latencyMicros, cause.getClass().getSimpleName(), true);
+                    } else {
+                        int status = response.statusCode();
+                        endpoint.record(latencyMicros, String.valueOf(status), status >= 400);
+                    }
+                });
+    }
+}
@@ -0,0 +1,142 @@
+package com.tiquetera.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reporte de una ejecución: tabla por consola, report.json con throughput y
+ * percentiles por operación y las peticiones simultáneas observadas, y la
+ * distribución completa de cada operación en formato .hgrm de HdrHistogram.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+final class Report {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final Map<String, Object> options;
+    private final Duration duration;
+    private final Map<String, Map<String, Object>> concurrency;
+    private final Map<String, EndpointStats> endpoints = new LinkedHashMap<>();
+    private final EndpointStats total;
+
+    /**
+     * @param stats       resultados por nombre de fila
+     * @param concurrency peticiones simultáneas en el generador ("client")
+     *                    y en cada servicio
+     */
+    Report(Map<String, Object> options, Duration duration, Map<String, EndpointStats> stats,
+            Map<String, Map<String, Object>> concurrency) {
+        this.options = options;
+        this.duration = duration;
+        this.concurrency = concurrency;
+        stats.forEach((name, endpoint) -> {
+            if (endpoint.requests() + endpoint.dropped() > 0) {
+                endpoints.put(name, endpoint);
+            }
+        });
+        this.total = new EndpointStats("total");
+        for (EndpointStats endpoint : endpoints.values()) {
+            total.latencies().add(endpoint.latencies());
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-32s %10s %8s %7s %8s %9s %9s %9s %9s %9s%n", "Operación", "Peticiones", "Errores",
+                "Desc.", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((name, endpoint) -> printRow(out, name, endpoint.latencies(), endpoint.errors(),
+                endpoint.dropped()));
+        printRow(out, total.name(), total.latencies(), totalErrors(), totalDropped());
+
+        out.printf("%nPeticiones simultáneas (máx.):");
+        concurrency.forEach((source, values) -> out.printf(" %s %s", source, values.getOrDefault("max", "-")));
+        out.println();
+    }
+
+    /**
+     * Guarda report.json y un .hgrm por operación en {@code directory}.
+     */
+    void write(Path directory, ObjectMapper mapper) throws IOException {
+        Files.createDirectories(directory);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.put("measuredSeconds", seconds());
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            Map<String, Object> operation = summary(endpoint.latencies(), endpoint.errors(), endpoint.dropped());
+            operation.put("outcomes", endpoint.outcomes());
+            operations.put(entry.getKey(), operation);
+            writeDistribution(directory.resolve(entry.getKey() + ".hgrm"), endpoint.latencies());
+        }
+        report.put("operations", operations);
+        report.put("total", summary(total.latencies(), totalErrors(), totalDropped()));
+        report.put("concurrency", concurrency);
+        writeDistribution(directory.resolve("total.hgrm"), total.latencies());
+
+        mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(directory.resolve("report.json").toFile(),
+                report);
+    }
+
+    private Map<String, Object> summary(Histogram latencies, long errors, long dropped) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", latencies.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("dropped", dropped);
+        summary.put("throughput", latencies.getTotalCount() / seconds());
+        Map<String, Double> latencyMillis = new LinkedHashMap<>();
+        latencyMillis.put("mean", latencies.getMean() / 1000.0);
+        for (double percentile : PERCENTILES) {
+            latencyMillis.put("p" + format(percentile), millis(latencies.getValueAtPercentile(percentile)));
+        }
+        latencyMillis.put("max", millis(latencies.getMaxValue()));
+        summary.put("latencyMillis", latencyMillis);
+        return summary;
+    }
+
+    private void printRow(PrintStream out, String name, Histogram latencies, long errors, long dropped) {
+        out.printf("%-32s %10d %8d %7d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, latencies.getTotalCount(), errors,
+                dropped, latencies.getTotalCount() / seconds(),
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private long totalErrors() {
+        return endpoints.values().stream().mapToLong(EndpointStats::errors).sum();
+    }
+
+    private long totalDropped() {
+        return endpoints.values().stream().mapToLong(EndpointStats::dropped).sum();
+    }
+
+    private double seconds() {
+        return duration.toMillis() / 1000.0;
+    }
+
+    private static void writeDistribution(Path file, Histogram latencies) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // Valores en microsegundos, escalados a milisegundos
+            latencies.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
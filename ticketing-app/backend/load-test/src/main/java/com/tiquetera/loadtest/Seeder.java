@@ -0,0 +1,185 @@
+package com.tiquetera.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Siembra usuarios, venues y eventos por la API pública de los servicios.
+ *
+ * Los venues se crean de a uno con hasta {@value #PARALLELISM} peticiones a
+ * la vez, porque venues-service no tiene alta en lote, con el token del
+ * administrador que emite events-service; los eventos se crean con el
+ * endpoint de lote en bloques de {@value #EVENT_BATCH_SIZE}.
+ *
+ * events-service lee el venue de cada evento de su propia tabla venues, que
+ * ninguna API llena. Si se tiene acceso a su base, los venues sembrados se
+ * copian ahí antes de crear los eventos.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+final class Seeder {
+
+    private static final int PARALLELISM = 16;
+    private static final int EVENT_BATCH_SIZE = 1000;
+    private static final Duration SEED_TIMEOUT = Duration.ofMinutes(5);
+
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+
+    Seeder(HttpClient client, ObjectMapper mapper) {
+        this.client = client;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param eventsJdbcUrl base de events-service, o null si no se tiene
+     *                      acceso y su tabla venues ya está completa
+     */
+    Dataset seed(String eventsUrl, String venuesUrl, String eventsJdbcUrl, int users, int venues, int events)
+            throws IOException, InterruptedException, SQLException {
+        // Primer día libre: se empieza el año siguiente para cumplir
+        // @FutureOrPresent durante toda la carga
+        LocalDate firstDay = LocalDate.now().plusYears(1).withDayOfYear(1);
+
+        long start = System.nanoTime();
+        String adminToken = token(eventsUrl, "loadtest-admin@tiquetera.com", "ADMIN");
+        List<String> userEmails = new ArrayList<>();
+        List<String> userTokens = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String email = "loadtest-user-" + i + "@tiquetera.com";
+            userEmails.add(email);
+            userTokens.add(token(eventsUrl, email, "USER"));
+        }
+        log("%d usuarios", users + 1, start);
+
+        start = System.nanoTime();
+        long[] venueIds = seedVenues(venuesUrl, venues, adminToken);
+        if (eventsJdbcUrl != null) {
+            copyVenues(eventsJdbcUrl, venueIds);
+        }
+        log("%d venues", venues, start);
+
+        start = System.nanoTime();
+        long[] eventIds = new long[events];
+        for (int offset = 0; offset < events; offset += EVENT_BATCH_SIZE) {
+            int size = Math.min(EVENT_BATCH_SIZE, events - offset);
+            ArrayNode batch = mapper.createArrayNode();
+            for (int i = 0; i < size; i++) {
+                batch.add(Dataset.event(mapper, firstDay, venueIds, offset + i));
+            }
+            JsonNode created = send(post(eventsUrl + "/api/v1/events/bulk", batch, adminToken));
+            for (int i = 0; i < size; i++) {
+                eventIds[offset + i] = created.get(i).get("id").asLong();
+            }
+        }
+        log("%d eventos", events, start);
+
+        return new Dataset(eventsUrl, venuesUrl, firstDay, adminToken, List.copyOf(userEmails),
+                List.copyOf(userTokens), venueIds, eventIds);
+    }
+
+    // Registra al usuario; si ya existe (servicio externo reutilizado),
+    // inicia sesión
+    private String token(String eventsUrl, String email, String role) throws IOException, InterruptedException {
+        ObjectNode register = mapper.createObjectNode();
+        register.put("firstname", "Carga");
+        register.put("lastname", role);
+        register.put("email", email);
+        register.put("password", Dataset.PASSWORD);
+        register.put("role", role);
+        HttpResponse<String> response = client.send(post(eventsUrl + "/auth/register", register, null),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 == 2) {
+            return mapper.readTree(response.body()).get("token").asText();
+        }
+
+        ObjectNode login = mapper.createObjectNode();
+        login.put("email", email);
+        login.put("password", Dataset.PASSWORD);
+        return send(post(eventsUrl + "/auth/login", login, null)).get("token").asText();
+    }
+
+    private long[] seedVenues(String venuesUrl, int venues, String adminToken) throws InterruptedException {
+        long[] venueIds = new long[venues];
+        Semaphore permits = new Semaphore(PARALLELISM);
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for (int i = 0; i < venues; i++) {
+            int index = i;
+            permits.acquire();
+            pending.add(client.sendAsync(post(venuesUrl + "/api/v1/venues", Dataset.venue(mapper, index), adminToken),
+                    HttpResponse.BodyHandlers.ofString())
+                    .thenApply(this::body)
+                    .thenAccept(venue -> venueIds[index] = venue.get("id").asLong())
+                    .whenComplete((ignored, error) -> permits.release()));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return venueIds;
+    }
+
+    private void copyVenues(String eventsJdbcUrl, long[] venueIds) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(eventsJdbcUrl, "sa", "");
+                PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO venues (id, name, city, capacity) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < venueIds.length; i++) {
+                ObjectNode venue = Dataset.venue(mapper, i);
+                insert.setLong(1, venueIds[i]);
+                insert.setString(2, venue.get("name").asText());
+                insert.setString(3, venue.get("city").asText());
+                insert.setInt(4, venue.get("capacity").asInt());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private HttpRequest post(String url, JsonNode body, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(SEED_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request.build();
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        return body(client.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    private JsonNode body(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Falló la siembra: " + response.request().method() + " "
+                    + response.request().uri() + " respondió " + response.statusCode() + ": " + response.body());
+        }
+        try {
+            return mapper.readTree(response.body());
+        } catch (IOException ex) {
+            throw new IllegalStateException("Respuesta no JSON de " + response.request().uri(), ex);
+        }
+    }
+
+    private static void log(String format, int count, long startNanos) {
+        System.out.printf("Sembrados " + format + " en %d ms%n", count,
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+}
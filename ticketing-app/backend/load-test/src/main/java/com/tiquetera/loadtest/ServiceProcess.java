@@ -0,0 +1,213 @@
+package com.tiquetera.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un servicio arrancado en su propia JVM a partir de su JAR ejecutable.
+ *
+ * Se usa el PropertiesLauncher de Spring Boot para agregar los drivers de
+ * H2 (JDBC y R2DBC) al classpath con {@code loader.path}, así el JAR es el
+ * mismo que se despliega. Cada servicio tiene su base H2 en archivo en modo
+ * MySQL, con AUTO_SERVER para que el generador y otros servicios también
+ * puedan conectarse a ella, y su salida va a un archivo en el directorio del
+ * reporte.
+ *
+ * Todo el tráfico sale de una IP y reparte los logins entre pocas cuentas,
+ * así que el límite de intentos de /auth/** se desactiva salvo que
+ * serviceArgs configure alguna propiedad {@value #AUTH_THROTTLE}. Los
+ * tokens se piden una vez al sembrar, así que el access token dura 24 h
+ * salvo que serviceArgs fije {@value #JWT_EXPIRATION}.
+ *
+ * Los servicios no traen claves de los JWT, así que cada ejecución genera un
+ * par RSA propio y lo pasa a todos por el entorno; serviceArgs puede fijar
+ * otro con las propiedades application.security.jwt.
+ *
+ * @author Ticketing Team
+ * @version 1.1 - Load Test
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final String LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final String AUTH_THROTTLE = "--application.security.auth-throttle.";
+    private static final String JWT_EXPIRATION = "--application.security.jwt.expiration=";
+    private static final KeyPair JWT_KEYS = generateJwtKeys();
+
+    private final String name;
+    private final Process process;
+    private final Path log;
+    private final String baseUrl;
+    private final String jdbcUrl;
+
+    private ServiceProcess(String name, Process process, Path log, int port, String jdbcUrl) {
+        this.name = name;
+        this.process = process;
+        this.log = log;
+        this.baseUrl = "http://localhost:" + port;
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    /**
+     * Arranca el servicio sin esperar a que esté listo.
+     *
+     * @param name    nombre del servicio, también de su base de datos
+     * @param jar     JAR ejecutable del servicio
+     * @param port    puerto HTTP
+     * @param jvmArgs opciones adicionales de la JVM
+     * @param serviceArgs argumentos adicionales del servicio, p. ej.
+     *                    propiedades de Spring
+     * @param dataDir directorio donde se guardan su base de datos y su salida
+     */
+    static ServiceProcess start(String name, Path jar, int port, List<String> jvmArgs, List<String> serviceArgs,
+            Path dataDir) throws IOException {
+        return start(name, name, jar, port, jvmArgs, serviceArgs, dataDir);
+    }
+
+    /**
+     * Arranca el servicio sobre la base de otro, p. ej. events-reactive
+     * sobre la de events-service.
+     *
+     * @param database nombre del servicio dueño de la base de datos
+     */
+    static ServiceProcess start(String name, String database, Path jar, int port, List<String> jvmArgs,
+            List<String> serviceArgs, Path dataDir) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("No existe " + jar.toAbsolutePath()
+                    + "; genere los JAR con ./mvnw package -DskipTests");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dloader.path=" + driverJar("org.h2.Driver") + ","
+                + driverJar("io.r2dbc.h2.H2ConnectionFactory"));
+        command.add("-cp");
+        command.add(jar.toAbsolutePath().toString());
+        command.add(LAUNCHER);
+        command.add("--server.port=" + port);
+        Path file = dataDir.resolve("db").resolve(database).toAbsolutePath();
+        String options = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;AUTO_SERVER=TRUE";
+        String jdbcUrl = "jdbc:h2:file:" + file + options;
+        command.add("--spring.datasource.url=" + jdbcUrl);
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        // Los servicios JDBC ignoran spring.r2dbc y el reactivo spring.datasource
+        command.add("--spring.r2dbc.url=r2dbc:h2:file:///" + file + options);
+        command.add("--spring.r2dbc.username=sa");
+        command.add("--spring.r2dbc.password=");
+        // El SQL por consola es una ayuda de desarrollo y distorsiona la medición
+        command.add("--spring.jpa.show-sql=false");
+        if (serviceArgs.stream().noneMatch(arg -> arg.startsWith(AUTH_THROTTLE))) {
+            command.add(AUTH_THROTTLE + "per-client.capacity=0");
+            command.add(AUTH_THROTTLE + "per-account.capacity=0");
+        }
+        if (serviceArgs.stream().noneMatch(arg -> arg.startsWith(JWT_EXPIRATION))) {
+            command.add(JWT_EXPIRATION + Duration.ofDays(1).toMillis());
+        }
+        command.addAll(serviceArgs);
+
+        Path log = dataDir.resolve(name + ".log");
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        Map<String, String> environment = builder.environment();
+        environment.put("APPLICATION_SECURITY_JWT_PRIVATE_KEY",
+                Base64.getEncoder().encodeToString(JWT_KEYS.getPrivate().getEncoded()));
+        environment.put("APPLICATION_SECURITY_JWT_PUBLIC_KEY",
+                Base64.getEncoder().encodeToString(JWT_KEYS.getPublic().getEncoded()));
+        Process process = builder.start();
+        return new ServiceProcess(name, process, log, port, jdbcUrl);
+    }
+
+    /**
+     * Espera a que /actuator/health responda 200.
+     *
+     * @throws IllegalStateException si el proceso termina o no arranca a
+     *                               tiempo
+     */
+    void awaitReady(HttpClient client) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " terminó al arrancar (código " + process.exitValue()
+                        + "); ver " + log.toAbsolutePath());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // Todavía no escucha
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " no arrancó en " + STARTUP_TIMEOUT.toSeconds() + " s; ver "
+                + log.toAbsolutePath());
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * URL JDBC de la base del servicio, con usuario sa y sin contraseña.
+     */
+    String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException ex) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // PKCS#8 y X.509, los formatos que leen los servicios
+    private static KeyPair generateJwtKeys() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // Los drivers de H2 son dependencias de este módulo; se pasa su JAR
+    private static String driverJar(String className) {
+        try {
+            return Path.of(Class.forName(className).getProtectionDomain().getCodeSource().getLocation()
+                    .toURI()).toString();
+        } catch (ClassNotFoundException | URISyntaxException ex) {
+            throw new IllegalStateException("No se encontró " + className + " en el classpath", ex);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.tiquetera.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clientes que leen sus respuestas despacio, como un móvil con mala
+ * cobertura.
+ *
+ * Cada cliente abre su conexión con un buffer de recepción mínimo, pide la
+ * ruta y lee {@value #READ_BYTES} bytes cada {@value #READ_INTERVAL_MILLIS} ms
+ * (unos 10 KB/s); al terminar la respuesta vuelve a pedirla. Así el servidor
+ * no puede despachar la respuesta de una vez y debe retenerla mientras el
+ * cliente la consume: un servidor servlet retiene además el hilo (y, con
+ * open-in-view, la conexión a la base), uno reactivo solo el buffer.
+ *
+ * Un único hilo atiende todas las conexiones con canales no bloqueantes,
+ * así que el generador puede sostener miles de clientes lentos.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Reactive Reads
+ */
+final class SlowClients implements AutoCloseable {
+
+    private static final int READ_BYTES = 1024;
+    private static final long READ_INTERVAL_MILLIS = 100;
+    private static final int RECEIVE_BUFFER_BYTES = 4096;
+
+    private final InetSocketAddress address;
+    private final byte[] request;
+    private final List<Connection> connections = new ArrayList<>();
+    private final ScheduledExecutorService reader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slow-clients");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_BYTES);
+
+    private int peakReceiving;
+    private long completed;
+    private long failed;
+
+    /**
+     * @param baseUrl URL base del servicio
+     * @param path    ruta con su query, p. ej. /api/v1/events/page?size=100
+     * @param token   JWT para la cabecera Authorization, o null
+     * @param clients número de conexiones lentas simultáneas
+     */
+    SlowClients(String baseUrl, String path, String token, int clients) {
+        URI base = URI.create(baseUrl);
+        this.address = new InetSocketAddress(base.getHost(), base.getPort());
+        StringBuilder request = new StringBuilder()
+                .append("GET ").append(path).append(" HTTP/1.1\r\n")
+                .append("Host: ").append(base.getHost()).append(':').append(base.getPort()).append("\r\n")
+                .append("Accept: application/json\r\n")
+                .append("Connection: close\r\n");
+        if (token != null) {
+            request.append("Authorization: Bearer ").append(token).append("\r\n");
+        }
+        this.request = request.append("\r\n").toString().getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < clients; i++) {
+            connections.add(new Connection());
+        }
+    }
+
+    /**
+     * Abre las conexiones y empieza a leer en segundo plano.
+     */
+    void start() {
+        reader.scheduleWithFixedDelay(this::tick, 0, READ_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Conexiones que el servidor ya empezó a responder y siguen abiertas
+     * (máximo observado y al terminar), respuestas completas y conexiones o
+     * respuestas fallidas.
+     */
+    Map<String, Object> summary() throws InterruptedException {
+        try {
+            return reader.submit(() -> {
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("clients", connections.size());
+                summary.put("max", peakReceiving);
+                summary.put("receiving", receiving());
+                summary.put("completed", completed);
+                summary.put("failed", failed);
+                return summary;
+            }).get();
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        reader.shutdownNow();
+        try {
+            reader.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        connections.forEach(Connection::close);
+    }
+
+    private void tick() {
+        for (Connection connection : connections) {
+            connection.poll();
+        }
+        peakReceiving = Math.max(peakReceiving, receiving());
+    }
+
+    private int receiving() {
+        int receiving = 0;
+        for (Connection connection : connections) {
+            if (connection.status != null) {
+                receiving++;
+            }
+        }
+        return receiving;
+    }
+
+    /**
+     * Una conexión y el estado de su respuesta en curso.
+     */
+    private final class Connection {
+
+        private SocketChannel channel;
+        private final StringBuilder statusLine = new StringBuilder();
+        private String status;
+
+        void poll() {
+            try {
+                if (channel == null) {
+                    open();
+                    return;
+                }
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read > 0 && status == null) {
+                    readStatus(read);
+                } else if (read < 0) {
+                    if ("200".equals(status)) {
+                        completed++;
+                    } else {
+                        failed++;
+                    }
+                    close();
+                }
+            } catch (IOException ex) {
+                failed++;
+                close();
+            }
+        }
+
+        private void open() throws IOException {
+            channel = SocketChannel.open();
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, RECEIVE_BUFFER_BYTES);
+            channel.connect(address);
+            ByteBuffer out = ByteBuffer.wrap(request);
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.configureBlocking(false);
+        }
+
+        // "HTTP/1.1 200 ..." -> "200"
+        private void readStatus(int read) {
+            for (int i = 0; i < read && statusLine.length() < 12; i++) {
+                statusLine.append((char) buffer.get(i));
+            }
+            if (statusLine.length() >= 12) {
+                status = statusLine.substring(9, 12);
+            }
+        }
+
+        void close() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ex) {
+                    // Ya estaba cerrada
+                }
+            }
+            channel = null;
+            status = null;
+            statusLine.setLength(0);
+        }
+    }
+}
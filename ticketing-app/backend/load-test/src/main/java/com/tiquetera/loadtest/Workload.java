@@ -0,0 +1,207 @@
+package com.tiquetera.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Mezcla de operaciones de la carga y cómo se construye cada petición.
+ *
+ * Cada operación tiene un peso; en cada inicio se elige una al azar en
+ * proporción a su peso. Las lecturas usan el token de un usuario sembrado al
+ * azar y las escrituras el del administrador.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Load Test
+ */
+final class Workload {
+
+    /**
+     * Operación con nombre, que también identifica su fila en el reporte.
+     */
+    record Operation(String name, int weight, Function<ThreadLocalRandom, HttpRequest> request) {
+    }
+
+    private final Dataset data;
+    private final ObjectMapper mapper;
+    private final Duration timeout;
+    private final AtomicLong createdEvents = new AtomicLong();
+    private final AtomicLong createdVenues = new AtomicLong();
+    private final List<Operation> operations;
+    private final int[] cumulativeWeights;
+
+    /**
+     * @param mix pesos {@code nombre:peso} separados por comas; si se indica,
+     *            solo corren las operaciones nombradas
+     * @throws IllegalArgumentException si la mezcla nombra una operación
+     *                                  desconocida o ningún peso es positivo
+     */
+    Workload(Dataset data, ObjectMapper mapper, Duration timeout, String mix) {
+        this.data = data;
+        this.mapper = mapper;
+        this.timeout = timeout;
+
+        Map<String, Operation> defaults = new LinkedHashMap<>();
+        for (Operation operation : defaultOperations()) {
+            defaults.put(operation.name(), operation);
+        }
+        this.operations = mix == null ? List.copyOf(defaults.values()) : parseMix(defaults, mix);
+
+        this.cumulativeWeights = new int[operations.size()];
+        int total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("La mezcla no tiene ninguna operación con peso positivo");
+        }
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    Operation next(ThreadLocalRandom random) {
+        int point = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        throw new IllegalStateException("Peso fuera de rango: " + point);
+    }
+
+    private List<Operation> defaultOperations() {
+        return List.of(
+                new Operation("events.page", 15, random -> get(data.eventsUrl + "/api/v1/events/page?size=20",
+                        userToken(random))),
+                new Operation("events.byId", 25, random -> get(data.eventsUrl + "/api/v1/events/"
+                        + pick(random, data.eventIds), userToken(random))),
+                new Operation("events.search", 12, this::search),
+                new Operation("events.searchText", 5, random -> get(data.eventsUrl + "/api/v1/events/search/text?q="
+                        + encode(Dataset.GENRES[random.nextInt(Dataset.GENRES.length)]) + "&limit=20",
+                        userToken(random))),
+                new Operation("events.venueCalendar", 5, this::calendar),
+                new Operation("venues.byId", 10, random -> get(data.venuesUrl + "/api/v1/venues/"
+                        + pick(random, data.venueIds), null)),
+                new Operation("venues.byCity", 5, random -> get(data.venuesUrl + "/api/v1/venues/city/"
+                        + encode(Dataset.CITIES[random.nextInt(Dataset.CITIES.length)]), null)),
+                new Operation("events.create", 6, random -> send("POST", data.eventsUrl + "/api/v1/events",
+                        data.newEvent(mapper, createdEvents.getAndIncrement(), pick(random, data.venueIds)),
+                        data.adminToken)),
+                new Operation("events.update", 4, this::update),
+                new Operation("venues.create", 1, random -> send("POST", data.venuesUrl + "/api/v1/venues",
+                        Dataset.venue(mapper, data.venueIds.length + (int) createdVenues.getAndIncrement()),
+                        data.adminToken)),
+                new Operation("auth.login", 2, this::login));
+    }
+
+    // Un venue en un rango de un mes, o un estado con rango de precios
+    private HttpRequest search(ThreadLocalRandom random) {
+        String query;
+        if (random.nextBoolean()) {
+            LocalDate from = randomSeededDay(random);
+            query = "venueId=" + pick(random, data.venueIds)
+                    + "&startDate=" + from.atStartOfDay()
+                    + "&endDate=" + from.plusMonths(1).atStartOfDay();
+        } else {
+            int minPrice = 50000 + random.nextInt(10) * 10000;
+            query = "status=SCHEDULED&minPrice=" + minPrice + "&maxPrice=" + (minPrice + 50000) + "&sort=PRICE_ASC";
+        }
+        return get(data.eventsUrl + "/api/v1/events/search?" + query + "&size=20", userToken(random));
+    }
+
+    private HttpRequest calendar(ThreadLocalRandom random) {
+        LocalDate from = randomSeededDay(random).withDayOfMonth(1);
+        return get(data.eventsUrl + "/api/v1/events/venue/" + pick(random, data.venueIds) + "/calendar?from="
+                + from + "&to=" + from.plusMonths(1).minusDays(1), userToken(random));
+    }
+
+    // Cambia el precio de un evento sembrado sin mover su horario
+    private HttpRequest update(ThreadLocalRandom random) {
+        int index = random.nextInt(data.eventIds.length);
+        ObjectNode event = Dataset.event(mapper, data.firstDay, data.venueIds, index);
+        event.put("id", data.eventIds[index]);
+        event.put("ticketPrice", 50000 + random.nextInt(20) * 10000);
+        return send("PUT", data.eventsUrl + "/api/v1/events/" + data.eventIds[index], event, data.adminToken);
+    }
+
+    private HttpRequest login(ThreadLocalRandom random) {
+        ObjectNode login = mapper.createObjectNode();
+        login.put("email", data.userEmails.get(random.nextInt(data.userEmails.size())));
+        login.put("password", Dataset.PASSWORD);
+        return send("POST", data.eventsUrl + "/auth/login", login, null);
+    }
+
+    private LocalDate randomSeededDay(ThreadLocalRandom random) {
+        return data.firstDay.plusDays(random.nextInt(data.seededDays()));
+    }
+
+    private String userToken(ThreadLocalRandom random) {
+        return data.userTokens.get(random.nextInt(data.userTokens.size()));
+    }
+
+    private HttpRequest get(String url, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request.build();
+    }
+
+    private HttpRequest send(String method, String url, ObjectNode body, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body.toString()));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request.build();
+    }
+
+    private static long pick(ThreadLocalRandom random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static List<Operation> parseMix(Map<String, Operation> defaults, String mix) {
+        List<Operation> operations = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Operation operation = defaults.get(parts[0]);
+            if (operation == null || parts.length != 2) {
+                throw new IllegalArgumentException("Entrada de --mix inválida: " + entry
+                        + " (operaciones: " + String.join(", ", defaults.keySet()) + ")");
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Peso inválido en --mix: " + entry);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Peso negativo en --mix: " + entry);
+            }
+            operations.add(new Operation(operation.name(), weight, operation.request()));
+        }
+        return List.copyOf(operations);
+    }
+}
@@ -0,0 +1,82 @@
+package com.tiquetera.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Autentica la petición con el JWT de la cabecera Authorization, solo con
+ * los claims del token: el principal es el email y las authorities son las
+ * del token. No consulta usuarios ni otros servicios.
+ *
+ * Un token inválido, expirado, sin authorities o rechazado por alguno de los
+ * {@link JwtClaimsValidator} del servicio deja la petición sin autenticar, y
+ * las reglas de SecurityConfig deciden si puede seguir.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Shared Security
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtVerifier jwtVerifier;
+    private final List<JwtClaimsValidator> validators;
+
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier, List<JwtClaimsValidator> validators) {
+        this.jwtVerifier = jwtVerifier;
+        this.validators = List.copyOf(validators);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        final String authHeader = request.getHeader("Authorization");
+
+        if (authHeader != null && authHeader.startsWith(BEARER)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Claims claims = verify(authHeader.substring(BEARER.length()));
+            List<GrantedAuthority> authorities = claims == null ? null : jwtVerifier.extractAuthorities(claims);
+
+            if (authorities != null && jwtVerifier.isTokenValid(claims) && passesValidators(claims)) {
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Claims verify(String token) {
+        try {
+            return jwtVerifier.verify(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private boolean passesValidators(Claims claims) {
+        for (JwtClaimsValidator validator : validators) {
+            if (!validator.isValid(claims)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.tiquetera.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Comprobación propia de un servicio sobre un token ya verificado, por
+ * ejemplo que no esté revocado. JwtAuthenticationFilter no autentica la
+ * petición si alguna la rechaza.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Shared Security
+ */
+@FunctionalInterface
+public interface JwtClaimsValidator {
+
+    boolean isValid(Claims claims);
+}
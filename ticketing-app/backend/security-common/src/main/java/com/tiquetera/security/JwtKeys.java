@@ -0,0 +1,62 @@
+package com.tiquetera.security;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * Lee las claves RSA de los JWT desde la configuración.
+ *
+ * Acepta PEM ({@code -----BEGIN ...-----}) o el mismo contenido en Base64 sin
+ * encabezados: PKCS#8 para la privada y X.509 (SubjectPublicKeyInfo) para la
+ * pública, los formatos que genera {@code openssl genpkey} y
+ * {@code openssl pkey -pubout}.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Shared Security
+ */
+public final class JwtKeys {
+
+    private JwtKeys() {
+    }
+
+    public static RSAPublicKey publicKey(String encoded) {
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("Clave pública RSA inválida", ex);
+        }
+    }
+
+    public static RSAPrivateCrtKey privateKey(String encoded) {
+        try {
+            return (RSAPrivateCrtKey) KeyFactory.getInstance("RSA")
+                    .generatePrivate(new PKCS8EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException | ClassCastException ex) {
+            throw new IllegalStateException("Clave privada RSA inválida", ex);
+        }
+    }
+
+    /**
+     * La pública que corresponde a una privada, para que quien firma solo
+     * necesite configurar esta última.
+     */
+    public static RSAPublicKey publicKey(RSAPrivateCrtKey privateKey) {
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA")
+                    .generatePublic(new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent()));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static byte[] decode(String encoded) {
+        String base64 = encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
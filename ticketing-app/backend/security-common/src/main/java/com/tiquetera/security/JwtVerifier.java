@@ -0,0 +1,122 @@
+package com.tiquetera.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.PublicKey;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifica los JWT de events-service con su clave pública.
+ *
+ * Los tokens se firman con RS256: solo events-service tiene la clave
+ * privada y cualquier servicio con la pública los verifica por su cuenta,
+ * sin llamar a events-service ni leer la tabla users, porque el token lleva
+ * usuario, rol ({@value #ROLE_CLAIM}) y authorities
+ * ({@value #AUTHORITIES_CLAIM}).
+ *
+ * El parser se construye una vez. {@link #verify(String)} hace el único
+ * parseo y la única comprobación de firma por petición; los tokens ya
+ * verificados se guardan, por el SHA-256 del token, en una caché acotada que
+ * expira cada entrada cuando expira su token, así que un cliente que repite
+ * el mismo token no vuelve a pagar la verificación RSA. Con tamaño 0 no hay
+ * caché.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Shared Security
+ */
+public class JwtVerifier {
+
+    public static final String ROLE_CLAIM = "role";
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtVerifier(PublicKey publicKey, long verifiedCacheSize) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(publicKey)
+                .build();
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .build()
+                : null;
+    }
+
+    /**
+     * Verifica firma y expiración del token y devuelve sus claims. Los
+     * claims pueden estar compartidos con otras peticiones del mismo token:
+     * no deben modificarse.
+     *
+     * @throws io.jsonwebtoken.JwtException si el token no es válido o expiró
+     */
+    public Claims verify(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        String digest = TokenDigest.sha256(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Comprueba claims ya verificados: que tengan usuario y que no hayan
+     * expirado (una entrada de la caché puede sobrevivir unos milisegundos a
+     * su token).
+     */
+    public boolean isTokenValid(Claims claims) {
+        return claims.getSubject() != null
+                && (claims.getExpiration() == null || claims.getExpiration().after(new Date()));
+    }
+
+    /**
+     * Authorities del token, o null si no las lleva.
+     */
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (authorities == null) {
+            return null;
+        }
+        return authorities.stream()
+                .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority.toString()))
+                .toList();
+    }
+
+    /**
+     * Cada token verificado sale de la caché cuando vence su claim exp.
+     */
+    private static final class UntilTokenExpires implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
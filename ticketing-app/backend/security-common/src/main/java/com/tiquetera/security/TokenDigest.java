@@ -0,0 +1,28 @@
+package com.tiquetera.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 en hexadecimal de un token, para guardarlo o indexarlo sin
+ * conservar el token.
+ *
+ * @author Ticketing Team
+ * @version 1.1 - Shared Security
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    public static String sha256(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
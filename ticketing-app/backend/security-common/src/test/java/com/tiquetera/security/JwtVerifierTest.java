@@ -0,0 +1,143 @@
+package com.tiquetera.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verificación de JWT con caché de tokens verificados: la caché nunca
+ * acepta un token alterado ni uno que ya expiró.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Shared Security
+ */
+class JwtVerifierTest {
+
+    private static final KeyPair KEYS = generateKeyPair();
+    private static final KeyPair OTHER_KEYS = generateKeyPair();
+
+    private final JwtVerifier verifier = new JwtVerifier(KEYS.getPublic(), 100);
+
+    @Test
+    void repeatedTokenIsServedFromTheCache() {
+        String token = token(KEYS, "USER", new Date(System.currentTimeMillis() + 60_000));
+
+        Claims first = verifier.verify(token);
+        Claims second = verifier.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getSubject()).isEqualTo("ana@tiquetera.com");
+        assertThat(verifier.isTokenValid(first)).isTrue();
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenWhenTheOriginalIsCached() {
+        String token = token(KEYS, "USER", new Date(System.currentTimeMillis() + 60_000));
+        verifier.verify(token);
+
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"USER\"", "\"ADMIN\"");
+        String escalated = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+        String badSignature = parts[0] + "." + parts[1] + "." + flipFirstChar(parts[2]);
+
+        assertThatThrownBy(() -> verifier.verify(escalated)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(badSignature)).isInstanceOf(JwtException.class);
+        assertThat(verifier.verify(token).get(JwtVerifier.ROLE_CLAIM)).isEqualTo("USER");
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String forged = token(OTHER_KEYS, "ADMIN", new Date(System.currentTimeMillis() + 60_000));
+
+        assertThatThrownBy(() -> verifier.verify(forged)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void cachedTokenIsEvictedWhenItExpires() throws InterruptedException {
+        // exp se guarda en segundos enteros: el token vence en uno o dos segundos
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String token = token(KEYS, "USER", new Date(expiresAt));
+        Claims cached = verifier.verify(token);
+        assertThat(verifier.verify(token)).isSameAs(cached);
+
+        while (System.currentTimeMillis() <= expiresAt) {
+            Thread.sleep(50);
+        }
+
+        assertThat(verifier.isTokenValid(cached)).isFalse();
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void expiredTokenIsNeverCached() {
+        String token = token(KEYS, "USER", new Date(System.currentTimeMillis() - 60_000));
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void withoutCacheEveryCallVerifies() {
+        JwtVerifier uncached = new JwtVerifier(KEYS.getPublic(), 0);
+        String token = token(KEYS, "USER", new Date(System.currentTimeMillis() + 60_000));
+
+        assertThat(uncached.verify(token)).isNotSameAs(uncached.verify(token));
+        String forged = token(OTHER_KEYS, "USER", new Date(System.currentTimeMillis() + 60_000));
+        assertThatThrownBy(() -> uncached.verify(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void readsAuthoritiesAndRequiresASubject() {
+        Claims claims = verifier.verify(token(KEYS, "ADMIN", new Date(System.currentTimeMillis() + 60_000)));
+
+        assertThat(verifier.extractAuthorities(claims)).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        assertThat(verifier.isTokenValid(Jwts.claims())).isFalse();
+        assertThat(verifier.extractAuthorities(Jwts.claims())).isNull();
+    }
+
+    private static String token(KeyPair keys, String role, Date expiration) {
+        return Jwts.builder()
+                .setClaims(Map.of(JwtVerifier.ROLE_CLAIM, role,
+                        JwtVerifier.AUTHORITIES_CLAIM, List.of("ROLE_" + role)))
+                .setSubject("ana@tiquetera.com")
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(keys.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private static String flipFirstChar(String value) {
+        char first = value.charAt(0);
+        return (first == 'A' ? 'B' : 'A') + value.substring(1);
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
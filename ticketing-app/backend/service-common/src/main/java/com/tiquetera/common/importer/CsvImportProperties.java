@@ -0,0 +1,48 @@
+package com.tiquetera.common.importer;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Límites del importador CSV.
+ *
+ * No lleva prefijo propio: cada servicio la publica ligada al suyo
+ * (events.import, venues.import).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Data
+public class CsvImportProperties {
+
+    /**
+     * Filas por lote; cada lote se confirma en su propia transacción.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Lotes que un trabajo escribe a la vez.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Trabajos que se procesan a la vez.
+     */
+    private int maxConcurrentJobs = 2;
+
+    /**
+     * Trabajos en espera; con la cola llena un archivo nuevo se rechaza.
+     */
+    private int maxQueuedJobs = 8;
+
+    /**
+     * Errores por fila que se conservan de cada trabajo.
+     */
+    private int maxErrors = 1000;
+
+    /**
+     * Tiempo durante el que se puede consultar un trabajo terminado.
+     */
+    private Duration retention = Duration.ofHours(24);
+}
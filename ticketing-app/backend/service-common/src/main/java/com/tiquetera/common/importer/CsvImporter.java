@@ -0,0 +1,312 @@
+package com.tiquetera.common.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importador CSV asíncrono.
+ *
+ * El archivo subido se copia a un temporal y un hilo del pool de trabajos
+ * lo recorre registro a registro con el parser en streaming de Jackson:
+ * cada fila se convierte al DTO de la API, se valida con sus mismas
+ * restricciones y se acumula en lotes. Los lotes se escriben en paralelo en
+ * otro pool, pero como máximo {@code parallelism} a la vez por trabajo; al
+ * alcanzar ese límite la lectura espera. Así la memoria usada depende del
+ * tamaño de lote y del paralelismo, no del tamaño del archivo.
+ *
+ * Cada lote se confirma en su propia transacción. Si un lote falla se
+ * reintenta fila a fila para importar las filas válidas y reportar las
+ * demás.
+ *
+ * La cola de trabajos es acotada: con {@code max-concurrent-jobs} trabajos
+ * en curso y {@code max-queued-jobs} en espera, un archivo nuevo se rechaza
+ * con {@link ImportQueueFullException} (503) antes de copiarlo, en lugar de
+ * acumular temporales sin límite.
+ *
+ * Cada servicio lo declara como bean con sus {@link CsvImportProperties}.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Slf4j
+public class CsvImporter {
+
+    private static final int MAX_MESSAGE_LENGTH = 300;
+    private static final long RETRY_AFTER_SECONDS = 30;
+
+    private final Validator validator;
+    private final CsvMapper csvMapper;
+    private final ObjectReader rowReader;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxErrors;
+    private final Duration retention;
+    private final ThreadPoolExecutor jobExecutor;
+    private final ExecutorService batchExecutor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public CsvImporter(Validator validator, CsvImportProperties properties) {
+        this(validator, properties.getBatchSize(), properties.getParallelism(), properties.getMaxConcurrentJobs(),
+                properties.getMaxQueuedJobs(), properties.getMaxErrors(), properties.getRetention());
+    }
+
+    public CsvImporter(Validator validator, int batchSize, int parallelism, int maxConcurrentJobs,
+            int maxQueuedJobs, int maxErrors, Duration retention) {
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.maxErrors = maxErrors;
+        this.retention = retention;
+        this.csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+                .build();
+        this.rowReader = csvMapper.readerForMapOf(String.class).with(CsvSchema.emptySchema().withHeader());
+        this.jobExecutor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), new CustomizableThreadFactory("csv-import-"));
+        this.batchExecutor = Executors.newFixedThreadPool(maxConcurrentJobs * parallelism,
+                new CustomizableThreadFactory("csv-import-batch-"));
+    }
+
+    /**
+     * Registra un trabajo de importación y lo encola.
+     *
+     * @param fileName nombre del archivo original
+     * @param content  contenido CSV con cabecera
+     * @param rowType  DTO al que se convierte cada fila
+     * @param toDomain conversión del DTO al modelo de dominio
+     * @param writer   escritura de un lote en una transacción
+     * @param groups   grupos de validación del DTO
+     * @return trabajo en estado PENDING
+     * @throws IOException si no se puede guardar el archivo temporal
+     * @throws ImportQueueFullException si la cola de trabajos está llena
+     */
+    public <D, T> ImportJob submit(String fileName, InputStream content, Class<D> rowType,
+            Function<D, T> toDomain, Consumer<List<T>> writer, Class<?>... groups) throws IOException {
+        if (jobExecutor.getQueue().remainingCapacity() == 0) {
+            throw new ImportQueueFullException(RETRY_AFTER_SECONDS);
+        }
+        Path file = Files.createTempFile("csv-import-", ".csv");
+        try {
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+
+        pruneFinishedJobs();
+        ImportJob job = new ImportJob(fileName, maxErrors);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> run(job, file, rowType, toDomain, writer, groups));
+        } catch (RejectedExecutionException ex) {
+            // Otra petición ocupó el último lugar mientras se copiaba el archivo
+            jobs.remove(job.getId());
+            Files.deleteIfExists(file);
+            throw new ImportQueueFullException(RETRY_AFTER_SECONDS);
+        }
+        log.info("Importación {} encolada: {}", job.getId(), fileName);
+        return job;
+    }
+
+    /**
+     * Obtiene un trabajo de importación por ID.
+     *
+     * @param jobId ID del trabajo
+     * @return trabajo si existe y no ha expirado
+     */
+    public Optional<ImportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private <D, T> void run(ImportJob job, Path file, Class<D> rowType, Function<D, T> toDomain,
+            Consumer<List<T>> writer, Class<?>[] groups) {
+        job.start();
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<Row<D>> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<Map<String, String>> rows = rowReader.readValues(file.toFile())) {
+            long rowNumber = 0;
+            while (rows.hasNextValue()) {
+                Map<String, String> values = rows.nextValue();
+                rowNumber++;
+                job.rowRead();
+
+                D row = parse(job, rowNumber, values, rowType, toDomain, groups);
+                if (row == null) {
+                    continue;
+                }
+                batch.add(new Row<>(rowNumber, row));
+                if (batch.size() == batchSize) {
+                    submitBatch(job, batch, toDomain, writer, inFlight);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submitBatch(job, batch, toDomain, writer, inFlight);
+                batch = List.of();
+            }
+
+            inFlight.acquire(parallelism);
+            job.complete();
+            log.info("Importación {} terminada: {} filas importadas, {} con error",
+                    job.getId(), job.getImportedRows(), job.getFailedRows());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("La importación fue interrumpida");
+        } catch (IOException | RuntimeException ex) {
+            // Las filas leídas antes del error se guardan igual que si el
+            // archivo terminara ahí
+            if (!batch.isEmpty()) {
+                writeBatch(job, batch, toDomain, writer);
+            }
+            inFlight.acquireUninterruptibly(parallelism);
+            log.error("Importación {} fallida", job.getId(), ex);
+            job.fail("Error leyendo el archivo: " + describe(ex));
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                log.warn("No se pudo eliminar el temporal {}", file, ex);
+            }
+        }
+    }
+
+    // Devuelve null si la fila no se puede convertir o no pasa la validación
+    private <D, T> D parse(ImportJob job, long rowNumber, Map<String, String> values, Class<D> rowType,
+            Function<D, T> toDomain, Class<?>[] groups) {
+        // Una celda vacía es un valor ausente, no una cadena vacía
+        values.values().removeIf(String::isEmpty);
+
+        D row;
+        try {
+            row = csvMapper.convertValue(values, rowType);
+        } catch (IllegalArgumentException ex) {
+            job.rowFailed(rowNumber, describeConversion(ex));
+            return null;
+        }
+
+        Set<ConstraintViolation<D>> violations = validator.validate(row, groups);
+        if (!violations.isEmpty()) {
+            job.rowFailed(rowNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+
+        try {
+            toDomain.apply(row);
+        } catch (RuntimeException ex) {
+            job.rowFailed(rowNumber, describe(ex));
+            return null;
+        }
+        return row;
+    }
+
+    private <D, T> void submitBatch(ImportJob job, List<Row<D>> batch, Function<D, T> toDomain,
+            Consumer<List<T>> writer, Semaphore inFlight) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            batchExecutor.execute(() -> {
+                try {
+                    writeBatch(job, batch, toDomain, writer);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            throw ex;
+        }
+    }
+
+    private <D, T> void writeBatch(ImportJob job, List<Row<D>> batch, Function<D, T> toDomain,
+            Consumer<List<T>> writer) {
+        try {
+            writer.accept(batch.stream().map(row -> toDomain.apply(row.value())).collect(Collectors.toList()));
+            job.rowsImported(batch.size());
+        } catch (RuntimeException ex) {
+            // El lote se revirtió completo: se reintenta fila a fila para
+            // importar las válidas e identificar las que fallan.
+            log.debug("Lote de la importación {} fallido, reintentando fila a fila: {}", job.getId(),
+                    describe(ex));
+            for (Row<D> row : batch) {
+                try {
+                    writer.accept(List.of(toDomain.apply(row.value())));
+                    job.rowsImported(1);
+                } catch (RuntimeException rowEx) {
+                    job.rowFailed(row.number(), describe(rowEx));
+                }
+            }
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime limit = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+    }
+
+    private static String describeConversion(IllegalArgumentException ex) {
+        if (ex.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+            return field + ": valor con formato inválido";
+        }
+        return describe(ex);
+    }
+
+    private static String describe(Throwable ex) {
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        if (message == null) {
+            return ex.getClass().getSimpleName();
+        }
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        batchExecutor.shutdownNow();
+    }
+
+    private record Row<D>(long number, D value) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.tiquetera.common.importer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado y progreso de una importación CSV.
+ *
+ * Lo actualizan a la vez el hilo que lee el archivo y los hilos que escriben
+ * los lotes, y lo consulta la API de progreso: los contadores son atómicos y
+ * la lista de errores se guarda acotada para que un archivo con millones de
+ * filas inválidas no agote la memoria.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+public class ImportJob {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Error de una fila del archivo. La fila se numera desde 1 sin contar la
+     * cabecera.
+     */
+    public record RowError(long row, String message) {
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String fileName;
+    private final int maxErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<RowError> errors = new ArrayList<>();
+
+    private volatile Status status = Status.PENDING;
+    private volatile String failureMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(String fileName, int maxErrors) {
+        this.fileName = fileName;
+        this.maxErrors = maxErrors;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    void rowRead() {
+        processedRows.incrementAndGet();
+    }
+
+    void rowsImported(int count) {
+        importedRows.addAndGet(count);
+    }
+
+    void rowFailed(long row, String message) {
+        failedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(row, message));
+            }
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    public long getImportedRows() {
+        return importedRows.get();
+    }
+
+    public long getFailedRows() {
+        return failedRows.get();
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    public boolean isErrorsTruncated() {
+        return failedRows.get() > maxErrors;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
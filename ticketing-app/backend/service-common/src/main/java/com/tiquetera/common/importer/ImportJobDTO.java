@@ -0,0 +1,97 @@
+package com.tiquetera.common.importer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta con el progreso de una importación CSV.
+ * 
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado y progreso de una importación CSV")
+public class ImportJobDTO {
+
+    @Schema(description = "ID del trabajo de importación", example = "3f1c2a9e-7b1d-4c55-9a51-2f0c1e8b7d10")
+    private String id;
+
+    @Schema(description = "Nombre del archivo importado", example = "catalogo.csv")
+    private String fileName;
+
+    @Schema(description = "Estado del trabajo", example = "RUNNING", allowableValues = { "PENDING", "RUNNING",
+            "COMPLETED", "FAILED" })
+    private String status;
+
+    @Schema(description = "Filas leídas hasta el momento", example = "120000")
+    private long processedRows;
+
+    @Schema(description = "Filas guardadas", example = "119950")
+    private long importedRows;
+
+    @Schema(description = "Filas rechazadas", example = "50")
+    private long failedRows;
+
+    @Schema(description = "Errores por fila (se conservan los primeros)")
+    private List<RowErrorDTO> errors;
+
+    @Schema(description = "Indica si hay más errores de los listados", example = "false")
+    private boolean errorsTruncated;
+
+    @Schema(description = "Motivo por el que el trabajo falló", example = "Error leyendo el archivo: Unexpected end-of-input")
+    private String failureMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Fecha de creación del trabajo", example = "2025-01-15T10:30:00")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Fecha de inicio del procesamiento", example = "2025-01-15T10:30:01")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Fecha de finalización", example = "2025-01-15T10:32:45")
+    private LocalDateTime finishedAt;
+
+    public static ImportJobDTO from(ImportJob job) {
+        return ImportJobDTO.builder()
+                .id(job.getId())
+                .fileName(job.getFileName())
+                .status(job.getStatus().name())
+                .processedRows(job.getProcessedRows())
+                .importedRows(job.getImportedRows())
+                .failedRows(job.getFailedRows())
+                .errors(job.getErrors().stream()
+                        .map(error -> new RowErrorDTO(error.row(), error.message()))
+                        .toList())
+                .errorsTruncated(job.isErrorsTruncated())
+                .failureMessage(job.getFailureMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "Error de una fila del archivo")
+    public static class RowErrorDTO {
+
+        @Schema(description = "Número de fila, desde 1 y sin contar la cabecera", example = "42")
+        private long row;
+
+        @Schema(description = "Descripción del error", example = "name: El nombre es obligatorio")
+        private String message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.tiquetera.common.importer;
+
+import lombok.Getter;
+
+/**
+ * La cola de trabajos de importación está llena (503).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Getter
+public class ImportQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ImportQueueFullException(long retryAfterSeconds) {
+        super("Hay demasiadas importaciones en curso, intente de nuevo en " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,54 @@
+package com.tiquetera.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+
+/**
+ * Advisors de métricas de los casos de uso y de los repositorios.
+ *
+ * Cada servicio los publica como beans de infraestructura
+ * (ROLE_INFRASTRUCTURE) desde métodos static. Se aplican en el mismo proxy
+ * que @Transactional y por fuera de él, así el tiempo medido de un caso de
+ * uso incluye el commit.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+public final class OperationMetricsAdvisors {
+
+    private OperationMetricsAdvisors() {
+    }
+
+    /**
+     * Mide las interfaces *UseCase del paquete de puertos de entrada
+     * (Timer ticketing.usecase).
+     *
+     * @param useCase cualquier caso de uso del paquete
+     */
+    public static Advisor useCases(ObjectProvider<MeterRegistry> meterRegistry, Class<?> useCase) {
+        String useCasePackage = useCase.getPackageName();
+        return advisor(new OperationMetricsInterceptor(meterRegistry, "ticketing.usecase",
+                "Duración de los casos de uso",
+                port -> port.getPackageName().equals(useCasePackage) && port.getSimpleName().endsWith("UseCase")));
+    }
+
+    /**
+     * Mide un puerto de repositorio (Timer ticketing.repository). Si varias
+     * capas lo implementan, cada una se mide por separado con la etiqueta
+     * implementation.
+     */
+    public static Advisor repository(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryPort) {
+        return advisor(new OperationMetricsInterceptor(meterRegistry, "ticketing.repository",
+                "Duración de las operaciones del repositorio",
+                port -> port == repositoryPort));
+    }
+
+    private static Advisor advisor(OperationMetricsInterceptor interceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(interceptor.pointcut(), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
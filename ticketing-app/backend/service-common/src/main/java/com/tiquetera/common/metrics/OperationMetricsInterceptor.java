@@ -0,0 +1,129 @@
+package com.tiquetera.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Decorador que mide cada llamada a los métodos de un puerto.
+ *
+ * Registra un Timer por operación con las etiquetas port (interfaz),
+ * operation (método), implementation (clase que lo implementa), outcome
+ * (success o error) y exception. Cada Timer publica p50, p95 y p99 y el
+ * histograma para Prometheus; su contador da el throughput y los de
+ * outcome=error, los errores.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+public class OperationMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String metricName;
+    private final String description;
+    private final Predicate<Class<?>> ports;
+    private final Map<Method, Operation> operations = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry registro de métricas; se resuelve en la primera
+     *                      llamada para no crearlo antes que sus
+     *                      personalizaciones
+     * @param metricName    nombre del Timer
+     * @param description   descripción del Timer
+     * @param ports         interfaces cuyos métodos se miden
+     */
+    public OperationMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String metricName,
+            String description, Predicate<Class<?>> ports) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.description = description;
+        this.ports = ports;
+    }
+
+    /**
+     * Pointcut que selecciona los métodos declarados en alguno de los puertos.
+     */
+    public Pointcut pointcut() {
+        return new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return findPort(method, targetClass) != null;
+            }
+        };
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Operation operation = operations.computeIfAbsent(invocation.getMethod(),
+                method -> new Operation(findPort(method, invocation.getThis().getClass()), method.getName(),
+                        ClassUtils.getUserClass(invocation.getThis()).getSimpleName()));
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            operation.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timer(operation, "error", ex.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Class<?> findPort(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (ports.test(candidate) && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Timer timer(Operation operation, String outcome, String exception) {
+        return Timer.builder(metricName)
+                .description(description)
+                .tag("port", operation.port)
+                .tag("operation", operation.name)
+                .tag("implementation", operation.implementation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry.getObject());
+    }
+
+    // El Timer de éxito se guarda para no buscarlo en el registro en cada
+    // llamada; los de error se resuelven al producirse
+    private final class Operation {
+        private final String port;
+        private final String name;
+        private final String implementation;
+        private volatile Timer success;
+
+        private Operation(Class<?> port, String name, String implementation) {
+            this.port = port == null ? "unknown" : port.getSimpleName();
+            this.name = name;
+            this.implementation = implementation;
+        }
+
+        private Timer success() {
+            Timer timer = success;
+            if (timer == null) {
+                timer = timer(this, "success", "none");
+                success = timer;
+            }
+            return timer;
+        }
+    }
+}
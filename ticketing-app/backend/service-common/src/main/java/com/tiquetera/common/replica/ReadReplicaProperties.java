@@ -0,0 +1,55 @@
+package com.tiquetera.common.replica;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de solo lectura de la base de datos.
+ *
+ * No lleva prefijo propio: cada servicio la publica ligada al suyo
+ * (events.datasource, venues.datasource).
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Data
+public class ReadReplicaProperties {
+
+    /**
+     * Réplicas a las que se envían las transacciones de solo lectura.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Tiempo durante el que un cliente sigue leyendo del primario después
+     * de una escritura, para ver sus propios cambios aunque la réplica vaya
+     * con retraso.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Espera máxima por una conexión de réplica. Es corta porque, si la
+     * réplica no responde, la lectura puede hacerse en el primario.
+     */
+    private Duration connectionTimeout = Duration.ofMillis(500);
+
+    /**
+     * Tiempo durante el que se salta una réplica después de que falle.
+     */
+    private Duration failureCooldown = Duration.ofSeconds(10);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        /**
+         * Aplica las migraciones de Flyway al arrancar. Solo para bases
+         * locales que no se replican desde el primario.
+         */
+        private boolean migrate;
+    }
+}
@@ -0,0 +1,84 @@
+package com.tiquetera.common.replica;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Envía al primario las lecturas que deben ver escrituras recientes.
+ *
+ * Una petición lee del primario si escribe (cualquier método distinto de
+ * GET, HEAD u OPTIONS), si trae la cabecera X-Read-Consistency: primary o
+ * si llega dentro de la ventana read-your-writes de una escritura anterior
+ * del mismo cliente, que se recuerda con una cookie. Lo registra
+ * {@link ReplicaRoutingConfig}.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadYourWritesFilter implements Filter {
+
+    static final String CONSISTENCY_HEADER = "X-Read-Consistency";
+    static final String PRIMARY_UNTIL_COOKIE = "read-primary-until";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(ReadReplicaProperties properties) {
+        this.windowMillis = properties.getReadYourWritesWindow().toMillis();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        boolean write = !SAFE_METHODS.contains(httpRequest.getMethod());
+        if (write) {
+            rememberWrite(httpResponse);
+        }
+
+        if (write || "primary".equalsIgnoreCase(httpRequest.getHeader(CONSISTENCY_HEADER))
+                || withinWriteWindow(httpRequest)) {
+            ReplicaLoadBalancingDataSource.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaLoadBalancingDataSource.unpin();
+        }
+    }
+
+    private void rememberWrite(HttpServletResponse response) {
+        Cookie cookie = new Cookie(PRIMARY_UNTIL_COOKIE, Long.toString(System.currentTimeMillis() + windowMillis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1000));
+        response.addCookie(cookie);
+    }
+
+    private static boolean withinWriteWindow(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
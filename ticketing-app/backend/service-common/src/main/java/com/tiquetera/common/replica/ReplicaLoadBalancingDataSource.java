@@ -0,0 +1,138 @@
+package com.tiquetera.common.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * DataSource de lectura que reparte las conexiones entre las réplicas en
+ * round-robin.
+ *
+ * Si una réplica no entrega conexión se prueba la siguiente y, si ninguna
+ * responde, se lee del primario. Una réplica que falla se salta durante
+ * {@code failureCooldown}, así que mientras está caída las lecturas no
+ * esperan su connectionTimeout en cada petición. Un hilo marcado con
+ * {@link #pinToPrimary()} lee siempre del primario.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Slf4j
+public class ReplicaLoadBalancingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final long failureCooldownNanos;
+    private final AtomicInteger next = new AtomicInteger();
+    // System.nanoTime() hasta el que se salta cada réplica; 0 si está sana
+    private final AtomicLongArray unavailableUntil;
+
+    public ReplicaLoadBalancingDataSource(DataSource primary, List<HikariDataSource> replicas,
+            Duration failureCooldown) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.failureCooldownNanos = failureCooldown.toNanos();
+        this.unavailableUntil = new AtomicLongArray(replicas.size());
+    }
+
+    /**
+     * Hace que las lecturas del hilo actual vayan al primario hasta
+     * {@link #unpin()}.
+     */
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    /**
+     * Ejecuta la acción con las lecturas del hilo en el primario y deja el
+     * hilo como estaba. Para las cargas que llenan cachés e índices, cuyo
+     * resultado dura más que el retraso de una réplica. Solo afecta a las
+     * conexiones que se piden dentro de la acción.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (isPinnedToPrimary()) {
+            return action.get();
+        }
+        pinToPrimary();
+        try {
+            return action.get();
+        } finally {
+            unpin();
+        }
+    }
+
+    public static void runOnPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        if (isPinnedToPrimary()) {
+            return source.connect(primary);
+        }
+        int first = Math.floorMod(next.getAndIncrement(), replicas.size());
+        boolean failed = false;
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (first + i) % replicas.size();
+            long until = unavailableUntil.get(index);
+            if (until != 0 && System.nanoTime() - until < 0) {
+                continue;
+            }
+            HikariDataSource replica = replicas.get(index);
+            try {
+                Connection connection = source.connect(replica);
+                unavailableUntil.compareAndSet(index, until, 0);
+                return connection;
+            } catch (SQLException ex) {
+                unavailableUntil.set(index, System.nanoTime() + failureCooldownNanos);
+                failed = true;
+                log.warn("Réplica {} no disponible: {}", replica.getPoolName(), ex.getMessage());
+            }
+        }
+        if (failed) {
+            log.warn("Ninguna réplica disponible, leyendo del primario");
+        }
+        return source.connect(primary);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
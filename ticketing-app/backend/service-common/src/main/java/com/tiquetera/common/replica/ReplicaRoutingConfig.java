@@ -0,0 +1,102 @@
+package com.tiquetera.common.replica;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enruta las transacciones de solo lectura a las réplicas.
+ *
+ * El DataSource de la aplicación es un {@link LazyConnectionDataSourceProxy}
+ * que no pide la conexión física hasta la primera sentencia; para entonces
+ * Hibernate ya la marcó como de solo lectura si la transacción es
+ * readOnly, y el proxy la pide a las réplicas en lugar de al primario.
+ * Flyway y las escrituras usan siempre el primario. También registra el
+ * {@link ReadYourWritesFilter}.
+ *
+ * No se escanea: la importa la configuración de réplicas de cada servicio,
+ * que decide con su propiedad si se activa y publica el bean
+ * {@link ReadReplicaProperties} ligado a su prefijo.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+@Slf4j
+@Configuration
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLoadBalancingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties, ReadReplicaProperties properties,
+            ObjectProvider<FlywayProperties> flywayProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            // Mismo tamaño de pool que el primario, con un connectionTimeout
+            // corto: si la réplica no responde se lee del primario
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(replica.getUrl());
+            config.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername());
+            config.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword());
+            config.setReadOnly(true);
+            // Las réplicas no son beans: sus métricas hikaricp.* se registran aquí
+            if (registry != null) {
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            HikariDataSource dataSource = new HikariDataSource(config);
+            if (replica.isMigrate()) {
+                migrate(dataSource, flywayProperties.getIfAvailable(FlywayProperties::new));
+            }
+            replicas.add(dataSource);
+        }
+        log.info("Lecturas enrutadas a {} réplicas", replicas.size());
+        return new ReplicaLoadBalancingDataSource(primaryDataSource, replicas, properties.getFailureCooldown());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLoadBalancingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+        return new ReadYourWritesFilter(properties);
+    }
+
+    private static void migrate(DataSource replica, FlywayProperties flyway) {
+        Flyway.configure()
+                .dataSource(replica)
+                .locations(flyway.getLocations().toArray(String[]::new))
+                .baselineOnMigrate(flyway.isBaselineOnMigrate())
+                .load()
+                .migrate();
+    }
+}
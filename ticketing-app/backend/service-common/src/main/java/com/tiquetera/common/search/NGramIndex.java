@@ -0,0 +1,313 @@
+package com.tiquetera.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas en memoria.
+ *
+ * Cada documento tiene un campo principal (peso 2) y uno secundario
+ * (peso 1). El texto se normaliza (minúsculas, sin tildes, espacios
+ * colapsados) y se parte en trigramas con los bordes de palabra marcados,
+ * así una consulta solo revisa los documentos que comparten todos sus
+ * trigramas en lugar de recorrer la colección completa.
+ *
+ * La lista de cada trigrama es un long[] ordenado e inmutable: una escritura
+ * la reemplaza por una copia y una búsqueda la intersecta con las demás
+ * avanzando un cursor por lista, sin copiarlas. Para cargar la colección
+ * completa está {@link Builder}, que ordena cada lista una sola vez.
+ *
+ * Los candidatos se verifican contra el texto normalizado, por lo que el
+ * resultado equivale a un LIKE '%q%' sin distinguir mayúsculas ni tildes.
+ * Las consultas de menos de tres caracteres solo encuentran inicios de
+ * palabra.
+ *
+ * Es seguro para lecturas y escrituras concurrentes; una búsqueda que
+ * coincide con una actualización ve el documento antes o después del cambio.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Service Common
+ */
+public class NGramIndex {
+
+    private static final int GRAM = 3;
+    private static final int PRIMARY_WEIGHT = 2;
+    private static final int SECONDARY_WEIGHT = 1;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final long[] EMPTY = new long[0];
+
+    // El peor resultado primero, para descartarlo cuando llega uno mejor. A
+    // igual puntaje, el nombre más corto es la coincidencia más específica
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingInt(Hit::score)
+            .thenComparing(Comparator.comparingInt(Hit::length).reversed())
+            .thenComparing(Comparator.comparingLong(Hit::key).reversed());
+
+    private final Map<String, long[]> postings;
+    private final Map<Long, Document> documents;
+
+    public NGramIndex() {
+        this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private NGramIndex(Map<String, long[]> postings, Map<Long, Document> documents) {
+        this.postings = postings;
+        this.documents = documents;
+    }
+
+    /**
+     * Agrega o reemplaza un documento.
+     */
+    public void put(long key, String primary, String secondary) {
+        Document document = new Document(normalize(primary), normalize(secondary));
+        Document previous = documents.put(key, document);
+        Set<String> grams = document.grams();
+        if (previous != null) {
+            previous.grams().stream()
+                    .filter(gram -> !grams.contains(gram))
+                    .forEach(gram -> unpost(gram, key));
+        }
+        grams.forEach(gram -> post(gram, key));
+    }
+
+    /**
+     * Elimina un documento si existe.
+     */
+    public void remove(long key) {
+        Document previous = documents.remove(key);
+        if (previous != null) {
+            previous.grams().forEach(gram -> unpost(gram, key));
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Busca los documentos que contienen el texto, ordenados por relevancia:
+     * primero coincidencias en el campo principal, y dentro de ellas las que
+     * empiezan por el texto buscado.
+     *
+     * @param query texto a buscar
+     * @param limit número máximo de resultados
+     * @return claves de los documentos encontrados
+     */
+    public List<Long> search(String query, int limit) {
+        String needle = normalize(query);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<long[]> lists = new ArrayList<>();
+        for (String gram : queryGrams(needle)) {
+            long[] keys = postings.get(gram);
+            if (keys == null) {
+                return List.of();
+            }
+            lists.add(keys);
+        }
+        // Se recorre la lista más corta y se busca cada clave en las demás
+        lists.sort(Comparator.comparingInt(keys -> keys.length));
+        long[] shortest = lists.get(0);
+        int[] cursors = new int[lists.size()];
+
+        boolean prefixOnly = needle.length() < GRAM;
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, shortest.length) + 1, WORST_FIRST);
+        for (long key : shortest) {
+            if (!inAll(key, lists, cursors)) {
+                continue;
+            }
+            Document document = documents.get(key);
+            if (document == null) {
+                continue;
+            }
+            int score = document.score(needle, prefixOnly);
+            if (score > 0) {
+                top.add(new Hit(key, score, document.primary.length()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        Long[] result = new Long[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = top.poll().key();
+        }
+        return List.of(result);
+    }
+
+    // Las claves llegan en orden, así que cada cursor solo avanza
+    private static boolean inAll(long key, List<long[]> lists, int[] cursors) {
+        for (int i = 1; i < lists.size(); i++) {
+            long[] keys = lists.get(i);
+            int position = Arrays.binarySearch(keys, cursors[i], keys.length, key);
+            if (position < 0) {
+                cursors[i] = -position - 1;
+                return false;
+            }
+            cursors[i] = position + 1;
+        }
+        return true;
+    }
+
+    // Altas y bajas dentro de compute para que dos escrituras sobre el mismo
+    // trigrama no se pisen la copia
+    private void post(String gram, long key) {
+        postings.compute(gram, (g, keys) -> {
+            long[] current = keys != null ? keys : EMPTY;
+            int position = Arrays.binarySearch(current, key);
+            if (position >= 0) {
+                return current;
+            }
+            int insertAt = -position - 1;
+            long[] result = new long[current.length + 1];
+            System.arraycopy(current, 0, result, 0, insertAt);
+            result[insertAt] = key;
+            System.arraycopy(current, insertAt, result, insertAt + 1, current.length - insertAt);
+            return result;
+        });
+    }
+
+    private void unpost(String gram, long key) {
+        postings.computeIfPresent(gram, (g, keys) -> {
+            int position = Arrays.binarySearch(keys, key);
+            if (position < 0) {
+                return keys;
+            }
+            if (keys.length == 1) {
+                return null;
+            }
+            long[] result = new long[keys.length - 1];
+            System.arraycopy(keys, 0, result, 0, position);
+            System.arraycopy(keys, position + 1, result, position, keys.length - position - 1);
+            return result;
+        });
+    }
+
+    private static Set<String> queryGrams(String needle) {
+        // Una consulta corta solo puede ser inicio de palabra: " ab"
+        if (needle.length() < GRAM) {
+            return Set.of(" " + needle);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            grams.add(needle.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static void addDocumentGrams(String text, Set<String> grams) {
+        if (text.isEmpty()) {
+            return;
+        }
+        String padded = " " + text + " ";
+        for (int i = 0; i + GRAM <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM));
+        }
+        // Prefijos de una letra: " a" para consultas de un carácter
+        for (String word : text.split(" ")) {
+            if (!word.isEmpty()) {
+                grams.add(" " + word.charAt(0));
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String plain = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return NON_WORD.matcher(plain).replaceAll(" ").trim();
+    }
+
+    /**
+     * Construye un índice con la colección completa. Acumula las claves de
+     * cada trigrama sin ordenarlas y las ordena una vez en {@link #build()},
+     * en lugar de pagar una copia por cada alta. No es seguro para hilos.
+     */
+    public static final class Builder {
+
+        private final Map<String, KeyBuffer> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+
+        /**
+         * Agrega un documento. Cada clave debe agregarse una sola vez.
+         */
+        public Builder add(long key, String primary, String secondary) {
+            Document document = new Document(normalize(primary), normalize(secondary));
+            documents.put(key, document);
+            for (String gram : document.grams()) {
+                postings.computeIfAbsent(gram, g -> new KeyBuffer()).add(key);
+            }
+            return this;
+        }
+
+        public NGramIndex build() {
+            Map<String, long[]> frozen = new ConcurrentHashMap<>(Math.max(16, postings.size() * 4 / 3));
+            postings.forEach((gram, keys) -> frozen.put(gram, keys.sorted()));
+            return new NGramIndex(frozen, new ConcurrentHashMap<>(documents));
+        }
+    }
+
+    private static final class KeyBuffer {
+
+        private long[] keys = new long[4];
+        private int size;
+
+        private void add(long key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size++] = key;
+        }
+
+        private long[] sorted() {
+            long[] result = Arrays.copyOf(keys, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    private record Hit(long key, int score, int length) {
+    }
+
+    // Solo guarda el texto normalizado; los trigramas se recalculan al
+    // reemplazar o borrar el documento, que es menos frecuente que buscar
+    private record Document(String primary, String secondary) {
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            addDocumentGrams(primary, grams);
+            addDocumentGrams(secondary, grams);
+            return grams;
+        }
+
+        private int score(String needle, boolean prefixOnly) {
+            int score = fieldScore(primary, needle, prefixOnly) * PRIMARY_WEIGHT
+                    + fieldScore(secondary, needle, prefixOnly) * SECONDARY_WEIGHT;
+            // Desempate: el campo principal que empieza por la consulta va primero
+            return score > 0 && primary.startsWith(needle) ? score + 1 : score;
+        }
+
+        private static int fieldScore(String field, String needle, boolean prefixOnly) {
+            if (prefixOnly) {
+                return field.startsWith(needle) || field.contains(" " + needle) ? 2 : 0;
+            }
+            return field.contains(needle) ? 2 : 0;
+        }
+    }
+}
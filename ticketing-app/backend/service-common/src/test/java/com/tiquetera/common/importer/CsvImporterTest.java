@@ -0,0 +1,78 @@
+package com.tiquetera.common.importer;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Admisión de trabajos del importador CSV.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - CSV Import
+ */
+class CsvImporterTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private ValidatorFactory validatorFactory;
+    private CsvImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        // Un trabajo en curso y uno en espera
+        importer = new CsvImporter(validatorFactory.getValidator(), 10, 1, 1, 1, 100, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        importer.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    void rejectsJobsWhenTheQueueIsFull() throws Exception {
+        ImportJob running = submit();
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        ImportJob queued = submit();
+
+        assertThatThrownBy(this::submit)
+                .isInstanceOf(ImportQueueFullException.class)
+                .extracting("retryAfterSeconds").isEqualTo(30L);
+
+        assertThat(importer.getJob(running.getId())).isPresent();
+        assertThat(importer.getJob(queued.getId())).isPresent();
+    }
+
+    private ImportJob submit() throws IOException {
+        InputStream csv = new ByteArrayInputStream("name\nEvento\n".getBytes(StandardCharsets.UTF_8));
+        Consumer<List<String>> blockingWriter = rows -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        return importer.submit("eventos.csv", csv, Row.class, Row::name, blockingWriter);
+    }
+
+    record Row(String name) {
+    }
+}
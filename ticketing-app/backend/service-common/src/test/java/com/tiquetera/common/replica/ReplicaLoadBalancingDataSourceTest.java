@@ -0,0 +1,98 @@
+package com.tiquetera.common.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Enrutamiento de lecturas entre réplicas y primario.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Read Replicas
+ */
+class ReplicaLoadBalancingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private DataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLoadBalancingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(HikariDataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primary.getConnection("lector", "secreto")).thenReturn(primaryConnection);
+        dataSource = new ReplicaLoadBalancingDataSource(primary, List.of(replica), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaLoadBalancingDataSource.unpin();
+    }
+
+    @Test
+    void readsFromTheReplica() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void skipsAFailedReplicaDuringTheCooldown() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    void onPrimaryRestoresAnOuterPin() throws SQLException {
+        ReplicaLoadBalancingDataSource.pinToPrimary();
+
+        Connection connection = ReplicaLoadBalancingDataSource.onPrimary(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(ReplicaLoadBalancingDataSource.isPinnedToPrimary()).isTrue();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void routesExplicitCredentials() throws SQLException {
+        when(replica.getConnection("lector", "secreto")).thenReturn(replicaConnection);
+
+        assertThat(dataSource.getConnection("lector", "secreto")).isSameAs(replicaConnection);
+
+        ReplicaLoadBalancingDataSource.runOnPrimary(() -> {
+            try {
+                assertThat(dataSource.getConnection("lector", "secreto")).isSameAs(primaryConnection);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(ReplicaLoadBalancingDataSource.isPinnedToPrimary()).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package com.tiquetera.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Búsqueda, orden y mantenimiento del índice de trigramas.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Text Search
+ */
+class NGramIndexTest {
+
+    @Test
+    void findsSubstringsIgnoringCaseAndAccents() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "Concierto Sinfónico", "Teatro Colón");
+        index.put(2, "Festival de Jazz", "Parque Simón Bolívar");
+
+        assertThat(index.search("SINFONI", 10)).containsExactly(1L);
+        assertThat(index.search("bolivar", 10)).containsExactly(2L);
+        assertThat(index.search("opera", 10)).isEmpty();
+    }
+
+    @Test
+    void ordersByFieldThenPrefixThenLength() {
+        NGramIndex index = new NGramIndex.Builder()
+                .add(1, "Gran Rock Fest", "")
+                .add(2, "Otro evento", "Noche de rock")
+                .add(3, "Rock al Parque", "")
+                .add(4, "Rock", "")
+                .build();
+
+        assertThat(index.search("rock", 10)).containsExactly(4L, 3L, 1L, 2L);
+        assertThat(index.search("rock", 2)).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void shortQueriesOnlyMatchWordStarts() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "Salsa al Parque", "");
+        index.put(2, "Casa abierta", "");
+
+        assertThat(index.search("pa", 10)).containsExactly(1L);
+        assertThat(index.search("a", 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsDocuments() {
+        NGramIndex index = new NGramIndex.Builder()
+                .add(1, "Concierto de Rock", "")
+                .add(2, "Rock en el parque", "")
+                .build();
+
+        index.put(1, "Obra de teatro", "");
+        assertThat(index.search("rock", 10)).containsExactly(2L);
+        assertThat(index.search("teatro", 10)).containsExactly(1L);
+
+        index.remove(2);
+        assertThat(index.search("rock", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void builderMatchesIncrementalIndex() {
+        NGramIndex incremental = new NGramIndex();
+        NGramIndex.Builder builder = new NGramIndex.Builder();
+        for (int i = 500; i > 0; i--) {
+            String name = "Evento " + i + (i % 3 == 0 ? " rock" : " jazz");
+            incremental.put(i, name, "Ciudad " + (i % 7));
+            builder.add(i, name, "Ciudad " + (i % 7));
+        }
+        NGramIndex built = builder.build();
+
+        for (String query : new String[] { "rock", "jazz", "ciudad 3", "evento 12", "e" }) {
+            assertThat(built.search(query, 25)).isEqualTo(incremental.search(query, 25));
+        }
+    }
+}
@@ -4,6 +4,9 @@
 pkill -f venues-service
 pkill -f events-service
 
+# Claves de los JWT: el par de desarrollo de .dev-keys/
+source "$(dirname "$0")/dev-keys.sh"
+
 echo "Iniciando Venues Service..."
 nohup java -jar venues-service/target/venues-service-1.0.0.jar > venues.log 2>&1 &
 echo "Venues Service iniciado (PID $!)"
@@ -2,8 +2,10 @@ package com.tiquetera.venues;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 
-@SpringBootApplication
+// Sin usuarios propios: solo autentica JWT de events-service
+@SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
 public class VenuesServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(VenuesServiceApplication.class, args);
@@ -0,0 +1,56 @@
+package com.tiquetera.venues.application.usecase;
+
+import com.tiquetera.venues.domain.exception.InvalidBulkRequestException;
+import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueStatus;
+import com.tiquetera.venues.domain.ports.in.BulkVenuesUseCase;
+import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
+import com.tiquetera.venues.domain.ports.out.VenueSearchIndexPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementación del caso de uso para crear venues en lote.
+ * 
+ * Aplica las mismas reglas que CreateVenueService sobre todo el lote en una
+ * sola transacción.
+ * 
+ * @author Ticketing Team
+ * @version 3.5 - CSV Import
+ */
+@RequiredArgsConstructor
+@Transactional
+public class BulkVenuesService implements BulkVenuesUseCase {
+
+    private final VenueRepositoryPort venueRepository;
+    private final VenueSearchIndexPort searchIndex;
+
+    @Override
+    public List<Venue> createAll(List<Venue> venues) {
+        if (venues == null || venues.isEmpty()) {
+            throw new InvalidBulkRequestException("El lote no puede estar vacío");
+        }
+        if (venues.size() > MAX_BATCH_SIZE) {
+            throw new InvalidBulkRequestException("El lote supera el máximo de " + MAX_BATCH_SIZE + " venues");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Venue venue : venues) {
+            if (venue.getId() != null) {
+                throw new InvalidBulkRequestException("Los venues a crear no deben tener ID");
+            }
+            if (venue.getStatus() == null) {
+                venue.setStatus(VenueStatus.ACTIVE);
+            }
+            venue.setCreatedAt(now);
+            venue.setUpdatedAt(now);
+        }
+
+        List<Venue> saved = venueRepository.saveAll(venues);
+        saved.forEach(searchIndex::index);
+        return saved;
+    }
+}
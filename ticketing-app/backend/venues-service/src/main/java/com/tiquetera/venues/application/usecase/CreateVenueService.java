@@ -1,8 +1,10 @@
 package com.tiquetera.venues.application.usecase;
 
 import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueStatus;
 import com.tiquetera.venues.domain.ports.in.CreateVenueUseCase;
 import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
+import com.tiquetera.venues.domain.ports.out.VenueSearchIndexPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,12 +23,13 @@ import java.time.LocalDateTime;
 public class CreateVenueService implements CreateVenueUseCase {
 
     private final VenueRepositoryPort venueRepository;
+    private final VenueSearchIndexPort searchIndex;
 
     @Override
     public Venue execute(Venue venue) {
         // Asignar estado por defecto si no viene
-        if (venue.getStatus() == null || venue.getStatus().isBlank()) {
-            venue.setStatus("ACTIVE");
+        if (venue.getStatus() == null) {
+            venue.setStatus(VenueStatus.ACTIVE);
         }
 
         // Establecer timestamps
@@ -34,6 +37,8 @@ public class CreateVenueService implements CreateVenueUseCase {
         venue.setCreatedAt(now);
         venue.setUpdatedAt(now);
 
-        return venueRepository.save(venue);
+        Venue saved = venueRepository.save(venue);
+        searchIndex.index(saved);
+        return saved;
     }
 }
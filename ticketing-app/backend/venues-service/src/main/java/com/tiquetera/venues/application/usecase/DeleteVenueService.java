@@ -3,6 +3,7 @@ package com.tiquetera.venues.application.usecase;
 import com.tiquetera.venues.domain.exception.ResourceNotFoundException;
 import com.tiquetera.venues.domain.ports.in.DeleteVenueUseCase;
 import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
+import com.tiquetera.venues.domain.ports.out.VenueSearchIndexPort;
 
 /**
  * Implementación del caso de uso para eliminar venues.
@@ -13,9 +14,11 @@ import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
 public class DeleteVenueService implements DeleteVenueUseCase {
 
     private final VenueRepositoryPort venueRepository;
+    private final VenueSearchIndexPort searchIndex;
 
-    public DeleteVenueService(VenueRepositoryPort venueRepository) {
+    public DeleteVenueService(VenueRepositoryPort venueRepository, VenueSearchIndexPort searchIndex) {
         this.venueRepository = venueRepository;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -24,5 +27,6 @@ public class DeleteVenueService implements DeleteVenueUseCase {
             throw new ResourceNotFoundException("Venue no encontrado con ID: " + id);
         }
         venueRepository.deleteById(id);
+        searchIndex.remove(id);
     }
 }
@@ -27,4 +27,11 @@ public class GetVenueService implements GetVenueUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Venue no encontrado con ID: " + id));
     }
+
+    @Override
+    public Long getVersion(Long id) {
+        return venueRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Venue no encontrado con ID: " + id));
+    }
 }
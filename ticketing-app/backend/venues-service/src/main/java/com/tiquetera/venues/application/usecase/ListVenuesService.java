@@ -1,6 +1,9 @@
 package com.tiquetera.venues.application.usecase;
 
+import com.tiquetera.venues.domain.model.ChangeStamp;
 import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueStatus;
+import com.tiquetera.venues.domain.model.VenueSummary;
 import com.tiquetera.venues.domain.ports.in.ListVenuesUseCase;
 import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementación del caso de uso para listar venues.
@@ -23,22 +28,49 @@ public class ListVenuesService implements ListVenuesUseCase {
     private final VenueRepositoryPort venueRepository;
 
     @Override
-    public List<Venue> getAllVenues() {
-        return venueRepository.findAll();
+    public List<VenueSummary> getAllVenues() {
+        return venueRepository.findAllSummaries();
     }
 
     @Override
-    public List<Venue> getVenuesByCity(String city) {
-        return venueRepository.findByCity(city);
+    public ChangeStamp getVenuesChangeStamp() {
+        return venueRepository.getChangeStamp();
     }
 
     @Override
-    public List<Venue> getVenuesByCountry(String country) {
-        return venueRepository.findByCountry(country);
+    public void forEachVenue(Consumer<Venue> action) {
+        try (Stream<Venue> venues = venueRepository.streamAll()) {
+            venues.forEach(action);
+        }
     }
 
     @Override
-    public List<Venue> getVenuesByStatus(String status) {
-        return venueRepository.findByStatus(status);
+    public List<VenueSummary> getVenuesByCity(String city) {
+        return venueRepository.findSummariesByCity(city);
+    }
+
+    @Override
+    public ChangeStamp getVenuesChangeStampByCity(String city) {
+        return venueRepository.getChangeStampByCity(city);
+    }
+
+    @Override
+    public List<VenueSummary> getVenuesByCountry(String country) {
+        return venueRepository.findSummariesByCountry(country);
+    }
+
+    @Override
+    public ChangeStamp getVenuesChangeStampByCountry(String country) {
+        return venueRepository.getChangeStampByCountry(country);
+    }
+
+    @Override
+    public List<VenueSummary> getVenuesByStatus(String status) {
+        return venueRepository.findSummariesByStatus(VenueStatus.from(status));
+    }
+
+    @Override
+    public ChangeStamp getVenuesChangeStampByStatus(String status) {
+        return venueRepository.getChangeStampByStatus(VenueStatus.from(status));
     }
 }
@@ -0,0 +1,59 @@
+package com.tiquetera.venues.application.usecase;
+
+import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.ports.in.SearchVenuesUseCase;
+import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
+import com.tiquetera.venues.domain.ports.out.VenueSearchIndexPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del caso de uso para buscar venues por texto.
+ * 
+ * @author Ticketing Team
+ * @version 3.4 - Text Search
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchVenuesService implements SearchVenuesUseCase {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private final VenueRepositoryPort venueRepository;
+    private final VenueSearchIndexPort searchIndex;
+
+    @Override
+    public List<Venue> searchByText(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        List<Long> ids = searchIndex.search(query, boundedLimit(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Se cargan por clave primaria y se devuelven en el orden del índice
+        Map<Long, Venue> byId = venueRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Venue::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private int boundedLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -4,6 +4,7 @@ import com.tiquetera.venues.domain.exception.ResourceNotFoundException;
 import com.tiquetera.venues.domain.model.Venue;
 import com.tiquetera.venues.domain.ports.in.UpdateVenueUseCase;
 import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
+import com.tiquetera.venues.domain.ports.out.VenueSearchIndexPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
 public class UpdateVenueService implements UpdateVenueUseCase {
 
     private final VenueRepositoryPort venueRepository;
+    private final VenueSearchIndexPort searchIndex;
 
     @Override
     public Venue execute(Long id, Venue venue) {
@@ -30,11 +32,17 @@ public class UpdateVenueService implements UpdateVenueUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Venue no encontrado con ID: " + id));
 
-        // Mantener el ID y fecha de creación originales
+        // Mantener el ID, fecha de creación, versión y, si no llega, el estado originales
         venue.setId(id);
         venue.setCreatedAt(existingVenue.getCreatedAt());
+        venue.setVersion(existingVenue.getVersion());
+        if (venue.getStatus() == null) {
+            venue.setStatus(existingVenue.getStatus());
+        }
         venue.setUpdatedAt(LocalDateTime.now());
 
-        return venueRepository.save(venue);
+        Venue saved = venueRepository.save(venue);
+        searchIndex.index(saved);
+        return saved;
     }
 }
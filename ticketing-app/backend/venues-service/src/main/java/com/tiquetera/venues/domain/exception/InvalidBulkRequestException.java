@@ -0,0 +1,15 @@
+package com.tiquetera.venues.domain.exception;
+
+/**
+ * Excepción de dominio para operaciones masivas inválidas
+ * (lote vacío o demasiado grande, venues con ID).
+ * 
+ * @author Ticketing Team
+ * @version 3.5 - CSV Import
+ */
+public class InvalidBulkRequestException extends RuntimeException {
+
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.tiquetera.venues.domain.exception;
+
+/**
+ * Excepción de dominio para estados que no corresponden a ningún valor conocido.
+ * 
+ * @author Ticketing Team
+ * @version 3.3 - Status Enum
+ */
+public class InvalidStatusException extends RuntimeException {
+
+    public InvalidStatusException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.tiquetera.venues.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resumen barato del estado de una colección: número de filas y fecha de la
+ * última modificación. Si cualquiera de los dos cambia, la colección cambió.
+ * 
+ * @author Ticketing Team
+ * @version 3.1 - Conditional GET
+ */
+public class ChangeStamp {
+
+    private final long count;
+    private final LocalDateTime lastUpdated;
+
+    public ChangeStamp(Long count, LocalDateTime lastUpdated) {
+        this.count = count;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+}
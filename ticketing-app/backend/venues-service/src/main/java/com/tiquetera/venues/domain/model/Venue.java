@@ -24,9 +24,10 @@ public class Venue {
     private String description;
     private String phone;
     private String email;
-    private String status;
+    private VenueStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     // Constructor vacío
     public Venue() {
@@ -35,7 +36,7 @@ public class Venue {
     // Constructor completo
     public Venue(Long id, String name, String address, String city, String country,
             Integer capacity, String description, String phone, String email,
-            String status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            VenueStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.address = address;
@@ -56,14 +57,14 @@ public class Venue {
      * Verifica si el venue está activo.
      */
     public boolean isActive() {
-        return "ACTIVE".equalsIgnoreCase(this.status);
+        return this.status == VenueStatus.ACTIVE;
     }
 
     /**
      * Verifica si el venue está en mantenimiento.
      */
     public boolean isUnderMaintenance() {
-        return "MAINTENANCE".equalsIgnoreCase(this.status);
+        return this.status == VenueStatus.MAINTENANCE;
     }
 
     /**
@@ -80,7 +81,7 @@ public class Venue {
         if (!isActive()) {
             throw new IllegalStateException("Solo venues activos pueden entrar en mantenimiento");
         }
-        this.status = "MAINTENANCE";
+        this.status = VenueStatus.MAINTENANCE;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -88,7 +89,7 @@ public class Venue {
      * Activa el venue.
      */
     public void activate() {
-        this.status = "ACTIVE";
+        this.status = VenueStatus.ACTIVE;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -96,7 +97,7 @@ public class Venue {
      * Desactiva el venue.
      */
     public void deactivate() {
-        this.status = "INACTIVE";
+        this.status = VenueStatus.INACTIVE;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -174,11 +175,11 @@ public class Venue {
         this.email = email;
     }
 
-    public String getStatus() {
+    public VenueStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(VenueStatus status) {
         this.status = status;
     }
 
@@ -198,6 +199,14 @@ public class Venue {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // equals y hashCode basados en el ID
 
     @Override
@@ -221,7 +230,7 @@ public class Venue {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", city='" + city + '\'' +
-                ", status='" + status + '\'' +
+                ", status=" + status +
                 '}';
     }
 }
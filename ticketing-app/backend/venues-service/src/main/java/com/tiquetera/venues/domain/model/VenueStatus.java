@@ -0,0 +1,39 @@
+package com.tiquetera.venues.domain.model;
+
+import com.tiquetera.venues.domain.exception.InvalidStatusException;
+
+import java.util.Locale;
+
+/**
+ * Estados posibles de un venue.
+ * 
+ * Se persiste por nombre en mayúsculas, que es la forma canónica de la
+ * columna venues.status; así los filtros por estado comparan por igualdad
+ * exacta y pueden usar el índice.
+ * 
+ * @author Ticketing Team
+ * @version 3.3 - Status Enum
+ */
+public enum VenueStatus {
+    ACTIVE,
+    INACTIVE,
+    MAINTENANCE;
+
+    /**
+     * Interpreta un estado recibido como texto, sin distinguir mayúsculas.
+     * 
+     * @param value nombre del estado
+     * @return estado correspondiente
+     * @throws InvalidStatusException si el valor no es un estado conocido
+     */
+    public static VenueStatus from(String value) {
+        if (value == null || value.isBlank()) {
+            throw new InvalidStatusException("El estado del venue es obligatorio");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidStatusException("Estado de venue no válido: " + value);
+        }
+    }
+}
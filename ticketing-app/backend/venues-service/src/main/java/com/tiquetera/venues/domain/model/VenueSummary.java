@@ -0,0 +1,28 @@
+package com.tiquetera.venues.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista de solo lectura de un venue para listados.
+ * 
+ * Se construye directamente desde la consulta (proyección por constructor),
+ * sin pasar por la entidad JPA ni por {@link Venue}, por lo que no ocupa el
+ * contexto de persistencia ni se revisa en el dirty checking.
+ * 
+ * @author Ticketing Team
+ * @version 3.2 - Read Projections
+ */
+public record VenueSummary(
+        Long id,
+        String name,
+        String address,
+        String city,
+        String country,
+        Integer capacity,
+        String description,
+        String phone,
+        String email,
+        VenueStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
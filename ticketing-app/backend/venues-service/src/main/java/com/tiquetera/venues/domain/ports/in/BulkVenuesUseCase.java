@@ -0,0 +1,30 @@
+package com.tiquetera.venues.domain.ports.in;
+
+import com.tiquetera.venues.domain.model.Venue;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para crear venues en lote.
+ * 
+ * El lote se guarda en una sola transacción: o se crean todos los venues o
+ * ninguno.
+ * 
+ * @author Ticketing Team
+ * @version 3.5 - CSV Import
+ */
+public interface BulkVenuesUseCase {
+
+    /**
+     * Número máximo de venues aceptados por lote.
+     */
+    int MAX_BATCH_SIZE = 10_000;
+
+    /**
+     * Crea todos los venues del lote.
+     * 
+     * @param venues venues a crear (sin ID)
+     * @return venues creados con ID asignado, en el mismo orden
+     */
+    List<Venue> createAll(List<Venue> venues);
+}
@@ -20,4 +20,15 @@ public interface GetVenueUseCase {
      *                                                                             existe
      */
     Venue execute(Long id);
+
+    /**
+     * Obtiene la versión actual de un venue sin cargarlo completo.
+     * 
+     * @param id El ID del venue
+     * @return La versión del venue
+     * @throws com.tiquetera.venues.domain.exception.ResourceNotFoundException si
+     *                                                                         no
+     *                                                                         existe
+     */
+    Long getVersion(Long id);
 }
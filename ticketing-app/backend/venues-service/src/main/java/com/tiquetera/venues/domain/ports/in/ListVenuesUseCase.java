@@ -1,7 +1,10 @@
 package com.tiquetera.venues.domain.ports.in;
 
+import com.tiquetera.venues.domain.model.ChangeStamp;
 import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueSummary;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Puerto de entrada para listar venues con varios filtros.
@@ -14,20 +17,51 @@ public interface ListVenuesUseCase {
     /**
      * Obtiene todos los venues.
      */
-    List<Venue> getAllVenues();
+    List<VenueSummary> getAllVenues();
+
+    /**
+     * Obtiene el número de venues y la fecha de la última modificación,
+     * para saber si el listado completo cambió sin cargarlo.
+     */
+    ChangeStamp getVenuesChangeStamp();
+
+    /**
+     * Recorre todos los venues uno a uno, sin cargarlos en memoria.
+     * 
+     * @param action acción a ejecutar por cada venue
+     */
+    void forEachVenue(Consumer<Venue> action);
 
     /**
      * Obtiene venues por ciudad.
      */
-    List<Venue> getVenuesByCity(String city);
+    List<VenueSummary> getVenuesByCity(String city);
+
+    /**
+     * Obtiene el número de venues de una ciudad y la fecha de su última
+     * modificación, para saber si su listado cambió sin cargarlo.
+     */
+    ChangeStamp getVenuesChangeStampByCity(String city);
 
     /**
      * Obtiene venues por país.
      */
-    List<Venue> getVenuesByCountry(String country);
+    List<VenueSummary> getVenuesByCountry(String country);
+
+    /**
+     * Obtiene el número de venues de un país y la fecha de su última
+     * modificación, para saber si su listado cambió sin cargarlo.
+     */
+    ChangeStamp getVenuesChangeStampByCountry(String country);
 
     /**
      * Obtiene venues por estado.
      */
-    List<Venue> getVenuesByStatus(String status);
+    List<VenueSummary> getVenuesByStatus(String status);
+
+    /**
+     * Obtiene el número de venues con un estado y la fecha de su última
+     * modificación, para saber si su listado cambió sin cargarlo.
+     */
+    ChangeStamp getVenuesChangeStampByStatus(String status);
 }
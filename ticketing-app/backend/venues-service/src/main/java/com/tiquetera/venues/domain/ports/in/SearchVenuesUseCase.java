@@ -0,0 +1,24 @@
+package com.tiquetera.venues.domain.ports.in;
+
+import com.tiquetera.venues.domain.model.Venue;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para buscar venues por texto.
+ * 
+ * @author Ticketing Team
+ * @version 3.4 - Text Search
+ */
+public interface SearchVenuesUseCase {
+
+    /**
+     * Busca venues por texto libre en nombre y ciudad, del más relevante
+     * al menos relevante.
+     * 
+     * @param query texto a buscar
+     * @param limit número máximo de resultados (null = tamaño por defecto)
+     * @return lista de venues encontrados
+     */
+    List<Venue> searchByText(String query, Integer limit);
+}
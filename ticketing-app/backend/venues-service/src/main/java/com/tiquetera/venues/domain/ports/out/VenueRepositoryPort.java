@@ -1,9 +1,13 @@
 package com.tiquetera.venues.domain.ports.out;
 
+import com.tiquetera.venues.domain.model.ChangeStamp;
 import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueStatus;
+import com.tiquetera.venues.domain.model.VenueSummary;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida (Output Port) para la persistencia de venues.
@@ -25,6 +29,15 @@ public interface VenueRepositoryPort {
      */
     Venue save(Venue venue);
 
+    /**
+     * Crea un lote de venues en la transacción actual, agrupando las
+     * inserciones en batches JDBC.
+     * 
+     * @param venues Los venues a crear (sin ID)
+     * @return Los venues creados, en el mismo orden, con ID generado
+     */
+    List<Venue> saveAll(List<Venue> venues);
+
     /**
      * Busca un venue por su ID.
      * 
@@ -33,6 +46,48 @@ public interface VenueRepositoryPort {
      */
     Optional<Venue> findById(Long id);
 
+    /**
+     * Obtiene solo la versión de un venue, sin cargar la fila completa.
+     * 
+     * @param id El ID del venue
+     * @return Optional con la versión si el venue existe
+     */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Obtiene el número de venues y la fecha de la última modificación.
+     * 
+     * @return resumen del estado de la tabla de venues
+     */
+    ChangeStamp getChangeStamp();
+
+    /**
+     * Obtiene el número de venues de una ciudad y la fecha de su última
+     * modificación.
+     * 
+     * @param city La ciudad a buscar
+     * @return resumen del estado de los venues de esa ciudad
+     */
+    ChangeStamp getChangeStampByCity(String city);
+
+    /**
+     * Obtiene el número de venues de un país y la fecha de su última
+     * modificación.
+     * 
+     * @param country El país a buscar
+     * @return resumen del estado de los venues de ese país
+     */
+    ChangeStamp getChangeStampByCountry(String country);
+
+    /**
+     * Obtiene el número de venues con un estado y la fecha de su última
+     * modificación.
+     * 
+     * @param status El estado a buscar
+     * @return resumen del estado de los venues con ese estado
+     */
+    ChangeStamp getChangeStampByStatus(VenueStatus status);
+
     /**
      * Obtiene todos los venues.
      * 
@@ -40,6 +95,55 @@ public interface VenueRepositoryPort {
      */
     List<Venue> findAll();
 
+    /**
+     * Obtiene los venues con los IDs dados, en cualquier orden.
+     * Los IDs que no existen se omiten.
+     * 
+     * @param ids Los IDs a buscar
+     * @return Lista de venues encontrados
+     */
+    List<Venue> findAllById(List<Long> ids);
+
+    /**
+     * Obtiene todos los venues como vistas de solo lectura para listados.
+     * 
+     * @return Lista de resúmenes de todos los venues
+     */
+    List<VenueSummary> findAllSummaries();
+
+    /**
+     * Obtiene los venues de una ciudad como vistas de solo lectura.
+     * 
+     * @param city La ciudad a buscar
+     * @return Lista de resúmenes de venues en esa ciudad
+     */
+    List<VenueSummary> findSummariesByCity(String city);
+
+    /**
+     * Obtiene los venues de un país como vistas de solo lectura.
+     * 
+     * @param country El país a buscar
+     * @return Lista de resúmenes de venues en ese país
+     */
+    List<VenueSummary> findSummariesByCountry(String country);
+
+    /**
+     * Obtiene los venues con un estado como vistas de solo lectura.
+     * 
+     * @param status El estado a buscar
+     * @return Lista de resúmenes de venues con ese estado
+     */
+    List<VenueSummary> findSummariesByStatus(VenueStatus status);
+
+    /**
+     * Recorre todos los venues sin cargarlos en memoria a la vez.
+     * 
+     * El llamador debe estar dentro de una transacción y cerrar el stream.
+     * 
+     * @return Stream de todos los venues
+     */
+    Stream<Venue> streamAll();
+
     /**
      * Busca venues por ciudad.
      * 
@@ -62,7 +166,7 @@ public interface VenueRepositoryPort {
      * @param status El estado a buscar
      * @return Lista de venues con ese estado
      */
-    List<Venue> findByStatus(String status);
+    List<Venue> findByStatus(VenueStatus status);
 
     /**
      * Elimina un venue por su ID.
@@ -79,5 +183,5 @@ public interface VenueRepositoryPort {
      */
     boolean existsById(Long id);
 
-    List<Venue> findByFilters(String city, String country, Integer capacity, String status);
+    List<Venue> findByFilters(String city, String country, Integer capacity, VenueStatus status);
 }
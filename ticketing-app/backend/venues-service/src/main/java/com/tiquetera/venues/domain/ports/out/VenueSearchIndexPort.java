@@ -0,0 +1,40 @@
+package com.tiquetera.venues.domain.ports.out;
+
+import com.tiquetera.venues.domain.model.Venue;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para el índice de texto de venues.
+ * 
+ * Indexa nombre y ciudad para búsquedas por texto libre sin recorrer
+ * la tabla de venues.
+ * 
+ * @author Ticketing Team
+ * @version 3.4 - Text Search
+ */
+public interface VenueSearchIndexPort {
+
+    /**
+     * Agrega o actualiza un venue en el índice.
+     * 
+     * @param venue El venue a indexar
+     */
+    void index(Venue venue);
+
+    /**
+     * Quita un venue del índice.
+     * 
+     * @param id El ID del venue
+     */
+    void remove(Long id);
+
+    /**
+     * Busca venues por texto libre.
+     * 
+     * @param query texto a buscar
+     * @param limit número máximo de resultados
+     * @return IDs de los venues encontrados, del más relevante al menos relevante
+     */
+    List<Long> search(String query, int limit);
+}
@@ -0,0 +1,83 @@
+package com.tiquetera.venues.infrastructure.adapter.in.web.controller;
+
+import com.tiquetera.common.importer.CsvImporter;
+import com.tiquetera.common.importer.ImportJob;
+import com.tiquetera.common.importer.ImportJobDTO;
+import com.tiquetera.venues.domain.ports.in.BulkVenuesUseCase;
+import com.tiquetera.venues.infrastructure.adapter.in.web.dto.VenueDTO;
+import com.tiquetera.venues.infrastructure.adapter.in.web.mapper.VenueWebMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Adaptador REST para importar venues desde archivos CSV (Input Adapter).
+ *
+ * La importación se ejecuta en segundo plano: el POST responde 202 con el
+ * trabajo creado y su progreso se consulta con GET.
+ *
+ * @author Ticketing Team
+ * @version 3.5 - CSV Import
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/venues/import")
+@RequiredArgsConstructor
+@Tag(name = "Venues Import", description = "API para importar venues desde CSV")
+public class VenueImportRestAdapter {
+
+        private final BulkVenuesUseCase bulkVenuesUseCase;
+        private final CsvImporter csvImporter;
+        private final VenueWebMapper mapper;
+
+        @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+        @Operation(summary = "Importar venues desde CSV", description = "Encola la importación de un CSV con cabecera (name, address, city, country, capacity, description, phone, email, status) y retorna el trabajo creado")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "202", description = "Importación encolada")
+        })
+        public ResponseEntity<ImportJobDTO> importVenues(
+                        @Parameter(description = "Archivo CSV", required = true) @RequestParam("file") MultipartFile file)
+                        throws IOException {
+
+                log.info("POST /api/v1/venues/import - Importando archivo: {}", file.getOriginalFilename());
+
+                ImportJob job;
+                try (InputStream content = file.getInputStream()) {
+                        job = csvImporter.submit(file.getOriginalFilename(), content, VenueDTO.class,
+                                        mapper::toDomain, bulkVenuesUseCase::createAll);
+                }
+
+                URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                                .path("/{jobId}").buildAndExpand(job.getId()).toUri();
+                return ResponseEntity.accepted().location(location).body(ImportJobDTO.from(job));
+        }
+
+        @GetMapping("/{jobId}")
+        @Operation(summary = "Consultar una importación", description = "Retorna el estado, el progreso y los errores por fila de una importación")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Importación encontrada"),
+                        @ApiResponse(responseCode = "404", description = "Importación no encontrada o expirada")
+        })
+        public ResponseEntity<ImportJobDTO> getImportJob(
+                        @Parameter(description = "ID del trabajo de importación", required = true) @PathVariable String jobId) {
+
+                log.info("GET /api/v1/venues/import/{} - Consultando importación", jobId);
+
+                return csvImporter.getJob(jobId)
+                                .map(job -> ResponseEntity.ok(ImportJobDTO.from(job)))
+                                .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+}
@@ -1,9 +1,13 @@
 package com.tiquetera.venues.infrastructure.adapter.in.web.controller;
 
+import com.tiquetera.venues.domain.model.ChangeStamp;
 import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueSummary;
 import com.tiquetera.venues.domain.ports.in.*;
 import com.tiquetera.venues.infrastructure.adapter.in.web.dto.VenueDTO;
 import com.tiquetera.venues.infrastructure.adapter.in.web.mapper.VenueWebMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,13 +15,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
 import java.util.List;
 
 /**
@@ -41,7 +52,9 @@ public class VenueRestAdapter {
         private final ListVenuesUseCase listVenuesUseCase;
         private final UpdateVenueUseCase updateVenueUseCase;
         private final DeleteVenueUseCase deleteVenueUseCase;
+        private final SearchVenuesUseCase searchVenuesUseCase;
         private final VenueWebMapper mapper;
+        private final ObjectMapper objectMapper;
 
         @PostMapping
         @Operation(summary = "Crear un nuevo venue", description = "Crea un nuevo lugar de eventos en el sistema")
@@ -61,75 +74,148 @@ public class VenueRestAdapter {
         @GetMapping
         @Operation(summary = "Obtener todos los venues", description = "Retorna una lista con todos los lugares de eventos registrados")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente")
+                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
         })
-        public ResponseEntity<List<VenueDTO>> getAllVenues() {
+        public ResponseEntity<List<VenueDTO>> getAllVenues(WebRequest request) {
                 log.info("GET /api/v1/venues - Obteniendo todos los venues");
 
-                List<Venue> venues = listVenuesUseCase.getAllVenues();
+                String etag = weakETag(listVenuesUseCase.getVenuesChangeStamp());
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
 
-                return ResponseEntity.ok(mapper.toDTOList(venues));
+                List<VenueSummary> venues = listVenuesUseCase.getAllVenues();
+
+                return ResponseEntity.ok().eTag(etag).body(mapper.summariesToDTOList(venues));
+        }
+
+        @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        @Operation(summary = "Exportar todos los venues", description = "Escribe todos los venues como NDJSON (un venue por línea) a medida que se leen de la base de datos")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Venues exportados exitosamente")
+        })
+        public void exportVenues(HttpServletResponse response) throws IOException {
+                log.info("GET /api/v1/venues/export - Exportando venues");
+
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                try (SequenceWriter writer = objectMapper.writerFor(VenueDTO.class)
+                                .withRootValueSeparator("\n")
+                                .writeValues(response.getOutputStream())) {
+                        listVenuesUseCase.forEachVenue(venue -> {
+                                try {
+                                        writer.write(mapper.toDTO(venue));
+                                } catch (IOException ex) {
+                                        throw new UncheckedIOException(ex);
+                                }
+                        });
+                }
         }
 
         @GetMapping("/{id}")
         @Operation(summary = "Obtener venue por ID", description = "Retorna los detalles de un venue específico")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Venue encontrado", content = @Content(schema = @Schema(implementation = VenueDTO.class))),
+                        @ApiResponse(responseCode = "304", description = "El venue no cambió desde el ETag enviado"),
                         @ApiResponse(responseCode = "404", description = "Venue no encontrado")
         })
         public ResponseEntity<VenueDTO> getVenueById(
-                        @Parameter(description = "ID del venue a buscar", required = true) @PathVariable Long id) {
+                        @Parameter(description = "ID del venue a buscar", required = true) @PathVariable Long id,
+                        WebRequest request) {
 
                 log.info("GET /api/v1/venues/{} - Obteniendo venue", id);
 
+                // Con If-None-Match solo se consulta la versión; si el cliente ya
+                // la tiene no se carga ni se serializa el venue. Sin la
+                // cabecera se carga una vez y el ETag sale de lo cargado.
+                if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                                && request.checkNotModified(strongETag(getVenueUseCase.getVersion(id)))) {
+                        return null;
+                }
+
                 Venue venue = getVenueUseCase.execute(id);
 
-                return ResponseEntity.ok(mapper.toDTO(venue));
+                return ResponseEntity.ok().eTag(strongETag(venue.getVersion())).body(mapper.toDTO(venue));
         }
 
         @GetMapping("/city/{city}")
         @Operation(summary = "Obtener venues por ciudad", description = "Retorna todos los venues ubicados en una ciudad específica")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente")
+                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
         })
         public ResponseEntity<List<VenueDTO>> getVenuesByCity(
-                        @Parameter(description = "Nombre de la ciudad", required = true) @PathVariable String city) {
+                        @Parameter(description = "Nombre de la ciudad", required = true) @PathVariable String city,
+                        WebRequest request) {
 
                 log.info("GET /api/v1/venues/city/{} - Obteniendo venues por ciudad", city);
 
-                List<Venue> venues = listVenuesUseCase.getVenuesByCity(city);
+                String etag = weakETag(listVenuesUseCase.getVenuesChangeStampByCity(city));
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
+
+                List<VenueSummary> venues = listVenuesUseCase.getVenuesByCity(city);
 
-                return ResponseEntity.ok(mapper.toDTOList(venues));
+                return ResponseEntity.ok().eTag(etag).body(mapper.summariesToDTOList(venues));
         }
 
         @GetMapping("/country/{country}")
         @Operation(summary = "Obtener venues por país", description = "Retorna todos los venues ubicados en un país específico")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente")
+                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
         })
         public ResponseEntity<List<VenueDTO>> getVenuesByCountry(
-                        @Parameter(description = "Nombre del país", required = true) @PathVariable String country) {
+                        @Parameter(description = "Nombre del país", required = true) @PathVariable String country,
+                        WebRequest request) {
 
                 log.info("GET /api/v1/venues/country/{} - Obteniendo venues por país", country);
 
-                List<Venue> venues = listVenuesUseCase.getVenuesByCountry(country);
+                String etag = weakETag(listVenuesUseCase.getVenuesChangeStampByCountry(country));
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
+
+                List<VenueSummary> venues = listVenuesUseCase.getVenuesByCountry(country);
 
-                return ResponseEntity.ok(mapper.toDTOList(venues));
+                return ResponseEntity.ok().eTag(etag).body(mapper.summariesToDTOList(venues));
         }
 
         @GetMapping("/status/{status}")
         @Operation(summary = "Obtener venues por estado", description = "Retorna todos los venues que tienen un estado específico")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente")
+                        @ApiResponse(responseCode = "200", description = "Lista de venues obtenida exitosamente"),
+                        @ApiResponse(responseCode = "304", description = "El listado no cambió desde el ETag enviado")
         })
         public ResponseEntity<List<VenueDTO>> getVenuesByStatus(
-                        @Parameter(description = "Estado del venue (ACTIVE, INACTIVE, MAINTENANCE)", required = true) @PathVariable String status) {
+                        @Parameter(description = "Estado del venue (ACTIVE, INACTIVE, MAINTENANCE)", required = true) @PathVariable String status,
+                        WebRequest request) {
 
                 log.info("GET /api/v1/venues/status/{} - Obteniendo venues por estado", status);
 
-                List<Venue> venues = listVenuesUseCase.getVenuesByStatus(status);
+                String etag = weakETag(listVenuesUseCase.getVenuesChangeStampByStatus(status));
+                if (request.checkNotModified(etag)) {
+                        return null;
+                }
 
-                return ResponseEntity.ok(mapper.toDTOList(venues));
+                List<VenueSummary> venues = listVenuesUseCase.getVenuesByStatus(status);
+
+                return ResponseEntity.ok().eTag(etag).body(mapper.summariesToDTOList(venues));
+        }
+
+        @GetMapping("/search/text")
+        @Operation(summary = "Buscar venues por texto", description = "Busca venues por nombre y ciudad en el índice en memoria, ordenados por relevancia")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Venues encontrados")
+        })
+        public ResponseEntity<List<VenueDTO>> searchVenuesByText(
+                        @Parameter(description = "Texto a buscar", required = true) @RequestParam String q,
+                        @Parameter(description = "Número máximo de resultados (máximo 100)") @RequestParam(required = false) Integer limit) {
+
+                log.info("GET /api/v1/venues/search/text - Buscando venues por texto: {}", q);
+
+                return ResponseEntity.ok(mapper.toDTOList(searchVenuesUseCase.searchByText(q, limit)));
         }
 
         @PutMapping("/{id}")
@@ -166,4 +252,14 @@ public class VenueRestAdapter {
 
                 return ResponseEntity.noContent().build();
         }
+
+        private static String strongETag(Long version) {
+                return "\"" + version + "\"";
+        }
+
+        private static String weakETag(ChangeStamp stamp) {
+                long lastUpdated = stamp.getLastUpdated() == null ? 0
+                                : stamp.getLastUpdated().toInstant(ZoneOffset.UTC).toEpochMilli();
+                return "W/\"" + stamp.getCount() + "-" + lastUpdated + "\"";
+        }
 }
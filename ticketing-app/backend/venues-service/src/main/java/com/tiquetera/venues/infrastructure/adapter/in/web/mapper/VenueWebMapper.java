@@ -1,8 +1,11 @@
 package com.tiquetera.venues.infrastructure.adapter.in.web.mapper;
 
 import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueStatus;
+import com.tiquetera.venues.domain.model.VenueSummary;
 import com.tiquetera.venues.infrastructure.adapter.in.web.dto.VenueDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -16,8 +19,10 @@ import java.util.List;
 public interface VenueWebMapper {
 
     /**
-     * Convierte de DTO web a entidad de dominio.
+     * Convierte de DTO web a entidad de dominio. La versión no viaja en el
+     * DTO: la asigna la persistencia.
      */
+    @Mapping(target = "version", ignore = true)
     Venue toDomain(VenueDTO dto);
 
     /**
@@ -29,4 +34,21 @@ public interface VenueWebMapper {
      * Convierte una lista de entidades de dominio a DTOs web.
      */
     List<VenueDTO> toDTOList(List<Venue> domains);
+
+    /**
+     * Convierte una vista de listado a DTO web.
+     */
+    VenueDTO toDTO(VenueSummary summary);
+
+    /**
+     * Convierte una lista de vistas de listado a DTOs web.
+     */
+    List<VenueDTO> summariesToDTOList(List<VenueSummary> summaries);
+
+    /**
+     * Interpreta el estado recibido en el DTO sin distinguir mayúsculas.
+     */
+    default VenueStatus toStatus(String status) {
+        return status == null || status.isBlank() ? null : VenueStatus.from(status);
+    }
 }
@@ -1,20 +1,35 @@
 package com.tiquetera.venues.infrastructure.adapter.out.persistence;
 
+import com.tiquetera.venues.domain.model.ChangeStamp;
 import com.tiquetera.venues.domain.model.Venue;
+import com.tiquetera.venues.domain.model.VenueStatus;
+import com.tiquetera.venues.domain.model.VenueSummary;
 import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
 import com.tiquetera.venues.infrastructure.adapter.out.persistence.entity.VenueEntity;
 import com.tiquetera.venues.infrastructure.adapter.out.persistence.mapper.VenuePersistenceMapper;
 import com.tiquetera.venues.infrastructure.adapter.out.persistence.repository.VenueJpaRepository;
 import com.tiquetera.venues.infrastructure.adapter.out.persistence.specifications.VenueSpecifications;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistencia JPA para venues.
@@ -33,6 +48,14 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
 
     private final VenueJpaRepository repository;
     private final VenuePersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO venues (name, address, city, country, capacity, "
+            + "description, phone, email, status, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
 
     @Override
     public Venue save(Venue venue) {
@@ -41,6 +64,57 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
         return mapper.toDomain(savedEntity);
     }
 
+    /**
+     * Con IDENTITY Hibernate inserta fila a fila para leer cada ID generado;
+     * por eso el lote se envía como batch JDBC (INSERT multi-fila con
+     * rewriteBatchedStatements en MySQL) y se leen las claves generadas.
+     */
+    @Override
+    public List<Venue> saveAll(List<Venue> venues) {
+        for (int from = 0; from < venues.size(); from += INSERT_BATCH_SIZE) {
+            insertBatch(venues.subList(from, Math.min(from + INSERT_BATCH_SIZE, venues.size())));
+        }
+        return venues;
+    }
+
+    private void insertBatch(List<Venue> batch) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Venue venue = batch.get(i);
+                        ps.setString(1, venue.getName());
+                        ps.setString(2, venue.getAddress());
+                        ps.setString(3, venue.getCity());
+                        ps.setString(4, venue.getCountry());
+                        ps.setObject(5, venue.getCapacity(), Types.INTEGER);
+                        ps.setString(6, venue.getDescription());
+                        ps.setString(7, venue.getPhone());
+                        ps.setString(8, venue.getEmail());
+                        ps.setString(9, venue.getStatus().name());
+                        ps.setTimestamp(10, toTimestamp(venue.getCreatedAt()));
+                        ps.setTimestamp(11, toTimestamp(venue.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < batch.size(); i++) {
+            Venue venue = batch.get(i);
+            venue.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            venue.setVersion(0L);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Venue> findById(Long id) {
@@ -48,6 +122,45 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Venue> findAllById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return mapper.toDomainList(repository.findAllById(ids));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersionById(Long id) {
+        return repository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeStamp getChangeStamp() {
+        return repository.getChangeStamp();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeStamp getChangeStampByCity(String city) {
+        return repository.getChangeStampByCity(city);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeStamp getChangeStampByCountry(String country) {
+        return repository.getChangeStampByCountry(country);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeStamp getChangeStampByStatus(VenueStatus status) {
+        return repository.getChangeStampByStatus(status);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Venue> findAll() {
@@ -56,6 +169,43 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<VenueSummary> findAllSummaries() {
+        return repository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VenueSummary> findSummariesByCity(String city) {
+        return repository.findSummariesByCity(city);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VenueSummary> findSummariesByCountry(String country) {
+        return repository.findSummariesByCountry(country);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VenueSummary> findSummariesByStatus(VenueStatus status) {
+        return repository.findSummariesByStatus(status);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<Venue> streamAll() {
+        // Se desvincula cada fila ya mapeada para que el contexto de
+        // persistencia no crezca con el número de venues recorridos.
+        return repository.streamAll()
+                .map(entity -> {
+                    Venue venue = mapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return venue;
+                });
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Venue> findByCity(String city) {
@@ -74,8 +224,8 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Venue> findByStatus(String status) {
-        return repository.findByStatusIgnoreCase(status).stream()
+    public List<Venue> findByStatus(VenueStatus status) {
+        return repository.findByStatus(status).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -92,7 +242,7 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
     }
 
     @Override
-    public List<Venue> findByFilters(String city, String country, Integer capacity, String status) {
+    public List<Venue> findByFilters(String city, String country, Integer capacity, VenueStatus status) {
         Specification<VenueEntity> spec = (root, query, criteriaBuilder) -> null;
 
         if (city != null && !city.isEmpty()) {
@@ -104,7 +254,7 @@ public class VenueJpaAdapter implements VenueRepositoryPort {
         if (capacity != null) {
             spec = spec.and(VenueSpecifications.withCapacityGreaterThan(capacity));
         }
-        if (status != null && !status.isEmpty()) {
+        if (status != null) {
             spec = spec.and(VenueSpecifications.withStatus(status));
         }
 
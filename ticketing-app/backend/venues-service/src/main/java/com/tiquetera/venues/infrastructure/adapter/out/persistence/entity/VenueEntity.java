@@ -1,5 +1,6 @@
 package com.tiquetera.venues.infrastructure.adapter.out.persistence.entity;
 
+import com.tiquetera.venues.domain.model.VenueStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -55,9 +56,10 @@ public class VenueEntity {
     @Column(name = "email", length = 100)
     private String email;
 
-    @Column(name = "status", length = 20)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
     @Builder.Default
-    private String status = "ACTIVE";
+    private VenueStatus status = VenueStatus.ACTIVE;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -66,4 +68,9 @@ public class VenueEntity {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Versión de la fila: bloqueo optimista y base del ETag del recurso
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -1,13 +1,21 @@
 package com.tiquetera.venues.infrastructure.adapter.out.persistence.repository;
 
+import com.tiquetera.venues.domain.model.ChangeStamp;
+import com.tiquetera.venues.domain.model.VenueStatus;
+import com.tiquetera.venues.domain.model.VenueSummary;
 import com.tiquetera.venues.infrastructure.adapter.out.persistence.entity.VenueEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio Spring Data JPA para VenueEntity.
@@ -22,6 +30,14 @@ import java.util.List;
 @Repository
 public interface VenueJpaRepository extends JpaRepository<VenueEntity, Long>, JpaSpecificationExecutor<VenueEntity> {
 
+    /**
+     * Proyección usada por los listados: solo las columnas de la respuesta.
+     */
+    String SUMMARY_SELECT = "SELECT new com.tiquetera.venues.domain.model.VenueSummary("
+            + "v.id, v.name, v.address, v.city, v.country, v.capacity, v.description, "
+            + "v.phone, v.email, v.status, v.createdAt, v.updatedAt) "
+            + "FROM VenueEntity v ";
+
     /**
      * Encuentra todos los venues en una ciudad específica.
      * 
@@ -46,8 +62,8 @@ public interface VenueJpaRepository extends JpaRepository<VenueEntity, Long>, Jp
      * @param status estado del venue (ACTIVE, INACTIVE, etc.)
      * @return lista de venues con el estado especificado
      */
-    @Query("SELECT v FROM VenueEntity v WHERE LOWER(v.status) = LOWER(:status)")
-    List<VenueEntity> findByStatusIgnoreCase(@Param("status") String status);
+    @Query("SELECT v FROM VenueEntity v WHERE v.status = :status")
+    List<VenueEntity> findByStatus(@Param("status") VenueStatus status);
 
     /**
      * Encuentra venues por nombre (búsqueda parcial).
@@ -66,4 +82,106 @@ public interface VenueJpaRepository extends JpaRepository<VenueEntity, Long>, Jp
      */
     @Query("SELECT v FROM VenueEntity v WHERE v.capacity >= :capacity")
     List<VenueEntity> findByCapacityGreaterThanEqual(@Param("capacity") Integer capacity);
+
+    /**
+     * Recorre todos los venues fila a fila.
+     * 
+     * Un fetch size de Integer.MIN_VALUE hace que el driver de MySQL lea el
+     * resultado en streaming en lugar de cargarlo completo en memoria.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     * 
+     * @return stream de venues
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT v FROM VenueEntity v")
+    Stream<VenueEntity> streamAll();
+
+    /**
+     * Obtiene la versión de un venue por clave primaria sin hidratar la entidad.
+     * 
+     * @param id ID del venue
+     * @return versión del venue si existe
+     */
+    @Query("SELECT v.version FROM VenueEntity v WHERE v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Cuenta los venues y obtiene la última fecha de modificación
+     * (resuelta con idx_venues_updated_at).
+     * 
+     * @return número de venues y fecha de la última modificación
+     */
+    @Query("SELECT new com.tiquetera.venues.domain.model.ChangeStamp(COUNT(v), MAX(v.updatedAt)) FROM VenueEntity v")
+    ChangeStamp getChangeStamp();
+
+    /**
+     * Cuenta los venues de una ciudad y obtiene su última fecha de
+     * modificación, con el mismo filtro que el listado por ciudad.
+     * 
+     * @param city nombre de la ciudad
+     * @return número de venues y fecha de la última modificación
+     */
+    @Query("SELECT new com.tiquetera.venues.domain.model.ChangeStamp(COUNT(v), MAX(v.updatedAt)) FROM VenueEntity v "
+            + "WHERE LOWER(v.city) = LOWER(:city)")
+    ChangeStamp getChangeStampByCity(@Param("city") String city);
+
+    /**
+     * Cuenta los venues de un país y obtiene su última fecha de
+     * modificación, con el mismo filtro que el listado por país.
+     * 
+     * @param country nombre del país
+     * @return número de venues y fecha de la última modificación
+     */
+    @Query("SELECT new com.tiquetera.venues.domain.model.ChangeStamp(COUNT(v), MAX(v.updatedAt)) FROM VenueEntity v "
+            + "WHERE LOWER(v.country) = LOWER(:country)")
+    ChangeStamp getChangeStampByCountry(@Param("country") String country);
+
+    /**
+     * Cuenta los venues con un estado y obtiene su última fecha de
+     * modificación (filtrando por idx_venues_status).
+     * 
+     * @param status estado del venue
+     * @return número de venues y fecha de la última modificación
+     */
+    @Query("SELECT new com.tiquetera.venues.domain.model.ChangeStamp(COUNT(v), MAX(v.updatedAt)) FROM VenueEntity v "
+            + "WHERE v.status = :status")
+    ChangeStamp getChangeStampByStatus(@Param("status") VenueStatus status);
+
+    /**
+     * Lista todos los venues como proyección de solo lectura.
+     * 
+     * @return lista de resúmenes de venues
+     */
+    @Query(SUMMARY_SELECT)
+    List<VenueSummary> findAllSummaries();
+
+    /**
+     * Lista los venues de una ciudad como proyección de solo lectura.
+     * 
+     * @param city nombre de la ciudad
+     * @return lista de resúmenes de venues
+     */
+    @Query(SUMMARY_SELECT + "WHERE LOWER(v.city) = LOWER(:city)")
+    List<VenueSummary> findSummariesByCity(@Param("city") String city);
+
+    /**
+     * Lista los venues de un país como proyección de solo lectura.
+     * 
+     * @param country nombre del país
+     * @return lista de resúmenes de venues
+     */
+    @Query(SUMMARY_SELECT + "WHERE LOWER(v.country) = LOWER(:country)")
+    List<VenueSummary> findSummariesByCountry(@Param("country") String country);
+
+    /**
+     * Lista los venues con un estado como proyección de solo lectura.
+     * 
+     * @param status estado del venue
+     * @return lista de resúmenes de venues
+     */
+    @Query(SUMMARY_SELECT + "WHERE v.status = :status")
+    List<VenueSummary> findSummariesByStatus(@Param("status") VenueStatus status);
 }
@@ -1,5 +1,6 @@
 package com.tiquetera.venues.infrastructure.adapter.out.persistence.specifications;
 
+import com.tiquetera.venues.domain.model.VenueStatus;
 import com.tiquetera.venues.infrastructure.adapter.out.persistence.entity.VenueEntity;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
@@ -33,12 +34,12 @@ public class VenueSpecifications {
         };
     }
 
-    public static Specification<VenueEntity> withStatus(String status) {
+    public static Specification<VenueEntity> withStatus(VenueStatus status) {
         return (root, query, criteriaBuilder) -> {
-            if (!StringUtils.hasText(status)) {
+            if (status == null) {
                 return null;
             }
-            return criteriaBuilder.equal(criteriaBuilder.lower(root.get("status")), status.toLowerCase());
+            return criteriaBuilder.equal(root.get("status"), status);
         };
     }
 }
@@ -3,14 +3,15 @@ package com.tiquetera.venues.infrastructure.config;
 import com.tiquetera.venues.application.usecase.*;
 import com.tiquetera.venues.domain.ports.in.*;
 import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
+import com.tiquetera.venues.domain.ports.out.VenueSearchIndexPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class BeanConfiguration {
     @Bean
-    public CreateVenueUseCase createVenueUseCase(VenueRepositoryPort repo) {
-        return new CreateVenueService(repo);
+    public CreateVenueUseCase createVenueUseCase(VenueRepositoryPort repo, VenueSearchIndexPort searchIndex) {
+        return new CreateVenueService(repo, searchIndex);
     }
     @Bean
     public GetVenueUseCase getVenueUseCase(VenueRepositoryPort repo) {
@@ -21,11 +22,19 @@ public class BeanConfiguration {
         return new ListVenuesService(repo);
     }
     @Bean
-    public UpdateVenueUseCase updateVenueUseCase(VenueRepositoryPort repo) {
-        return new UpdateVenueService(repo);
+    public UpdateVenueUseCase updateVenueUseCase(VenueRepositoryPort repo, VenueSearchIndexPort searchIndex) {
+        return new UpdateVenueService(repo, searchIndex);
     }
     @Bean
-    public DeleteVenueUseCase deleteVenueUseCase(VenueRepositoryPort repo) {
-        return new DeleteVenueService(repo);
+    public DeleteVenueUseCase deleteVenueUseCase(VenueRepositoryPort repo, VenueSearchIndexPort searchIndex) {
+        return new DeleteVenueService(repo, searchIndex);
+    }
+    @Bean
+    public BulkVenuesUseCase bulkVenuesUseCase(VenueRepositoryPort repo, VenueSearchIndexPort searchIndex) {
+        return new BulkVenuesService(repo, searchIndex);
+    }
+    @Bean
+    public SearchVenuesUseCase searchVenuesUseCase(VenueRepositoryPort repo, VenueSearchIndexPort searchIndex) {
+        return new SearchVenuesService(repo, searchIndex);
     }
 }
@@ -0,0 +1,29 @@
+package com.tiquetera.venues.infrastructure.config;
+
+import com.tiquetera.common.importer.CsvImportProperties;
+import com.tiquetera.common.importer.CsvImporter;
+import jakarta.validation.Validator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Importador CSV de service-common con los límites de venues.import.
+ *
+ * @author Ticketing Team
+ * @version 3.8 - Service Common
+ */
+@Configuration
+public class CsvImportConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "venues.import")
+    public CsvImportProperties csvImportProperties() {
+        return new CsvImportProperties();
+    }
+
+    @Bean
+    public CsvImporter csvImporter(Validator validator, CsvImportProperties properties) {
+        return new CsvImporter(validator, properties);
+    }
+}
@@ -0,0 +1,35 @@
+package com.tiquetera.venues.infrastructure.config;
+
+import com.tiquetera.common.metrics.OperationMetricsAdvisors;
+import com.tiquetera.venues.domain.ports.in.CreateVenueUseCase;
+import com.tiquetera.venues.domain.ports.out.VenueRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Métricas de latencia, throughput y errores de los casos de uso y del
+ * repositorio de venues, con los advisors de service-common.
+ *
+ * @author Ticketing Team
+ * @version 3.8 - Service Common
+ */
+@Configuration
+public class OperationMetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor useCaseMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return OperationMetricsAdvisors.useCases(meterRegistry, CreateVenueUseCase.class);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return OperationMetricsAdvisors.repository(meterRegistry, VenueRepositoryPort.class);
+    }
+}
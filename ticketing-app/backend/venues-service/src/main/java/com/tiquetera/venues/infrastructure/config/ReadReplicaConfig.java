@@ -0,0 +1,31 @@
+package com.tiquetera.venues.infrastructure.config;
+
+import com.tiquetera.common.replica.ReadReplicaProperties;
+import com.tiquetera.common.replica.ReplicaRoutingConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Enruta las transacciones de solo lectura a las réplicas.
+ *
+ * Se activa al configurar al menos una réplica en venues.datasource.replicas
+ * e importa el enrutamiento de service-common ({@link ReplicaRoutingConfig})
+ * con las propiedades de venues.datasource.
+ *
+ * @author Ticketing Team
+ * @version 3.8 - Service Common
+ */
+@Configuration
+@ConditionalOnProperty(name = "venues.datasource.replicas[0].url")
+@Import(ReplicaRoutingConfig.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "venues.datasource")
+    public ReadReplicaProperties readReplicaProperties() {
+        return new ReadReplicaProperties();
+    }
+}
@@ -0,0 +1,64 @@
+package com.tiquetera.venues.infrastructure.config;
+
+import com.tiquetera.security.JwtAuthenticationFilter;
+import com.tiquetera.security.JwtKeys;
+import com.tiquetera.security.JwtVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.util.List;
+
+/**
+ * Seguridad de venues-service.
+ *
+ * Las lecturas siguen siendo públicas; crear, importar, modificar y borrar
+ * venues exige un JWT de events-service con rol ADMIN. El token se verifica
+ * aquí con la clave pública ({@code application.security.jwt.public-key}) y
+ * sus claims: sin llamar a events-service ni leer usuarios, así que proteger
+ * las escrituras no agrega ningún salto de red. Del actuator solo health es
+ * público; las métricas piden un JWT válido. Sin sesión; una escritura sin
+ * token válido recibe 403, como en events-service.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Shared Security
+ */
+@Configuration
+@EnableWebSecurity
+public class SecurityConfig {
+
+    @Bean
+    public JwtVerifier jwtVerifier(
+            @Value("${application.security.jwt.public-key}") String publicKey,
+            @Value("${application.security.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        return new JwtVerifier(JwtKeys.publicKey(publicKey), verifiedCacheSize);
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtVerifier jwtVerifier) throws Exception {
+        // Fuera del contexto para que no se registre también como filtro del contenedor
+        JwtAuthenticationFilter jwtAuthFilter = new JwtAuthenticationFilter(jwtVerifier, List.of());
+
+        http
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(req -> req
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").authenticated()
+                        .requestMatchers(HttpMethod.GET).permitAll()
+                        .requestMatchers(HttpMethod.HEAD).permitAll()
+                        .requestMatchers(HttpMethod.OPTIONS).permitAll()
+                        .requestMatchers("/api/**").hasRole("ADMIN")
+                        .anyRequest().permitAll())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
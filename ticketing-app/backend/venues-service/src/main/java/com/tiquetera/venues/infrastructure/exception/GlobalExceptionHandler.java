@@ -0,0 +1,112 @@
+package com.tiquetera.venues.infrastructure.exception;
+
+import com.tiquetera.common.importer.ImportQueueFullException;
+import com.tiquetera.venues.domain.exception.InvalidStatusException;
+import com.tiquetera.venues.domain.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Manejador global de excepciones para la API de venues.
+ *
+ * Convierte las excepciones del dominio y de persistencia en respuestas
+ * ProblemDetail (RFC 7807) con el mismo formato que events-service.
+ *
+ * @author Ticketing Team
+ * @version 1.2 - CSV Import
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final String TRACE_ID = "traceId";
+    private static final String TIMESTAMP = "timestamp";
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleResourceNotFoundException(
+            ResourceNotFoundException ex,
+            WebRequest request) {
+
+        log.error("Recurso no encontrado: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        problemDetail.setTitle("Resource Not Found");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/not-found"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
+    }
+
+    @ExceptionHandler(InvalidStatusException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidStatusException(
+            InvalidStatusException ex,
+            WebRequest request) {
+
+        log.error("Estado inválido: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problemDetail.setTitle("Invalid Status");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/invalid-status"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex,
+            WebRequest request) {
+
+        log.error("Conflicto de versión: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "El recurso fue modificado por otra petición");
+        problemDetail.setTitle("Concurrent Modification");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/conflict"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
+    @ExceptionHandler(ImportQueueFullException.class)
+    public ResponseEntity<ProblemDetail> handleImportQueueFullException(
+            ImportQueueFullException ex,
+            WebRequest request) {
+
+        log.warn("Importación rechazada: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problemDetail.setTitle("Import Queue Full");
+        problemDetail.setType(URI.create("https://tiquetera.com/errors/import-queue-full"));
+        problemDetail.setInstance(URI.create(request.getDescription(false).replace("uri=", "")));
+        enrichProblemDetail(problemDetail);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(problemDetail);
+    }
+
+    private void enrichProblemDetail(ProblemDetail problemDetail) {
+        problemDetail.setProperty(TIMESTAMP, LocalDateTime.now());
+        String traceId = MDC.get(TRACE_ID);
+        if (traceId == null) {
+            traceId = UUID.randomUUID().toString();
+        }
+        problemDetail.setProperty(TRACE_ID, traceId);
+    }
+}
@@ -0,0 +1,2 @@
+ALTER TABLE venues ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX idx_venues_updated_at ON venues(updated_at);
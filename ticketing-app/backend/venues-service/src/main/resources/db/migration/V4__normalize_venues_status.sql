@@ -0,0 +1,4 @@
+UPDATE venues SET status = UPPER(TRIM(status)) WHERE status IS NOT NULL;
+UPDATE venues SET status = 'ACTIVE'
+    WHERE status IS NULL OR status NOT IN ('ACTIVE', 'INACTIVE', 'MAINTENANCE');
+ALTER TABLE venues MODIFY status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE';
@@ -0,0 +1,108 @@
+package com.tiquetera.venues.infrastructure.adapter.out.persistence;
+
+import com.tiquetera.venues.domain.model.VenueStatus;
+import com.tiquetera.venues.infrastructure.adapter.out.persistence.repository.VenueJpaRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comprueba con EXPLAIN que los filtros por estado usan el índice.
+ *
+ * Captura el SQL que genera Hibernate para cada consulta por estado y pide
+ * su plan a la base de datos con el estado enlazado como parámetro: el plan
+ * debe resolver el filtro con idx_venues_status. Si la consulta vuelve a
+ * envolver la columna en una función (LOWER, UPPER...), el plan pasa a
+ * recorrer la tabla y el test falla.
+ *
+ * @author Ticketing Team
+ * @version 1.0 - Normalized Status
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:status-explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.tiquetera.venues.infrastructure.adapter.out.persistence.VenueStatusIndexExplainTest$CapturedSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+class VenueStatusIndexExplainTest {
+
+    private static final String STATUS_INDEX = "idx_venues_status";
+
+    @Autowired
+    private VenueJpaRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        VenueStatus[] statuses = VenueStatus.values();
+        for (int v = 0; v < 40; v++) {
+            jdbcTemplate.update("INSERT INTO venues (name, city, country, capacity, status, created_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, 0)",
+                    "Venue " + v, "Bogotá", "Colombia", 1000, statuses[v % statuses.length].name(),
+                    LocalDateTime.now());
+        }
+        CapturedSql.clear();
+    }
+
+    @Test
+    void findByStatusUsesStatusIndex() {
+        repository.findByStatus(VenueStatus.ACTIVE);
+
+        assertThat(explainLastQuery(VenueStatus.ACTIVE.name())).contains(STATUS_INDEX);
+    }
+
+    @Test
+    void findSummariesByStatusUsesStatusIndex() {
+        repository.findSummariesByStatus(VenueStatus.MAINTENANCE);
+
+        assertThat(explainLastQuery(VenueStatus.MAINTENANCE.name())).contains(STATUS_INDEX);
+    }
+
+    private String explainLastQuery(Object... parameters) {
+        String sql = CapturedSql.last();
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+        return plan.toLowerCase();
+    }
+
+    /**
+     * Guarda el SQL que Hibernate envía a la base de datos.
+     */
+    public static class CapturedSql implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String last() {
+            assertThat(STATEMENTS).as("SQL generado por Hibernate").isNotEmpty();
+            return STATEMENTS.get(STATEMENTS.size() - 1);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}